@@ -0,0 +1,87 @@
+package seedu.address.logic.commands;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.util.PersonExportFormat;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures exporting every person in an address book of {@code size} persons with {@link ExportCommand}, in each
+ * format.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ExportCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Path folder;
+    private Model model;
+    private Command exportCsv;
+    private Command exportVCard;
+
+    /**
+     * Builds a model of {@code size} synthetic persons and the commands that export it.
+     */
+    @Setup
+    public void setUp() throws IOException {
+        AddressBook addressBook = new SyntheticDataGenerator().withPersonCount(size).generate();
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        folder = Files.createTempDirectory("jmh");
+        exportCsv = new ExportCommand(folder.resolve("persons.csv"), PersonExportFormat.CSV,
+                ExportCommand.Scope.ALL);
+        exportVCard = new ExportCommand(folder.resolve("persons.vcf"), PersonExportFormat.VCARD,
+                ExportCommand.Scope.ALL);
+    }
+
+    /**
+     * Deletes the files written by the benchmark.
+     */
+    @TearDown
+    public void tearDown() throws IOException {
+        try (Stream<Path> files = Files.list(folder)) {
+            for (Path file : files.toList()) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(folder);
+    }
+
+    @Benchmark
+    public CommandResult exportCsv() throws CommandException {
+        return exportCsv.execute(model);
+    }
+
+    @Benchmark
+    public CommandResult exportVCard() throws CommandException {
+        return exportVCard.execute(model);
+    }
+}
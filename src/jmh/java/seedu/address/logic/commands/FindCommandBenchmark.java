@@ -0,0 +1,80 @@
+package seedu.address.logic.commands;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.AddressBookParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures filtering an address book of {@code size} persons with {@link FindCommand}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FindCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Model model;
+    private Command findByName;
+    private Command findByNamePrefix;
+    private Command findByNameFuzzy;
+    private Command findByTag;
+
+    /**
+     * Builds a model of {@code size} synthetic persons and the commands to run on it.
+     */
+    @Setup
+    public void setUp() throws ParseException {
+        AddressBook addressBook = new SyntheticDataGenerator().withPersonCount(size).generate();
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        AddressBookParser parser = new AddressBookParser();
+        findByName = parser.parseCommand("find n/Wei Tan");
+        findByNamePrefix = parser.parseCommand("find n/Ber m/prefix");
+        findByNameFuzzy = parser.parseCommand("find n/Bernise m/fuzzy");
+        findByTag = parser.parseCommand("find r/student t/math");
+    }
+
+    @Benchmark
+    public CommandResult findByName() throws CommandException {
+        return findByName.execute(model);
+    }
+
+    @Benchmark
+    public CommandResult findByNamePrefix() throws CommandException {
+        return findByNamePrefix.execute(model);
+    }
+
+    @Benchmark
+    public CommandResult findByNameFuzzy() throws CommandException {
+        return findByNameFuzzy.execute(model);
+    }
+
+    @Benchmark
+    public CommandResult findByTag() throws CommandException {
+        return findByTag.execute(model);
+    }
+}
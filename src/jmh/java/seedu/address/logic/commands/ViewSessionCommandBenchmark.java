@@ -0,0 +1,55 @@
+package seedu.address.logic.commands;
+
+import java.time.DayOfWeek;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures listing the sessions on one day of an address book of {@code size} persons with
+ * {@link ViewSessionCommand}.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ViewSessionCommandBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private Model model;
+    private final ViewSessionCommand viewMonday = new ViewSessionCommand(DayOfWeek.MONDAY);
+
+    /**
+     * Builds a model of {@code size} synthetic persons with weekly sessions.
+     */
+    @Setup
+    public void setUp() {
+        AddressBook addressBook = new SyntheticDataGenerator().withPersonCount(size).generate();
+        model = new ModelManager(addressBook, new UserPrefs());
+    }
+
+    @Benchmark
+    public CommandResult viewSession() {
+        return viewMonday.execute(model);
+    }
+}
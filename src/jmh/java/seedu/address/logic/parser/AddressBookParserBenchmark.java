@@ -0,0 +1,57 @@
+package seedu.address.logic.parser;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.logic.commands.Command;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Measures how long {@link AddressBookParser#parseCommand(String)} takes for typical commands.
+ * Parsing does not look at the address book, so unlike the other benchmarks this one is not run per book size.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookParserBenchmark {
+
+    private final AddressBookParser parser = new AddressBookParser();
+
+    @Benchmark
+    public Command add() throws ParseException {
+        return parser.parseCommand("add n/John Doe p/98765432 a/311, Clementi Ave 2, #02-25 r/student "
+                + "t/math t/science");
+    }
+
+    @Benchmark
+    public Command edit() throws ParseException {
+        return parser.parseCommand("edit 1 p/91234567 a/Block 123, Bukit Batok St 11");
+    }
+
+    @Benchmark
+    public Command find() throws ParseException {
+        return parser.parseCommand("find n/alice bernice r/student t/math physics");
+    }
+
+    @Benchmark
+    public Command addSession() throws ParseException {
+        return parser.parseCommand("addsession 1 d/Mon ti/12pm-1pm");
+    }
+
+    @Benchmark
+    public Command viewSession() throws ParseException {
+        return parser.parseCommand("viewsession d/Tuesday");
+    }
+}
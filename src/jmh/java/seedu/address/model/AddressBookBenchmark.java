@@ -0,0 +1,50 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+
+/**
+ * Measures replacing the data of an address book with a book of {@code size} persons, which checks every
+ * person for duplicates.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AddressBookBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private ReadOnlyAddressBook newData;
+
+    /**
+     * Builds a book of {@code size} synthetic persons to reset to.
+     */
+    @Setup
+    public void setUp() {
+        newData = new SyntheticDataGenerator().withPersonCount(size).generate();
+    }
+
+    @Benchmark
+    public AddressBook resetData() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.resetData(newData);
+        return addressBook;
+    }
+}
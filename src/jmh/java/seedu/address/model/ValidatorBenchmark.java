@@ -0,0 +1,136 @@
+package seedu.address.model;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Time;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Measures how many values per second each value-object validator checks.
+ * Each {@code legacy*} benchmark repeats the check the way it was done before the validators kept a precompiled
+ * pattern, by calling {@link String#matches(String)}, so the two can be compared in a single run.
+ *
+ * <p>Run with {@code ./gradlew jmh}.</p>
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ValidatorBenchmark {
+
+    private String name = "Alice Pauline";
+    private String phone = "94351253";
+    private String address = "123, Jurong West Ave 6, #08-111";
+    private String role = "student";
+    private String tag = "math";
+    private String day = "Thur";
+    private String time = "10:30am-12:15pm";
+
+    @Benchmark
+    public boolean name() {
+        return Name.isValidName(name);
+    }
+
+    @Benchmark
+    public boolean legacyName() {
+        return name.matches(Name.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean phone() {
+        return Phone.isValidPhone(phone);
+    }
+
+    @Benchmark
+    public boolean legacyPhone() {
+        return phone.matches(Phone.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean address() {
+        return Address.isValidAddress(address);
+    }
+
+    @Benchmark
+    public boolean legacyAddress() {
+        return address.matches(Address.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean role() {
+        return Role.isValidRole(role);
+    }
+
+    @Benchmark
+    public boolean legacyRole() {
+        return role.matches(Role.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean tag() {
+        return Tag.isValidTagName(tag);
+    }
+
+    @Benchmark
+    public boolean legacyTag() {
+        return tag.matches(Tag.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean day() {
+        return Day.isValidDay(day);
+    }
+
+    @Benchmark
+    public boolean legacyDay() {
+        return day.matches(Day.VALIDATION_REGEX);
+    }
+
+    @Benchmark
+    public boolean time() {
+        return Time.isValidTime(time);
+    }
+
+    @Benchmark
+    public boolean legacyTime() {
+        if (!time.matches(Time.VALIDATION_REGEX)) {
+            return false;
+        }
+        String[] timeParts = time.split("-");
+        return legacyToMinutes(timeParts[1]) > legacyToMinutes(timeParts[0]);
+    }
+
+    /**
+     * The conversion {@link Time} used before it had a hand-written parser.
+     */
+    private static int legacyToMinutes(String input) {
+        String time = input.toLowerCase();
+        boolean isPm = time.endsWith("pm");
+        String[] parts = time.replaceAll("(?i)(am|pm)", "").split(":");
+        int hour = Integer.parseInt(parts[0]);
+        int minute = parts.length == 2 ? Integer.parseInt(parts[1]) : 0;
+        if (hour == 12) {
+            hour = isPm ? 12 : 0;
+        } else if (isPm) {
+            hour += 12;
+        }
+        return hour * 60 + minute;
+    }
+}
@@ -0,0 +1,83 @@
+package seedu.address.model.person;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.StudentBuilder;
+
+/**
+ * Measures adding and replacing a person in a {@link UniquePersonList} that already holds {@code size} persons,
+ * and linking every student in it to their parent.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class UniquePersonListBenchmark {
+
+    @Param({"1000", "10000", "100000"})
+    private int size;
+
+    private UniquePersonList uniquePersonList;
+    private Person newPerson;
+    private Person currentPerson;
+    private Person otherPerson;
+
+    /**
+     * Fills the list with {@code size} synthetic persons.
+     */
+    @Setup
+    public void setUp() {
+        List<Person> persons = new SyntheticDataGenerator().withPersonCount(size).generatePersons();
+        uniquePersonList = new UniquePersonList();
+        uniquePersonList.setPersons(persons);
+
+        newPerson = new StudentBuilder().withName("Benchmark Person").build();
+        // The generator puts students after parents
+        currentPerson = persons.get(size - 1);
+        otherPerson = new StudentBuilder((Student) currentPerson).withPhone("99999999").build();
+    }
+
+    /**
+     * Adds a person, then removes it again so that every invocation sees a list of the same size.
+     */
+    @Benchmark
+    public void addAndRemove() {
+        uniquePersonList.add(newPerson);
+        uniquePersonList.remove(newPerson);
+    }
+
+    /**
+     * Replaces a person in the middle of the list with an edited copy, alternating between the two versions.
+     */
+    @Benchmark
+    public void setPerson() {
+        uniquePersonList.setPerson(currentPerson, otherPerson);
+        Person replaced = currentPerson;
+        currentPerson = otherPerson;
+        otherPerson = replaced;
+    }
+
+    /**
+     * Links every student to their parent. Linking is idempotent, so every invocation does the same lookups.
+     */
+    @Benchmark
+    public void resolveAllParentLinks() {
+        uniquePersonList.resolveAllParentLinks();
+    }
+}
@@ -0,0 +1,238 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.ReadOnlyUserPrefs;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.AddressBookStorage;
+import seedu.address.storage.BinaryAddressBookStorage;
+import seedu.address.storage.JournalAddressBookStorage;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.Storage;
+import seedu.address.storage.StorageManager;
+import seedu.address.storage.UserPrefsStorage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
+
+/**
+ * The config, storage, model and logic of the app, set up from the files on disk without any UI.
+ * The GUI and the headless runner both start from these, so they read and write the same data in the same way.
+ */
+public class AppComponents {
+
+    private static final Logger logger = LogsCenter.getLogger(AppComponents.class);
+
+    private final Config config;
+    private final Storage storage;
+    private final Model model;
+    private final Logic logic;
+
+    private AppComponents(Config config, Storage storage, Model model, Logic logic) {
+        this.config = config;
+        this.storage = storage;
+        this.model = model;
+        this.logic = logic;
+    }
+
+    /**
+     * Reads the config at {@code configFilePath}, or the default config file if it is null, sets up logging, and
+     * loads the user prefs and address book that the config points to.
+     * The sample address book is used if the data file does not exist or cannot be loaded.
+     */
+    public static AppComponents initialize(Path configFilePath) {
+        try {
+            return initialize(configFilePath, true);
+        } catch (DataLoadingException e) {
+            // Not thrown, as a data file that cannot be loaded is replaced by the sample address book
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Similar to {@link #initialize(Path)}, but fails instead of using the sample address book if the data file
+     * exists and cannot be loaded, so that the file is never replaced without anyone seeing the error.
+     *
+     * @throws DataLoadingException if the data file could not be loaded.
+     */
+    public static AppComponents initializeWithoutFallback(Path configFilePath) throws DataLoadingException {
+        return initialize(configFilePath, false);
+    }
+
+    private static AppComponents initialize(Path configFilePath, boolean isSampleDataFallback)
+            throws DataLoadingException {
+        Config config = initConfig(configFilePath);
+        LogsCenter.init(config);
+
+        UserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(config.getUserPrefsFilePath());
+        UserPrefs userPrefs = initPrefs(userPrefsStorage);
+        AddressBookStorage addressBookStorage = initAddressBookStorage(config, userPrefs);
+        Storage storage = new StorageManager(addressBookStorage, userPrefsStorage);
+
+        Model model = initModelManager(storage, userPrefs, isSampleDataFallback);
+
+        WriteBehindAddressBookSaver addressBookSaver = config.isWriteBehindSave()
+                ? new WriteBehindAddressBookSaver(storage, config.getSaveDelayMillis())
+                : null;
+        Logic logic = new LogicManager(model, storage, addressBookSaver);
+        return new AppComponents(config, storage, model, logic);
+    }
+
+    public Config getConfig() {
+        return config;
+    }
+
+    public Storage getStorage() {
+        return storage;
+    }
+
+    public Model getModel() {
+        return model;
+    }
+
+    public Logic getLogic() {
+        return logic;
+    }
+
+    /**
+     * Returns the {@code AddressBookStorage} for the data file format chosen in {@code userPrefs}.
+     * The json format is used if the chosen format is not recognised. Json files, including the snapshot of the
+     * journal format, are written compactly if {@code config} asks for it.
+     */
+    private static AddressBookStorage initAddressBookStorage(Config config, ReadOnlyUserPrefs userPrefs) {
+        Path addressBookFilePath = userPrefs.getAddressBookFilePath();
+        switch (userPrefs.getAddressBookStorageFormat()) {
+        case UserPrefs.STORAGE_FORMAT_JOURNAL:
+            return new JournalAddressBookStorage(addressBookFilePath,
+                    JournalAddressBookStorage.DEFAULT_COMPACTION_THRESHOLD, config.isCompactJson());
+        case UserPrefs.STORAGE_FORMAT_BINARY:
+            // Kept in a file of its own, which imports the json data file until the first save creates it
+            return new BinaryAddressBookStorage(BinaryAddressBookStorage.getBinaryFilePath(addressBookFilePath),
+                    addressBookFilePath);
+        case UserPrefs.STORAGE_FORMAT_JSON:
+            return new JsonAddressBookStorage(addressBookFilePath, config.isCompactJson());
+        default:
+            logger.warning("Unknown data file format " + userPrefs.getAddressBookStorageFormat()
+                    + ". Using " + UserPrefs.STORAGE_FORMAT_JSON + " instead.");
+            return new JsonAddressBookStorage(addressBookFilePath, config.isCompactJson());
+        }
+    }
+
+    /**
+     * Returns a {@code ModelManager} with the data from {@code storage}'s address book and {@code userPrefs}. <br>
+     * The data from the sample address book will be used instead if {@code storage}'s address book is not found,
+     * or, if {@code isSampleDataFallback} is true, if errors occur when reading {@code storage}'s address book.
+     *
+     * @throws DataLoadingException if {@code storage}'s address book could not be read and
+     *     {@code isSampleDataFallback} is false.
+     */
+    private static Model initModelManager(Storage storage, ReadOnlyUserPrefs userPrefs,
+            boolean isSampleDataFallback) throws DataLoadingException {
+        logger.info("Using data file : " + storage.getAddressBookFilePath());
+
+        Optional<ReadOnlyAddressBook> addressBookOptional;
+        ReadOnlyAddressBook initialData;
+        try {
+            addressBookOptional = storage.readAddressBook();
+            if (!addressBookOptional.isPresent()) {
+                logger.info("Creating a new data file " + storage.getAddressBookFilePath()
+                        + " populated with a sample AddressBook.");
+            }
+            initialData = addressBookOptional.orElseGet(SampleDataUtil::getSampleAddressBook);
+        } catch (DataLoadingException e) {
+            if (!isSampleDataFallback) {
+                logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded.");
+                throw e;
+            }
+            logger.warning("Data file at " + storage.getAddressBookFilePath() + " could not be loaded."
+                    + " Will be starting with an sample AddressBook.");
+            initialData = SampleDataUtil.getSampleAddressBook();
+        }
+
+        return new ModelManager(initialData, userPrefs);
+    }
+
+    /**
+     * Returns a {@code Config} using the file at {@code configFilePath}. <br>
+     * The default file path {@code Config#DEFAULT_CONFIG_FILE} will be used instead
+     * if {@code configFilePath} is null.
+     */
+    private static Config initConfig(Path configFilePath) {
+        Config initializedConfig;
+        Path configFilePathUsed;
+
+        configFilePathUsed = Config.DEFAULT_CONFIG_FILE;
+
+        if (configFilePath != null) {
+            logger.info("Custom Config file specified " + configFilePath);
+            configFilePathUsed = configFilePath;
+        }
+
+        logger.info("Using config file : " + configFilePathUsed);
+
+        try {
+            Optional<Config> configOptional = ConfigUtil.readConfig(configFilePathUsed);
+            if (!configOptional.isPresent()) {
+                logger.info("Creating new config file " + configFilePathUsed);
+            }
+            initializedConfig = configOptional.orElse(new Config());
+        } catch (DataLoadingException e) {
+            logger.warning("Config file at " + configFilePathUsed + " could not be loaded."
+                    + " Using default config properties.");
+            initializedConfig = new Config();
+        }
+
+        //Update config file in case it was missing to begin with or there are new/unused fields
+        try {
+            ConfigUtil.saveConfig(initializedConfig, configFilePathUsed);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+        return initializedConfig;
+    }
+
+    /**
+     * Returns a {@code UserPrefs} using the file at {@code storage}'s user prefs file path,
+     * or a new {@code UserPrefs} with default configuration if errors occur when
+     * reading from the file.
+     */
+    private static UserPrefs initPrefs(UserPrefsStorage storage) {
+        Path prefsFilePath = storage.getUserPrefsFilePath();
+        logger.info("Using preference file : " + prefsFilePath);
+
+        UserPrefs initializedPrefs;
+        try {
+            Optional<UserPrefs> prefsOptional = storage.readUserPrefs();
+            if (!prefsOptional.isPresent()) {
+                logger.info("Creating new preference file " + prefsFilePath);
+            }
+            initializedPrefs = prefsOptional.orElse(new UserPrefs());
+        } catch (DataLoadingException e) {
+            logger.warning("Preference file at " + prefsFilePath + " could not be loaded."
+                    + " Using default preferences.");
+            initializedPrefs = new UserPrefs();
+        }
+
+        //Update prefs file in case it was missing to begin with or there are new/unused fields
+        try {
+            storage.saveUserPrefs(initializedPrefs);
+        } catch (IOException e) {
+            logger.warning("Failed to save config file : " + StringUtil.getDetails(e));
+        }
+
+        return initializedPrefs;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * Writes a synthetic address book to a json data file, so that production-sized files can be reproduced locally.
+ *
+ * <p>Usage: {@code DataGenerator PERSON_COUNT [SEED] [FILE]}. The file defaults to the app's default data file.</p>
+ */
+public class DataGenerator {
+
+    public static final String MESSAGE_USAGE = "Usage: DataGenerator PERSON_COUNT [SEED] [FILE]";
+
+    public static void main(String[] args) {
+        if (args.length < 1 || args.length > 3) {
+            System.err.println(MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        SyntheticDataGenerator generator = new SyntheticDataGenerator();
+        Path filePath = new UserPrefs().getAddressBookFilePath();
+        try {
+            generator.withPersonCount(Integer.parseInt(args[0]));
+            if (args.length > 1) {
+                generator.withSeed(Long.parseLong(args[1]));
+            }
+            if (args.length > 2) {
+                filePath = Paths.get(args[2]);
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage() + "\n" + MESSAGE_USAGE);
+            System.exit(1);
+        }
+
+        AddressBook addressBook = generator.generate();
+        try {
+            new JsonAddressBookStorage(filePath).saveAddressBook(addressBook);
+        } catch (IOException e) {
+            System.err.println("Could not write " + filePath + ": " + e.getMessage());
+            System.exit(1);
+        }
+        System.out.println("Wrote " + addressBook.getPersonList().size() + " persons to " + filePath);
+    }
+}
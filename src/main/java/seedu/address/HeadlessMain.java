@@ -0,0 +1,121 @@
+package seedu.address;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.Logic;
+import seedu.address.logic.commands.CommandResult;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Runs commands against the app's data file without starting the GUI, so that scheduled jobs can use the app
+ * without a display.
+ *
+ * <p>Usage: {@code HeadlessMain [--config=CONFIG_FILE] [SCRIPT_FILE]}. Commands are read one per line from the
+ * script file, or from standard input if no file is given. Blank lines and lines starting with {@code #} are
+ * skipped. The result of each command is printed to standard output and errors to standard error. The run stops
+ * at the first command that fails, or at an {@code exit} command.</p>
+ */
+public class HeadlessMain {
+
+    public static final String MESSAGE_USAGE = "Usage: HeadlessMain [--config=CONFIG_FILE] [SCRIPT_FILE]";
+
+    public static final int EXIT_SUCCESS = 0;
+    public static final int EXIT_COMMAND_FAILED = 1;
+    public static final int EXIT_USAGE = 2;
+    public static final int EXIT_DATA_LOADING_FAILED = 3;
+
+    private static final String CONFIG_OPTION = "--config=";
+    private static final String COMMENT_START = "#";
+
+    public static void main(String[] args) {
+        Path configFilePath = null;
+        Path scriptFilePath = null;
+        try {
+            for (String arg : args) {
+                if (arg.startsWith(CONFIG_OPTION)) {
+                    configFilePath = Paths.get(arg.substring(CONFIG_OPTION.length()));
+                } else if (scriptFilePath == null && !arg.startsWith("-")) {
+                    scriptFilePath = Paths.get(arg);
+                } else {
+                    throw new IllegalArgumentException("Unexpected argument " + arg);
+                }
+            }
+        } catch (IllegalArgumentException e) {
+            System.err.println(e.getMessage() + "\n" + MESSAGE_USAGE);
+            System.exit(EXIT_USAGE);
+        }
+
+        // Unlike the GUI, there is no one to notice sample data in place of a data file that could not be loaded
+        Logic logic = null;
+        try {
+            logic = AppComponents.initializeWithoutFallback(configFilePath).getLogic();
+        } catch (DataLoadingException e) {
+            System.err.println("Could not load the data file: " + StringUtil.getDetails(e));
+            System.exit(EXIT_DATA_LOADING_FAILED);
+        }
+        logic.setSaveStatusHandler(saveError -> saveError.ifPresent(System.err::println));
+        int exitCode = EXIT_COMMAND_FAILED;
+        try (BufferedReader commands = scriptFilePath == null
+                ? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+                : Files.newBufferedReader(scriptFilePath)) {
+            exitCode = runCommands(logic, commands, System.out, System.err);
+        } catch (IOException e) {
+            System.err.println("Could not read commands: " + StringUtil.getDetails(e));
+            exitCode = EXIT_USAGE;
+        } finally {
+            // Save the changes of the commands that did run, however the run ended
+            try {
+                logic.flushAddressBook();
+            } catch (IOException e) {
+                System.err.println("Could not save the address book: " + StringUtil.getDetails(e));
+                exitCode = EXIT_COMMAND_FAILED;
+            }
+        }
+        System.exit(exitCode);
+    }
+
+    /**
+     * Runs each command read from {@code commands} with {@code logic}, printing results to {@code out} and errors to
+     * {@code err}, until the input ends, a command fails or a command asks the app to exit. An unexpected error in a
+     * command counts as a failure.
+     *
+     * @return {@link #EXIT_SUCCESS} if no command failed, or {@link #EXIT_COMMAND_FAILED} otherwise.
+     * @throws IOException if {@code commands} could not be read.
+     */
+    static int runCommands(Logic logic, BufferedReader commands, PrintStream out, PrintStream err)
+            throws IOException {
+        String line;
+        while ((line = commands.readLine()) != null) {
+            String commandText = line.strip();
+            if (commandText.isEmpty() || commandText.startsWith(COMMENT_START)) {
+                continue;
+            }
+
+            CommandResult commandResult;
+            try {
+                commandResult = logic.execute(commandText);
+            } catch (CommandException | ParseException e) {
+                err.println(commandText + ": " + e.getMessage());
+                return EXIT_COMMAND_FAILED;
+            } catch (RuntimeException e) {
+                err.println(commandText + ": Unexpected error " + StringUtil.getDetails(e));
+                return EXIT_COMMAND_FAILED;
+            }
+            out.println(commandResult.getFeedbackToUser());
+            if (commandResult.isExit()) {
+                break;
+            }
+        }
+        return EXIT_SUCCESS;
+    }
+}
@@ -17,6 +17,9 @@ public class Config {
     // Config values customizable through config file
     private Level logLevel = Level.INFO;
     private Path userPrefsFilePath = Paths.get("preferences.json");
+    private boolean writeBehindSave = true;
+    private long saveDelayMillis = 200;
+    private boolean compactJson = false;
 
     public Level getLogLevel() {
         return logLevel;
@@ -34,6 +37,37 @@ public class Config {
         this.userPrefsFilePath = userPrefsFilePath;
     }
 
+    /**
+     * Returns true if the address book should be saved on a background thread,
+     * coalescing changes made within {@link #getSaveDelayMillis()} of each other.
+     */
+    public boolean isWriteBehindSave() {
+        return writeBehindSave;
+    }
+
+    public void setWriteBehindSave(boolean writeBehindSave) {
+        this.writeBehindSave = writeBehindSave;
+    }
+
+    public long getSaveDelayMillis() {
+        return saveDelayMillis;
+    }
+
+    public void setSaveDelayMillis(long saveDelayMillis) {
+        this.saveDelayMillis = saveDelayMillis;
+    }
+
+    /**
+     * Returns true if the address book json file should be written without indentation or line breaks.
+     */
+    public boolean isCompactJson() {
+        return compactJson;
+    }
+
+    public void setCompactJson(boolean compactJson) {
+        this.compactJson = compactJson;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -47,12 +81,15 @@ public class Config {
 
         Config otherConfig = (Config) other;
         return Objects.equals(logLevel, otherConfig.logLevel)
-                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath);
+                && Objects.equals(userPrefsFilePath, otherConfig.userPrefsFilePath)
+                && writeBehindSave == otherConfig.writeBehindSave
+                && saveDelayMillis == otherConfig.saveDelayMillis
+                && compactJson == otherConfig.compactJson;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(logLevel, userPrefsFilePath);
+        return Objects.hash(logLevel, userPrefsFilePath, writeBehindSave, saveDelayMillis, compactJson);
     }
 
     @Override
@@ -60,6 +97,9 @@ public class Config {
         return new ToStringBuilder(this)
                 .add("logLevel", logLevel)
                 .add("userPrefsFilePath", userPrefsFilePath)
+                .add("writeBehindSave", writeBehindSave)
+                .add("saveDelayMillis", saveDelayMillis)
+                .add("compactJson", compactJson)
                 .toString();
     }
 
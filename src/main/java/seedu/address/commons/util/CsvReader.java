@@ -0,0 +1,113 @@
+package seedu.address.commons.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedReader;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Reads comma-separated values one record at a time, as written by spreadsheet programs (RFC 4180).
+ * Fields may be quoted with {@code "}, in which case they can hold commas, line breaks and {@code ""} for a quote.
+ * Records may end with either {@code \n} or {@code \r\n}, and a byte order mark at the start is skipped.
+ */
+public class CsvReader implements Closeable {
+
+    private static final char BYTE_ORDER_MARK = '\uFEFF';
+    private static final int END_OF_INPUT = -1;
+
+    private final BufferedReader reader;
+    private int lineNumber = 1;
+    private int recordLineNumber;
+    private boolean isStarted;
+
+    /**
+     * Creates a CsvReader that reads records from {@code reader}.
+     */
+    public CsvReader(Reader reader) {
+        requireNonNull(reader);
+        this.reader = reader instanceof BufferedReader bufferedReader ? bufferedReader : new BufferedReader(reader);
+    }
+
+    /**
+     * Returns the fields of the next record, or null if there are no more records.
+     * A blank line is read as a record with one empty field.
+     *
+     * @throws IOException if the input could not be read, or ends inside a quoted field.
+     */
+    public List<String> readRecord() throws IOException {
+        int c = reader.read();
+        if (!isStarted) {
+            isStarted = true;
+            if (c == BYTE_ORDER_MARK) {
+                c = reader.read();
+            }
+        }
+        if (c == END_OF_INPUT) {
+            return null;
+        }
+
+        recordLineNumber = lineNumber;
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean isQuoted = false;
+        boolean isInQuotes = false;
+        while (true) {
+            if (isInQuotes) {
+                if (c == END_OF_INPUT) {
+                    throw new IOException("Line " + recordLineNumber + " has a quoted field that is never closed");
+                } else if (c == '"') {
+                    c = reader.read();
+                    if (c != '"') {
+                        isInQuotes = false;
+                        continue;
+                    }
+                } else if (c == '\n') {
+                    lineNumber++;
+                }
+                field.append((char) c);
+            } else if (c == '"' && !isQuoted && field.length() == 0) {
+                isQuoted = true;
+                isInQuotes = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+                isQuoted = false;
+            } else if (c == END_OF_INPUT || c == '\n' || (c == '\r' && isNextLineFeed())) {
+                if (c == '\r') {
+                    reader.read();
+                }
+                if (c != END_OF_INPUT) {
+                    lineNumber++;
+                }
+                fields.add(field.toString());
+                return fields;
+            } else {
+                field.append((char) c);
+            }
+            c = reader.read();
+        }
+    }
+
+    /**
+     * Returns the line that the record last returned by {@link #readRecord()} started on, counting from 1.
+     */
+    public int getLineNumber() {
+        return recordLineNumber;
+    }
+
+    @Override
+    public void close() throws IOException {
+        reader.close();
+    }
+
+    private boolean isNextLineFeed() throws IOException {
+        reader.mark(1);
+        boolean isLineFeed = reader.read() == '\n';
+        reader.reset();
+        return isLineFeed;
+    }
+}
@@ -38,6 +38,49 @@ public class StringUtil {
                 .anyMatch(preppedWord::equalsIgnoreCase);
     }
 
+    /**
+     * Returns true if {@code first} can be turned into {@code second} with at most {@code maxEdits} single-character
+     * insertions, deletions or substitutions. Case sensitive.
+     *   <br>examples:<pre>
+     *       isWithinEditDistance("bernice", "bernise", 1) == true
+     *       isWithinEditDistance("bernice", "brnice", 1) == true
+     *       isWithinEditDistance("bernice", "brnise", 1) == false
+     *       </pre>
+     * @param maxEdits cannot be negative
+     */
+    public static boolean isWithinEditDistance(String first, String second, int maxEdits) {
+        requireNonNull(first);
+        requireNonNull(second);
+        checkArgument(maxEdits >= 0, "Maximum edits cannot be negative");
+
+        if (Math.abs(first.length() - second.length()) > maxEdits) {
+            return false;
+        }
+
+        // Levenshtein distance keeping two rows, stopping once every entry in a row exceeds maxEdits
+        int[] previous = new int[second.length() + 1];
+        int[] current = new int[second.length() + 1];
+        for (int j = 0; j <= second.length(); j++) {
+            previous[j] = j;
+        }
+        for (int i = 1; i <= first.length(); i++) {
+            current[0] = i;
+            int rowMin = current[0];
+            for (int j = 1; j <= second.length(); j++) {
+                int substitution = previous[j - 1] + (first.charAt(i - 1) == second.charAt(j - 1) ? 0 : 1);
+                current[j] = Math.min(substitution, Math.min(previous[j], current[j - 1]) + 1);
+                rowMin = Math.min(rowMin, current[j]);
+            }
+            if (rowMin > maxEdits) {
+                return false;
+            }
+            int[] swap = previous;
+            previous = current;
+            current = swap;
+        }
+        return previous[second.length()] <= maxEdits;
+    }
+
     /**
      * Returns a detailed message of the t, including the stack trace.
      */
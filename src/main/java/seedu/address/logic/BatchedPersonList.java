@@ -0,0 +1,65 @@
+package seedu.address.logic;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.concurrent.atomic.AtomicReference;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import seedu.address.model.person.Person;
+
+/**
+ * A copy of a list of persons that is only changed through a given executor, such as the JavaFX Application Thread,
+ * so that it can be shown while commands change the original list on another thread.
+ * The copy catches up with the original in a single change each time it is published, and publishes made before
+ * the executor gets round to the previous one are combined into one.
+ */
+class BatchedPersonList {
+
+    private final ObservableList<Person> source;
+    private final Executor executor;
+    private final ObservableList<Person> copy;
+    private final ObservableList<Person> unmodifiableCopy;
+
+    // The latest contents of the source not yet copied, or null if the copy is up to date or about to be
+    private final AtomicReference<List<Person>> pendingSnapshot = new AtomicReference<>();
+    private volatile boolean isChanged;
+
+    /**
+     * Creates a copy of {@code source} that is changed only by tasks run on {@code executor}.
+     */
+    BatchedPersonList(ObservableList<Person> source, Executor executor) {
+        this.source = source;
+        this.executor = executor;
+        copy = FXCollections.observableArrayList(source);
+        unmodifiableCopy = FXCollections.unmodifiableObservableList(copy);
+        source.addListener((ListChangeListener<Person>) change -> isChanged = true);
+    }
+
+    /**
+     * Returns the copy as an unmodifiable {@code ObservableList}.
+     */
+    ObservableList<Person> asUnmodifiableObservableList() {
+        return unmodifiableCopy;
+    }
+
+    /**
+     * Sends the contents of the source to the copy if the source has changed since the last publish.
+     * Must be called on the thread that changes the source, when it is not in the middle of a change.
+     */
+    void publish() {
+        if (!isChanged) {
+            return;
+        }
+        isChanged = false;
+        if (pendingSnapshot.getAndSet(new ArrayList<>(source)) == null) {
+            executor.execute(this::applyPendingSnapshot);
+        }
+    }
+
+    private void applyPendingSnapshot() {
+        copy.setAll(pendingSnapshot.getAndSet(null));
+    }
+}
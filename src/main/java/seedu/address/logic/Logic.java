@@ -1,6 +1,11 @@
 package seedu.address.logic;
 
+import java.io.IOException;
 import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.Executor;
+import java.util.function.Consumer;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
@@ -23,6 +28,29 @@ public interface Logic {
      */
     CommandResult execute(String commandText) throws CommandException, ParseException;
 
+    /**
+     * Executes the command on the command thread, after any commands already sent there, without blocking.
+     * The returned future completes on the command thread, with the result or with the {@code CommandException}
+     * or {@code ParseException} that {@link #execute(String)} would have thrown.
+     * @param commandText The command as entered by the user.
+     */
+    CompletableFuture<CommandResult> executeAsync(String commandText);
+
+    /**
+     * Sets the handler told the outcome of each address book save made in the background after a command has
+     * returned: the error message if the save failed, or an empty {@code Optional} once a save succeeds.
+     * The handler is called on the thread that saved. A save made before a command returns reports its failure
+     * by {@link #execute(String)} throwing instead.
+     */
+    void setSaveStatusHandler(Consumer<Optional<String>> handler);
+
+    /**
+     * Finishes the commands sent to the command thread, then writes any address book changes that have not been
+     * saved yet and blocks until they are on disk.
+     * @throws IOException if the address book could not be saved.
+     */
+    void flushAddressBook() throws IOException;
+
     /**
      * Returns the AddressBook.
      *
@@ -33,6 +61,13 @@ public interface Logic {
     /** Returns an unmodifiable view of the filtered list of persons */
     ObservableList<Person> getFilteredPersonList();
 
+    /**
+     * Returns an unmodifiable copy of the filtered list of persons that only changes in tasks run on
+     * {@code uiExecutor}, for showing while commands run on the command thread.
+     * The copy is brought up to date in one change after each command that changed the filtered list.
+     */
+    ObservableList<Person> getFilteredPersonList(Executor uiExecutor);
+
     /**
      * Returns the user prefs' address book file path.
      */
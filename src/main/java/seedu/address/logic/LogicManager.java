@@ -1,8 +1,19 @@
 package seedu.address.logic;
 
+import static java.util.Objects.requireNonNull;
+
 import java.io.IOException;
 import java.nio.file.AccessDeniedException;
 import java.nio.file.Path;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
 import java.util.logging.Logger;
 
 import javafx.collections.ObservableList;
@@ -17,6 +28,7 @@ import seedu.address.model.Model;
 import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.person.Person;
 import seedu.address.storage.Storage;
+import seedu.address.storage.WriteBehindAddressBookSaver;
 
 /**
  * The main LogicManager of the app.
@@ -32,35 +44,128 @@ public class LogicManager implements Logic {
     private final Model model;
     private final Storage storage;
     private final AddressBookParser addressBookParser;
+    private final WriteBehindAddressBookSaver addressBookSaver;
+    // Runs the commands sent through executeAsync one at a time, in order, so they never change the model at once.
+    // Created on the first executeAsync, since the headless runner and tests only ever call execute.
+    private ExecutorService commandExecutor;
+    private final List<BatchedPersonList> batchedPersonLists = new CopyOnWriteArrayList<>();
+    private volatile Consumer<Optional<String>> saveStatusHandler = status -> {};
 
     /**
-     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}.
+     * Constructs a {@code LogicManager} with the given {@code Model} and {@code Storage}
+     * that saves the address book synchronously after every mutating command.
      */
     public LogicManager(Model model, Storage storage) {
+        this(model, storage, null);
+    }
+
+    /**
+     * Constructs a {@code LogicManager} that hands saves to {@code addressBookSaver} instead of
+     * writing them on the calling thread. A null {@code addressBookSaver} saves synchronously.
+     */
+    public LogicManager(Model model, Storage storage, WriteBehindAddressBookSaver addressBookSaver) {
         this.model = model;
         this.storage = storage;
+        this.addressBookSaver = addressBookSaver;
+        if (addressBookSaver != null) {
+            addressBookSaver.setSaveListener(failure ->
+                    saveStatusHandler.accept(failure.map(ioe -> toCommandException(ioe).getMessage())));
+        }
         addressBookParser = new AddressBookParser();
     }
 
     @Override
     public CommandResult execute(String commandText) throws CommandException, ParseException {
+        try {
+            return executeAndSave(commandText);
+        } finally {
+            batchedPersonLists.forEach(BatchedPersonList::publish);
+        }
+    }
+
+    @Override
+    public CompletableFuture<CommandResult> executeAsync(String commandText) {
+        CompletableFuture<CommandResult> result = new CompletableFuture<>();
+        getCommandExecutor().execute(() -> {
+            try {
+                result.complete(execute(commandText));
+            } catch (CommandException | ParseException | RuntimeException e) {
+                result.completeExceptionally(e);
+            }
+        });
+        return result;
+    }
+
+    private synchronized ExecutorService getCommandExecutor() {
+        if (commandExecutor == null) {
+            commandExecutor = Executors.newSingleThreadExecutor(runnable -> {
+                Thread thread = new Thread(runnable, "command-executor");
+                thread.setDaemon(true);
+                return thread;
+            });
+        }
+        return commandExecutor;
+    }
+
+    private CommandResult executeAndSave(String commandText) throws CommandException, ParseException {
         logger.info("----------------[USER COMMAND][" + commandText + "]");
 
         CommandResult commandResult;
         Command command = addressBookParser.parseCommand(commandText);
         commandResult = command.execute(model);
 
+        if (!command.isMutating()) {
+            return commandResult;
+        }
+
+        if (addressBookSaver != null) {
+            // The command has succeeded, so a failure of this save is reported through the save status handler
+            addressBookSaver.requestSave(model.getAddressBook());
+            return commandResult;
+        }
+
         try {
             storage.saveAddressBook(model.getAddressBook());
-        } catch (AccessDeniedException e) {
-            throw new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, e.getMessage()), e);
         } catch (IOException ioe) {
-            throw new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+            throw toCommandException(ioe);
         }
 
         return commandResult;
     }
 
+    @Override
+    public void setSaveStatusHandler(Consumer<Optional<String>> handler) {
+        requireNonNull(handler);
+        saveStatusHandler = handler;
+    }
+
+    @Override
+    public void flushAddressBook() throws IOException {
+        ExecutorService executor;
+        synchronized (this) {
+            executor = commandExecutor;
+        }
+        if (executor != null) {
+            executor.shutdown();
+            try {
+                executor.awaitTermination(Long.MAX_VALUE, TimeUnit.MILLISECONDS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new IOException("Interrupted while finishing commands", e);
+            }
+        }
+        if (addressBookSaver != null) {
+            addressBookSaver.shutdown();
+        }
+    }
+
+    private static CommandException toCommandException(IOException ioe) {
+        if (ioe instanceof AccessDeniedException) {
+            return new CommandException(String.format(FILE_OPS_PERMISSION_ERROR_FORMAT, ioe.getMessage()), ioe);
+        }
+        return new CommandException(String.format(FILE_OPS_ERROR_FORMAT, ioe.getMessage()), ioe);
+    }
+
     @Override
     public ReadOnlyAddressBook getAddressBook() {
         return model.getAddressBook();
@@ -71,6 +176,13 @@ public class LogicManager implements Logic {
         return model.getFilteredPersonList();
     }
 
+    @Override
+    public ObservableList<Person> getFilteredPersonList(Executor uiExecutor) {
+        BatchedPersonList batchedPersonList = new BatchedPersonList(model.getFilteredPersonList(), uiExecutor);
+        batchedPersonLists.add(batchedPersonList);
+        return batchedPersonList.asUnmodifiableObservableList();
+    }
+
     @Override
     public Path getAddressBookFilePath() {
         return model.getAddressBookFilePath();
@@ -24,6 +24,7 @@ public class Messages {
     public static final String MESSAGE_ONLY_STUDENT_COMMAND = "This is a command for students only";
     public static final String MESSAGE_NO_TAGS_FOR_PARENT = "Parents are NOT allowed to have tags!";
     public static final String MESSAGE_NO_PARENT_FOR_PARENT = "Parents are NOT allowed to have parents!";
+    public static final String MESSAGE_NO_SESSIONS_FOR_PARENT = "Parents are NOT allowed to have sessions!";
 
     /**
      * Returns an error message indicating the duplicate prefixes.
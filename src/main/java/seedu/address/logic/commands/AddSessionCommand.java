@@ -5,18 +5,18 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.logic.Messages;
 import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
 import seedu.address.model.person.Day;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Session;
+import seedu.address.model.person.SessionSet;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Time;
 
@@ -40,6 +40,8 @@ public class AddSessionCommand extends Command {
     public static final String MESSAGE_SUCCESS = "New session added for %1$s";
     public static final String MESSAGE_DUPLICATE_SESSION = "This session already exists for the person";
     public static final String MESSAGE_OVERLAPPING_SESSION = "This session overlaps with another existing session.";
+    public static final String MESSAGE_OVER_CAPACITY = "The centre already runs %1$d sessions at the same time as "
+            + "this session, which is its capacity";
 
     private Index index;
     private final Day day;
@@ -79,6 +81,7 @@ public class AddSessionCommand extends Command {
         Person personToEdit = lastShownList.get(index.getZeroBased());
         if (personToEdit instanceof Student student) {
             Person personUpdated = toCopy((Student) personToEdit, day, time);
+            requireFreeCapacity(model, student, day, time);
             model.setPerson(personToEdit, personUpdated);
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
             return new CommandResult(String.format(MESSAGE_SUCCESS, personToEdit.getName()));
@@ -102,19 +105,13 @@ public class AddSessionCommand extends Command {
         // create new session
         Session newSession = new Session(day, time);
 
-        // add session to person's existing sessions
-        Set<Session> updatedSessions = new HashSet<>(personToEdit.getSessions());
-        if (updatedSessions.contains(newSession)) {
+        SessionSet sessions = personToEdit.getSessions();
+        if (sessions.contains(newSession)) {
             throw new CommandException(MESSAGE_DUPLICATE_SESSION);
         }
-
-        // check for duplicate sessions
-        for (Session existingSession : personToEdit.getSessions()) {
-            if (existingSession.isOverlap(newSession)) {
-                throw new CommandException(MESSAGE_OVERLAPPING_SESSION);
-            }
+        if (sessions.overlapsAny(newSession)) {
+            throw new CommandException(MESSAGE_OVERLAPPING_SESSION);
         }
-        updatedSessions.add(newSession);
 
         return new Student(
                 personToEdit.getName(),
@@ -122,10 +119,28 @@ public class AddSessionCommand extends Command {
                 personToEdit.getAddress(),
                 personToEdit.getRemark(),
                 personToEdit.getTags(),
-                updatedSessions
+                sessions.with(newSession)
         );
     }
 
+    /**
+     * Checks that the centre can run a session at {@code time} on {@code day} for {@code student}, given the
+     * sessions of all other students and the session capacity in the user prefs.
+     *
+     * @throws CommandException if as many sessions as the capacity already run at some point during the session
+     */
+    static void requireFreeCapacity(Model model, Student student, Day day, Time time) throws CommandException {
+        int capacity = model.getUserPrefs().getSessionCapacity();
+        if (capacity == UserPrefs.NO_SESSION_CAPACITY) {
+            return;
+        }
+        int peakLoad = model.getSessionTimetable().getPeakLoad(day.toDayOfWeek(), time.getStartMinutes(),
+                time.getEndMinutes(), student);
+        if (peakLoad >= capacity) {
+            throw new CommandException(String.format(MESSAGE_OVER_CAPACITY, peakLoad));
+        }
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
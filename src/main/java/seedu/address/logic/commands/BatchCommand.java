@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+
+/**
+ * Runs the commands of a script file as one change to the address book: either every command succeeds and the
+ * address book is replaced and saved once, or the first failure is reported and nothing changes.
+ */
+public class BatchCommand extends Command {
+    public static final String COMMAND_WORD = "batch";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Runs the commands in a script file, one per line, "
+            + "as a single change. If any command fails, none of them take effect.\n"
+            + "Blank lines and lines starting with # are skipped. Indexes refer to the full list of persons, "
+            + "unless an earlier line in the script changes it.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/intake.txt";
+
+    public static final String MESSAGE_SUCCESS = "Ran %1$d commands from %2$s";
+    public static final String MESSAGE_COMMAND_FAILED = "Line %1$d (%2$s) failed: %3$s\nNo changes were made.";
+
+    private final Path scriptPath;
+    private final List<ScriptCommand> commands;
+
+    /**
+     * Creates a BatchCommand to run {@code commands}, read from the script at {@code scriptPath}.
+     */
+    public BatchCommand(Path scriptPath, List<ScriptCommand> commands) {
+        requireAllNonNull(scriptPath, commands);
+        this.scriptPath = scriptPath;
+        this.commands = List.copyOf(commands);
+    }
+
+    @Override
+    public boolean isMutating() {
+        return commands.stream().anyMatch(scriptCommand -> scriptCommand.command().isMutating());
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // The commands run on a model of their own, so the persons shown by the app only change once, at the end
+        Model workingModel = new ModelManager(AddressBook.detachedCopyOf(model.getAddressBook()),
+                model.getUserPrefs());
+        for (ScriptCommand scriptCommand : commands) {
+            try {
+                scriptCommand.command().execute(workingModel);
+            } catch (CommandException e) {
+                throw new CommandException(String.format(MESSAGE_COMMAND_FAILED, scriptCommand.lineNumber(),
+                        scriptCommand.commandText(), e.getMessage()), e);
+            }
+        }
+
+        if (isMutating()) {
+            model.setAddressBook(workingModel.getAddressBook());
+        }
+        model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        return new CommandResult(String.format(MESSAGE_SUCCESS, commands.size(), scriptPath));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof BatchCommand)) {
+            return false;
+        }
+
+        BatchCommand otherBatchCommand = (BatchCommand) other;
+        return scriptPath.equals(otherBatchCommand.scriptPath) && commands.equals(otherBatchCommand.commands);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("scriptPath", scriptPath)
+                .add("commands", commands)
+                .toString();
+    }
+
+    /**
+     * A command read from line {@code lineNumber} of a script, as {@code commandText}.
+     */
+    public record ScriptCommand(int lineNumber, String commandText, Command command) {
+    }
+}
@@ -17,4 +17,12 @@ public abstract class Command {
      */
     public abstract CommandResult execute(Model model) throws CommandException;
 
+    /**
+     * Returns true if executing this command may change the address book, so that the address book
+     * only needs to be saved after such commands. Commands that never change it override this to return false.
+     */
+    public boolean isMutating() {
+        return true;
+    }
+
 }
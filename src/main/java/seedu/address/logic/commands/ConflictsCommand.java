@@ -0,0 +1,101 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Set;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.SessionTimetable;
+import seedu.address.model.person.Time;
+import seedu.address.model.session.IntervalTree.Interval;
+
+/**
+ * Lists the students with sessions overlapping a time on a day, across the whole centre.
+ */
+public class ConflictsCommand extends Command {
+    public static final String COMMAND_WORD = "conflicts";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the students with sessions that overlap "
+            + "the given time on the given day.\n"
+            + "Parameters: "
+            + PREFIX_DAY + "DAY "
+            + PREFIX_TIME + "TIME\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_DAY + "Tue "
+            + PREFIX_TIME + "3pm-5pm";
+
+    public static final String MESSAGE_SUCCESS = "%1$d sessions overlap %2$s on %3$s";
+    public static final String MESSAGE_OVER_CAPACITY = "\nUp to %1$d of them run at once, over the capacity of %2$d";
+
+    private final Day day;
+    private final Time time;
+
+    /**
+     * Creates a ConflictsCommand to list the sessions overlapping {@code time} on {@code day}.
+     */
+    public ConflictsCommand(Day day, Time time) {
+        requireAllNonNull(day, time);
+        this.day = day;
+        this.time = time;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        DayOfWeek dayOfWeek = day.toDayOfWeek();
+        SessionTimetable timetable = model.getSessionTimetable();
+        List<Interval<Person>> sessions = timetable.getSessionsOverlapping(dayOfWeek,
+                time.getStartMinutes(), time.getEndMinutes());
+
+        Set<Person> students = PersonSearchIndex.newPersonSet();
+        sessions.forEach(session -> students.add(session.value()));
+        model.updateFilteredPersonList(students::contains);
+
+        String message = String.format(MESSAGE_SUCCESS, sessions.size(), time, day);
+        int capacity = model.getUserPrefs().getSessionCapacity();
+        if (capacity != UserPrefs.NO_SESSION_CAPACITY) {
+            int peakLoad = timetable.getPeakLoad(dayOfWeek, time.getStartMinutes(), time.getEndMinutes(), null);
+            if (peakLoad > capacity) {
+                message += String.format(MESSAGE_OVER_CAPACITY, peakLoad, capacity);
+            }
+        }
+        return new CommandResult(message);
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ConflictsCommand)) {
+            return false;
+        }
+
+        ConflictsCommand otherConflictsCommand = (ConflictsCommand) other;
+        return day.equals(otherConflictsCommand.day) && time.equals(otherConflictsCommand.time);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("day time", day + " " + time)
+                .toString();
+    }
+}
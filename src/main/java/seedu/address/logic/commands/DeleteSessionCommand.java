@@ -4,9 +4,7 @@ import static java.util.Objects.requireNonNull;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.ToStringBuilder;
@@ -16,6 +14,7 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Day;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Session;
+import seedu.address.model.person.SessionSet;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Time;
 
@@ -94,8 +93,7 @@ public class DeleteSessionCommand extends Command {
     private static Student createEditedStudent(Student studentToEdit, Day day, Time time) {
         assert studentToEdit != null;
 
-        Set<Session> updatedSessions = new HashSet<>(studentToEdit.getSessions());
-        updatedSessions.remove(new Session(day, time));
+        SessionSet updatedSessions = studentToEdit.getSessions().without(new Session(day, time));
 
         return new Student(
                 studentToEdit.getName(),
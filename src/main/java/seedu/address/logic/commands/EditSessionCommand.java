@@ -7,9 +7,7 @@ import static seedu.address.logic.parser.CliSyntax.PREFIX_NEW_TIME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
 import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
 
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.logic.Messages;
@@ -18,6 +16,7 @@ import seedu.address.model.Model;
 import seedu.address.model.person.Day;
 import seedu.address.model.person.Person;
 import seedu.address.model.person.Session;
+import seedu.address.model.person.SessionSet;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Time;
 
@@ -90,6 +89,7 @@ public class EditSessionCommand extends Command {
                 throw new CommandException(MESSAGE_SESSION_NOT_FOUND);
             }
             Person personUpdated = toCopy((Student) personToEdit, oldDay, oldTime, newDay, newTime);
+            AddSessionCommand.requireFreeCapacity(model, student, newDay, newTime);
             model.setPerson(personToEdit, personUpdated);
             model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
             return new CommandResult(String.format(MESSAGE_SUCCESS, personToEdit.getName()));
@@ -107,8 +107,7 @@ public class EditSessionCommand extends Command {
         Session newSession = new Session(newDay, newTime);
 
         // remove old session from person's existing sessions
-        Set<Session> updatedSessions = new HashSet<>(personToEdit.getSessions());
-        updatedSessions.remove(oldSession);
+        SessionSet updatedSessions = personToEdit.getSessions().without(oldSession);
 
         // Check if the new session is identical to *another* existing session.
         if (updatedSessions.contains(newSession)) {
@@ -116,21 +115,17 @@ public class EditSessionCommand extends Command {
         }
 
         // Check if the new session overlaps with *any other* existing session.
-        for (Session existingSession : personToEdit.getSessions()) {
-            if (existingSession.isOverlap(newSession)) {
-                throw new CommandException(MESSAGE_OVERLAPPING_SESSION);
-            }
+        if (personToEdit.getSessions().overlapsAny(newSession)) {
+            throw new CommandException(MESSAGE_OVERLAPPING_SESSION);
         }
 
-        updatedSessions.add(newSession);
-
         return new Student(
                 personToEdit.getName(),
                 personToEdit.getPhone(),
                 personToEdit.getAddress(),
                 personToEdit.getRemark(),
                 personToEdit.getTags(),
-                updatedSessions
+                updatedSessions.with(newSession)
         );
     }
 
@@ -0,0 +1,120 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCOPE;
+
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.util.PersonExportFormat;
+import seedu.address.model.Model;
+import seedu.address.model.person.Person;
+
+/**
+ * Writes the persons in the displayed list, or every person in the address book, to a CSV, vCard or json file.
+ */
+public class ExportCommand extends Command {
+
+    public static final String COMMAND_WORD = "export";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Writes the persons in the displayed list to a file, "
+            + "as CSV if the file name ends with .csv, as vCard contacts if it ends with .vcf, "
+            + "or as an address book data file if it ends with .json. "
+            + "Use " + PREFIX_SCOPE + "all to write every person instead.\n"
+            + "Parameters: FILE_PATH [" + PREFIX_SCOPE + "SCOPE]\n"
+            + "Example: " + COMMAND_WORD + " data/students.csv " + PREFIX_SCOPE + "all";
+
+    public static final String MESSAGE_SUCCESS = "Exported %1$d persons to %2$s";
+    public static final String MESSAGE_THROUGHPUT = "\nTook %1$d ms (%2$d persons per second)";
+    public static final String MESSAGE_CANNOT_WRITE_FILE = "Could not write %1$s: %2$s";
+
+    /**
+     * Which persons to export.
+     */
+    public enum Scope {
+        /** The persons in the displayed list, in the order shown. */
+        SHOWN,
+        /** Every person in the address book. */
+        ALL
+    }
+
+    private final Path filePath;
+    private final PersonExportFormat format;
+    private final Scope scope;
+
+    /**
+     * Creates an ExportCommand to write the persons in {@code scope} to {@code filePath} in {@code format}.
+     */
+    public ExportCommand(Path filePath, PersonExportFormat format, Scope scope) {
+        requireAllNonNull(filePath, format, scope);
+        this.filePath = filePath;
+        this.format = format;
+        this.scope = scope;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        // Commands run off the UI thread, so the lists cannot change while they are written out
+        List<Person> persons = scope == Scope.ALL
+                ? model.getAddressBook().getPersonList()
+                : model.getFilteredPersonList();
+        long startNanos = System.nanoTime();
+        try {
+            FileUtil.writeAtomically(filePath, out -> {
+                Writer writer = new OutputStreamWriter(out, StandardCharsets.UTF_8);
+                format.write(persons, writer);
+            });
+        } catch (IOException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_WRITE_FILE, filePath, StringUtil.getDetails(e)),
+                    e);
+        }
+        long elapsedNanos = Math.max(System.nanoTime() - startNanos, 1);
+
+        long personsPerSecond = persons.size() * TimeUnit.SECONDS.toNanos(1) / elapsedNanos;
+        return new CommandResult(String.format(MESSAGE_SUCCESS, persons.size(), filePath)
+                + String.format(MESSAGE_THROUGHPUT, TimeUnit.NANOSECONDS.toMillis(elapsedNanos), personsPerSecond));
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ExportCommand)) {
+            return false;
+        }
+
+        ExportCommand otherExportCommand = (ExportCommand) other;
+        return filePath.equals(otherExportCommand.filePath)
+                && format == otherExportCommand.format
+                && scope == otherExportCommand.scope;
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .add("format", format)
+                .add("scope", scope)
+                .toString();
+    }
+}
@@ -1,10 +1,12 @@
 package seedu.address.logic.commands;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_MODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
 
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.ToStringBuilder;
@@ -13,6 +15,7 @@ import seedu.address.logic.commands.exceptions.CommandException;
 import seedu.address.model.Model;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.RoleContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 
@@ -28,11 +31,15 @@ public class FindCommand extends Command {
     public static final String MESSAGE_USAGE = COMMAND_WORD + ": Finds all persons whose names contain any of "
             + "the specified keywords (case-insensitive) or has a certain role or has any of the specified tags"
             + " and displays them as a list with index numbers.\n"
+            + "Name keywords match whole words by default, the start of words with " + PREFIX_MATCH_MODE + "prefix"
+            + ", or words with a few typos with " + PREFIX_MATCH_MODE + "fuzzy.\n"
             + "Parameters: " + "[" + PREFIX_NAME + "NAME" + "]"
             + "[" + PREFIX_ROLE + "ROLE" + "]"
-            + "[" + PREFIX_TAG + "TAGS" + "]\n"
+            + "[" + PREFIX_TAG + "TAGS" + "]"
+            + "[" + PREFIX_MATCH_MODE + "exact|prefix|fuzzy" + "]\n"
             + "Example: " + COMMAND_WORD + " "
-            + PREFIX_NAME + "alice " + PREFIX_ROLE + "student " + PREFIX_TAG + "math physics";
+            + PREFIX_NAME + "alice " + PREFIX_ROLE + "student " + PREFIX_TAG + "math physics\n"
+            + "Example: " + COMMAND_WORD + " " + PREFIX_NAME + "ber " + PREFIX_MATCH_MODE + "prefix";
 
     private final NameContainsKeywordsPredicate namePredicate;
     private final RoleContainsKeywordsPredicate rolePredicate;
@@ -51,6 +58,11 @@ public class FindCommand extends Command {
         this.tagPredicate = tagPredicate;
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -59,22 +71,39 @@ public class FindCommand extends Command {
         if (this.namePredicate.isEmpty() && this.rolePredicate.isEmpty() && this.tagPredicate.isEmpty()) {
             predicate = person -> false;
         } else {
-            predicate = person ->true;
-            if (!this.namePredicate.isEmpty()) {
-                predicate = predicate.and(this.namePredicate);
-            }
-            if (!this.rolePredicate.isEmpty()) {
-                predicate = predicate.and(this.rolePredicate);
-            }
-            if (!this.tagPredicate.isEmpty()) {
-                predicate = predicate.and(this.tagPredicate);
-            }
+            predicate = model.getSearchPredicate(this::findMatches);
         }
         model.updateFilteredPersonList(predicate);
         return new CommandResult(
                 String.format(Messages.MESSAGE_PERSONS_LISTED_OVERVIEW, model.getFilteredPersonList().size()));
     }
 
+    /**
+     * Returns the persons in {@code index} that match every non-empty predicate.
+     * Only called when at least one predicate is non-empty.
+     */
+    private Set<Person> findMatches(PersonSearchIndex index) {
+        Set<Person> matches = null;
+        if (!this.namePredicate.isEmpty()) {
+            matches = retainMatches(matches, this.namePredicate.findMatches(index));
+        }
+        if (!this.rolePredicate.isEmpty()) {
+            matches = retainMatches(matches, this.rolePredicate.findMatches(index));
+        }
+        if (!this.tagPredicate.isEmpty()) {
+            matches = retainMatches(matches, this.tagPredicate.findMatches(index));
+        }
+        return matches;
+    }
+
+    private static Set<Person> retainMatches(Set<Person> matches, Set<Person> fieldMatches) {
+        if (matches == null) {
+            return fieldMatches;
+        }
+        matches.retainAll(fieldMatches);
+        return matches;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
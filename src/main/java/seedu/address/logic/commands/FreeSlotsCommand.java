@@ -0,0 +1,104 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.time.DayOfWeek;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.model.Model;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.SessionTimetable;
+import seedu.address.model.person.Time;
+
+/**
+ * Lists the times within opening hours when no session is running, for one day or every day of the week.
+ */
+public class FreeSlotsCommand extends Command {
+    public static final String COMMAND_WORD = "freeslots";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Lists the free slots between sessions of at least "
+            + "the given number of minutes, within the given opening hours.\n"
+            + "Parameters: "
+            + PREFIX_TIME + "OPENING_HOURS "
+            + PREFIX_DURATION + "MINUTES "
+            + "[" + PREFIX_DAY + "DAY]\n"
+            + "Example: " + COMMAND_WORD + " "
+            + PREFIX_TIME + "9am-9pm "
+            + PREFIX_DURATION + "90 "
+            + PREFIX_DAY + "Tue";
+
+    public static final String MESSAGE_SUCCESS = "Free slots of at least %1$d minutes within %2$s:";
+    public static final String MESSAGE_NO_FREE_SLOTS = "none";
+
+    private final Time openingHours;
+    private final int minDuration;
+    private final Optional<Day> day;
+
+    /**
+     * Creates a FreeSlotsCommand to list the free slots within {@code openingHours} of at least {@code minDuration}
+     * minutes on {@code day}, or on every day if it is empty.
+     */
+    public FreeSlotsCommand(Time openingHours, int minDuration, Optional<Day> day) {
+        requireNonNull(openingHours);
+        requireNonNull(day);
+        this.openingHours = openingHours;
+        this.minDuration = minDuration;
+        this.day = day;
+    }
+
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
+    @Override
+    public CommandResult execute(Model model) {
+        requireNonNull(model);
+        SessionTimetable timetable = model.getSessionTimetable();
+        List<DayOfWeek> days = day.map(d -> List.of(d.toDayOfWeek())).orElse(List.of(DayOfWeek.values()));
+
+        StringBuilder message = new StringBuilder(String.format(MESSAGE_SUCCESS, minDuration, openingHours));
+        for (DayOfWeek dayOfWeek : days) {
+            List<Time> freeSlots = timetable.getFreeSlots(dayOfWeek, openingHours, minDuration);
+            message.append('\n')
+                    .append(Day.of(dayOfWeek))
+                    .append(": ")
+                    .append(freeSlots.isEmpty()
+                            ? MESSAGE_NO_FREE_SLOTS
+                            : freeSlots.stream().map(Time::toString).collect(Collectors.joining(", ")));
+        }
+        return new CommandResult(message.toString());
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof FreeSlotsCommand)) {
+            return false;
+        }
+
+        FreeSlotsCommand otherFreeSlotsCommand = (FreeSlotsCommand) other;
+        return openingHours.equals(otherFreeSlotsCommand.openingHours)
+                && minDuration == otherFreeSlotsCommand.minDuration
+                && day.equals(otherFreeSlotsCommand.day);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("openingHours", openingHours)
+                .add("minDuration", minDuration)
+                .add("day", day.orElse(null))
+                .toString();
+    }
+}
@@ -0,0 +1,188 @@
+package seedu.address.logic.commands;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.model.Model.PREDICATE_SHOW_ALL_PERSONS;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.commons.util.ToStringBuilder;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.Model;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonIdentity;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Student;
+
+/**
+ * Adds the persons in a CSV file to the address book in one go.
+ * Rows that are invalid, or describe a person who is already in the address book or on an earlier row, are skipped
+ * and reported; the other rows are still added.
+ */
+public class ImportCommand extends Command {
+
+    public static final String COMMAND_WORD = "import";
+
+    public static final String MESSAGE_USAGE = COMMAND_WORD + ": Adds the persons in a CSV file to EduConnect.\n"
+            + "The first row names the columns: " + String.join(", ", PersonCsvParser.COLUMNS) + ". "
+            + "Only name, phone, address and role are required. Tags are separated by spaces, and sessions by ;, "
+            + "e.g. Mon 3pm-5pm; Wed 9am-11am.\n"
+            + "Parameters: FILE_PATH\n"
+            + "Example: " + COMMAND_WORD + " data/students.csv";
+
+    public static final String MESSAGE_SUCCESS = "Imported %1$d persons from %2$s";
+    public static final String MESSAGE_SKIPPED_ROWS = "\n%1$d rows were skipped:";
+    public static final String MESSAGE_ROW_ERROR = "\nLine %1$d: %2$s";
+    public static final String MESSAGE_MORE_ROW_ERRORS = "\n...and %1$d more";
+    public static final String MESSAGE_SAME_AS_EARLIER_ROW = "Same person as line %1$d";
+    public static final String MESSAGE_CANNOT_READ_FILE = "Could not read %1$s: %2$s";
+    public static final String MESSAGE_EMPTY_FILE = "%1$s is empty; its first row should name the columns";
+
+    /** Row errors beyond this many are counted but not listed, so a badly formed file does not flood the display. */
+    static final int MAX_LISTED_ROW_ERRORS = 20;
+
+    private final Path filePath;
+
+    /**
+     * Creates an ImportCommand to add the persons in the CSV file at {@code filePath}.
+     */
+    public ImportCommand(Path filePath) {
+        requireNonNull(filePath);
+        this.filePath = filePath;
+    }
+
+    @Override
+    public CommandResult execute(Model model) throws CommandException {
+        requireNonNull(model);
+
+        PersonCsvParser rowParser;
+        List<CsvRow> rows = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(Files.newBufferedReader(filePath))) {
+            List<String> header = reader.readRecord();
+            if (header == null) {
+                throw new CommandException(String.format(MESSAGE_EMPTY_FILE, filePath));
+            }
+            rowParser = new PersonCsvParser(header);
+
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                if (!record.stream().allMatch(String::isBlank)) {
+                    rows.add(new CsvRow(reader.getLineNumber(), record));
+                }
+            }
+        } catch (IOException | ParseException e) {
+            throw new CommandException(String.format(MESSAGE_CANNOT_READ_FILE, filePath, e.getMessage()), e);
+        }
+
+        // Validating a row does not depend on any other row, so rows are parsed on the common fork-join pool
+        List<ParsedRow> parsedRows = rows.parallelStream().map(row -> row.parseWith(rowParser)).toList();
+
+        List<RowError> errors = new ArrayList<>();
+        Map<PersonIdentity, Integer> firstLineOfPerson = new HashMap<>();
+        List<ParsedRow> acceptedRows = new ArrayList<>();
+        for (ParsedRow row : parsedRows) {
+            if (row.error() != null) {
+                errors.add(new RowError(row.lineNumber(), row.error()));
+                continue;
+            }
+            if (model.hasPerson(row.person())) {
+                errors.add(new RowError(row.lineNumber(), AddCommand.MESSAGE_DUPLICATE_PERSON));
+                continue;
+            }
+            Integer firstLine = firstLineOfPerson.putIfAbsent(PersonIdentity.of(row.person()), row.lineNumber());
+            if (firstLine != null) {
+                errors.add(new RowError(row.lineNumber(), String.format(MESSAGE_SAME_AS_EARLIER_ROW, firstLine)));
+                continue;
+            }
+            acceptedRows.add(row);
+        }
+
+        // A student's parent may be on any row of the file, so parents are only checked once every row is known
+        List<Person> toAdd = new ArrayList<>(acceptedRows.size());
+        for (ParsedRow row : acceptedRows) {
+            if (row.person() instanceof Student student && student.hasParent()
+                    && !model.hasPerson(new Parent(student.getParentName()))
+                    && !firstLineOfPerson.containsKey(PersonIdentity.of(student.getParentName(), Role.PARENT_ROLE))) {
+                errors.add(new RowError(row.lineNumber(), AddCommand.MESSAGE_INVALID_PARENT));
+                continue;
+            }
+            toAdd.add(row.person());
+        }
+
+        if (!toAdd.isEmpty()) {
+            model.addPersons(toAdd);
+            model.updateFilteredPersonList(PREDICATE_SHOW_ALL_PERSONS);
+        }
+        return new CommandResult(String.format(MESSAGE_SUCCESS, toAdd.size(), filePath) + describe(errors));
+    }
+
+    private static String describe(List<RowError> errors) {
+        if (errors.isEmpty()) {
+            return "";
+        }
+
+        errors.sort(Comparator.comparingInt(RowError::lineNumber));
+        StringBuilder description = new StringBuilder(String.format(MESSAGE_SKIPPED_ROWS, errors.size()));
+        for (RowError error : errors.subList(0, Math.min(errors.size(), MAX_LISTED_ROW_ERRORS))) {
+            description.append(String.format(MESSAGE_ROW_ERROR, error.lineNumber(), error.message()));
+        }
+        if (errors.size() > MAX_LISTED_ROW_ERRORS) {
+            description.append(String.format(MESSAGE_MORE_ROW_ERRORS, errors.size() - MAX_LISTED_ROW_ERRORS));
+        }
+        return description.toString();
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+
+        // instanceof handles nulls
+        if (!(other instanceof ImportCommand)) {
+            return false;
+        }
+
+        ImportCommand otherImportCommand = (ImportCommand) other;
+        return filePath.equals(otherImportCommand.filePath);
+    }
+
+    @Override
+    public String toString() {
+        return new ToStringBuilder(this)
+                .add("filePath", filePath)
+                .toString();
+    }
+
+    /**
+     * The fields of the record that starts on line {@code lineNumber} of the file.
+     */
+    private record CsvRow(int lineNumber, List<String> fields) {
+        ParsedRow parseWith(PersonCsvParser rowParser) {
+            try {
+                return new ParsedRow(lineNumber, rowParser.parse(fields), null);
+            } catch (ParseException e) {
+                return new ParsedRow(lineNumber, null, e.getMessage());
+            }
+        }
+    }
+
+    /**
+     * The person described on line {@code lineNumber}, or the {@code error} that stopped it from being parsed.
+     */
+    private record ParsedRow(int lineNumber, Person person, String error) {
+    }
+
+    private record RowError(int lineNumber, String message) {
+    }
+}
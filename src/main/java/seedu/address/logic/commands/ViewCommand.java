@@ -37,6 +37,11 @@ public class ViewCommand extends Command {
         this.targetIndex = targetIndex;
     }
 
+    @Override
+    public boolean isMutating() {
+        return false;
+    }
+
     @Override
     public CommandResult execute(Model model) throws CommandException {
         requireNonNull(model);
@@ -0,0 +1,82 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+
+import java.io.IOException;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import seedu.address.commons.util.FileUtil;
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.BatchCommand.ScriptCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+
+/**
+ * Parses input arguments and creates a new {@link BatchCommand} object.
+ * The whole script is read and parsed here, so a script with a bad line is rejected before any of it runs.
+ * Example: {@code data/intake.txt}
+ */
+public class BatchCommandParser implements Parser<BatchCommand> {
+
+    public static final String MESSAGE_CANNOT_READ_SCRIPT = "Could not read the script file %1$s";
+    public static final String MESSAGE_INVALID_LINE = "Line %1$d (%2$s): %3$s";
+    public static final String MESSAGE_NESTED_BATCH = "A script cannot run other scripts";
+
+    private static final String COMMENT_START = "#";
+
+    private final AddressBookParser addressBookParser;
+
+    /**
+     * Creates a BatchCommandParser that parses each line of a script with {@code addressBookParser}.
+     */
+    public BatchCommandParser(AddressBookParser addressBookParser) {
+        requireNonNull(addressBookParser);
+        this.addressBookParser = addressBookParser;
+    }
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the BatchCommand
+     * and returns a BatchCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format, or the script cannot be read
+     *     or has a line that is not a valid command
+     */
+    @Override
+    public BatchCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        String trimmedArgs = args.trim();
+        if (trimmedArgs.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+        }
+
+        Path scriptPath;
+        List<String> lines;
+        try {
+            scriptPath = Path.of(trimmedArgs);
+            lines = List.of(FileUtil.readFromFile(scriptPath).split("\\R", -1));
+        } catch (InvalidPathException | IOException e) {
+            throw new ParseException(String.format(MESSAGE_CANNOT_READ_SCRIPT, trimmedArgs), e);
+        }
+
+        List<ScriptCommand> commands = new ArrayList<>();
+        for (int i = 0; i < lines.size(); i++) {
+            String line = lines.get(i).strip();
+            if (line.isEmpty() || line.startsWith(COMMENT_START)) {
+                continue;
+            }
+
+            int lineNumber = i + 1;
+            try {
+                if (line.split("\\s+", 2)[0].equals(BatchCommand.COMMAND_WORD)) {
+                    throw new ParseException(MESSAGE_NESTED_BATCH);
+                }
+                commands.add(new ScriptCommand(lineNumber, line, addressBookParser.parseCommand(line)));
+            } catch (ParseException e) {
+                throw new ParseException(String.format(MESSAGE_INVALID_LINE, lineNumber, line, e.getMessage()), e);
+            }
+        }
+        return new BatchCommand(scriptPath, commands);
+    }
+}
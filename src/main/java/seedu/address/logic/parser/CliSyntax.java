@@ -17,4 +17,7 @@ public class CliSyntax {
     public static final Prefix PREFIX_NEW_DAY = new Prefix("nd/");
     public static final Prefix PREFIX_NEW_TIME = new Prefix("nti/");
     public static final Prefix PREFIX_PARENT = new Prefix("par/");
+    public static final Prefix PREFIX_MATCH_MODE = new Prefix("m/");
+    public static final Prefix PREFIX_DURATION = new Prefix("du/");
+    public static final Prefix PREFIX_SCOPE = new Prefix("s/");
 }
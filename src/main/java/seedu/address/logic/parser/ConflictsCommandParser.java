@@ -0,0 +1,38 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Time;
+
+/**
+ * Parses input arguments and creates a new {@link ConflictsCommand} object.
+ * Example: {@code d/Tue ti/3pm-5pm}
+ */
+public class ConflictsCommandParser implements Parser<ConflictsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ConflictsCommand
+     * and returns a ConflictsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public ConflictsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_DAY, PREFIX_TIME);
+
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_DAY).isEmpty()
+                || argMultimap.getValue(PREFIX_TIME).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConflictsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_DAY, PREFIX_TIME);
+
+        Day day = ParserUtil.parseDay(argMultimap.getValue(PREFIX_DAY).get());
+        Time time = ParserUtil.parseTime(argMultimap.getValue(PREFIX_TIME).get());
+        return new ConflictsCommand(day, time);
+    }
+}
@@ -0,0 +1,54 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCOPE;
+
+import java.nio.file.InvalidPathException;
+import java.nio.file.Path;
+
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Scope;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.logic.util.PersonExportFormat;
+
+/**
+ * Parses input arguments and creates a new {@link ExportCommand} object.
+ * The format to export in is chosen by the extension of the file name.
+ * Example: {@code data/students.csv s/all}
+ */
+public class ExportCommandParser implements Parser<ExportCommand> {
+
+    public static final String MESSAGE_UNKNOWN_FORMAT =
+            "%1$s should end with .csv to export as CSV, .vcf to export as vCard contacts, "
+            + "or .json to export as an address book data file";
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the ExportCommand
+     * and returns an ExportCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    @Override
+    public ExportCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_SCOPE);
+        String filePathText = argMultimap.getPreamble();
+        if (filePathText.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_SCOPE);
+
+        Path filePath;
+        try {
+            filePath = Path.of(filePathText);
+        } catch (InvalidPathException e) {
+            throw new ParseException(String.format(ImportCommandParser.MESSAGE_INVALID_FILE_PATH, filePathText), e);
+        }
+        PersonExportFormat format = PersonExportFormat.ofFile(filePath)
+                .orElseThrow(() -> new ParseException(String.format(MESSAGE_UNKNOWN_FORMAT, filePathText)));
+        Scope scope = argMultimap.getValue(PREFIX_SCOPE).isPresent()
+                ? ParserUtil.parseExportScope(argMultimap.getValue(PREFIX_SCOPE).get())
+                : Scope.SHOWN;
+        return new ExportCommand(filePath, format, scope);
+    }
+}
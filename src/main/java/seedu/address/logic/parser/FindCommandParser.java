@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_MODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
@@ -15,6 +16,7 @@ import seedu.address.logic.commands.FindCommand;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate.MatchMode;
 import seedu.address.model.person.Role;
 import seedu.address.model.person.RoleContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
@@ -25,6 +27,9 @@ import seedu.address.model.tag.Tag;
  */
 public class FindCommandParser implements Parser<FindCommand> {
 
+    public static final String MESSAGE_MATCH_MODE_WITHOUT_NAME = "Match mode " + PREFIX_MATCH_MODE
+            + " can only be used together with " + PREFIX_NAME;
+
     /**
      * Parses the given {@code String} of arguments in the context of the
      * FindCommand
@@ -42,8 +47,8 @@ public class FindCommandParser implements Parser<FindCommand> {
         }
 
         ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(" " + trimmedArgs,
-                PREFIX_NAME, PREFIX_ROLE, PREFIX_TAG);
-        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_ROLE, PREFIX_TAG);
+                PREFIX_NAME, PREFIX_ROLE, PREFIX_TAG, PREFIX_MATCH_MODE);
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_NAME, PREFIX_ROLE, PREFIX_TAG, PREFIX_MATCH_MODE);
 
         List<String> name = argMultimap.getValue(PREFIX_NAME)
                 .map(value -> Arrays.stream(value.split("\\s+"))
@@ -61,7 +66,15 @@ public class FindCommandParser implements Parser<FindCommand> {
         if (argMultimap.getValue(PREFIX_NAME).isPresent() && name.isEmpty()) {
             throw new ParseException(Name.MESSAGE_CONSTRAINTS);
         }
-        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(name);
+
+        MatchMode matchMode = MatchMode.EXACT;
+        if (argMultimap.getValue(PREFIX_MATCH_MODE).isPresent()) {
+            if (name.isEmpty()) {
+                throw new ParseException(MESSAGE_MATCH_MODE_WITHOUT_NAME);
+            }
+            matchMode = ParserUtil.parseMatchMode(argMultimap.getValue(PREFIX_MATCH_MODE).get());
+        }
+        NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(name, matchMode);
 
         Optional<String> maybeValue = argMultimap.getValue(PREFIX_ROLE);
         List<String> role = new ArrayList<>();
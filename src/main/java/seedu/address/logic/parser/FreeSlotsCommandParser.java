@@ -0,0 +1,44 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+
+import java.util.Optional;
+
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Time;
+
+/**
+ * Parses input arguments and creates a new {@link FreeSlotsCommand} object.
+ * Example: {@code ti/9am-9pm du/90 d/Tue}
+ */
+public class FreeSlotsCommandParser implements Parser<FreeSlotsCommand> {
+
+    /**
+     * Parses the given {@code String} of arguments in the context of the FreeSlotsCommand
+     * and returns a FreeSlotsCommand object for execution.
+     * @throws ParseException if the user input does not conform the expected format
+     */
+    public FreeSlotsCommand parse(String args) throws ParseException {
+        requireNonNull(args);
+        ArgumentMultimap argMultimap = ArgumentTokenizer.tokenize(args, PREFIX_TIME, PREFIX_DURATION, PREFIX_DAY);
+
+        if (!argMultimap.getPreamble().isEmpty() || argMultimap.getValue(PREFIX_TIME).isEmpty()
+                || argMultimap.getValue(PREFIX_DURATION).isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE));
+        }
+        argMultimap.verifyNoDuplicatePrefixesFor(PREFIX_TIME, PREFIX_DURATION, PREFIX_DAY);
+
+        Time openingHours = ParserUtil.parseTime(argMultimap.getValue(PREFIX_TIME).get());
+        int minDuration = ParserUtil.parseDuration(argMultimap.getValue(PREFIX_DURATION).get());
+        Optional<Day> day = argMultimap.getValue(PREFIX_DAY).isPresent()
+                ? Optional.of(ParserUtil.parseDay(argMultimap.getValue(PREFIX_DAY).get()))
+                : Optional.empty();
+        return new FreeSlotsCommand(openingHours, minDuration, day);
+    }
+}
@@ -4,14 +4,17 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.Collection;
 import java.util.HashSet;
+import java.util.Locale;
 import java.util.Set;
 
 import seedu.address.commons.core.index.Index;
 import seedu.address.commons.util.StringUtil;
+import seedu.address.logic.commands.ExportCommand.Scope;
 import seedu.address.logic.parser.exceptions.ParseException;
 import seedu.address.model.person.Address;
 import seedu.address.model.person.Day;
 import seedu.address.model.person.Name;
+import seedu.address.model.person.NameContainsKeywordsPredicate.MatchMode;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Remark;
 import seedu.address.model.person.Role;
@@ -24,6 +27,9 @@ import seedu.address.model.tag.Tag;
 public class ParserUtil {
 
     public static final String MESSAGE_INVALID_INDEX = "Index is not a non-zero unsigned integer.";
+    public static final String MESSAGE_INVALID_MATCH_MODE = "Match mode should be one of exact, prefix or fuzzy.";
+    public static final String MESSAGE_INVALID_DURATION = "Duration should be a non-zero number of minutes.";
+    public static final String MESSAGE_INVALID_EXPORT_SCOPE = "Export scope should be one of shown or all.";
 
     /**
      * Parses {@code oneBasedIndex} into an {@code Index} and returns it. Leading and trailing whitespaces will be
@@ -99,6 +105,53 @@ public class ParserUtil {
         return new Role(trimmedRole);
     }
 
+    /**
+     * Parses a {@code String matchMode} into a {@code MatchMode}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code matchMode} is not one of the match modes.
+     */
+    public static MatchMode parseMatchMode(String matchMode) throws ParseException {
+        requireNonNull(matchMode);
+        String trimmedMatchMode = matchMode.trim().toUpperCase(Locale.ROOT);
+        try {
+            return MatchMode.valueOf(trimmedMatchMode);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(MESSAGE_INVALID_MATCH_MODE);
+        }
+    }
+
+    /**
+     * Parses a {@code String scope} into an export {@code Scope}.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code scope} is not one of the export scopes.
+     */
+    public static Scope parseExportScope(String scope) throws ParseException {
+        requireNonNull(scope);
+        String trimmedScope = scope.trim().toUpperCase(Locale.ROOT);
+        try {
+            return Scope.valueOf(trimmedScope);
+        } catch (IllegalArgumentException e) {
+            throw new ParseException(MESSAGE_INVALID_EXPORT_SCOPE);
+        }
+    }
+
+    /**
+     * Parses {@code duration} into a number of minutes.
+     * Leading and trailing whitespaces will be trimmed.
+     *
+     * @throws ParseException if the given {@code duration} is not a non-zero unsigned integer.
+     */
+    public static int parseDuration(String duration) throws ParseException {
+        requireNonNull(duration);
+        String trimmedDuration = duration.trim();
+        if (!StringUtil.isNonZeroUnsignedInteger(trimmedDuration)) {
+            throw new ParseException(MESSAGE_INVALID_DURATION);
+        }
+        return Integer.parseInt(trimmedDuration);
+    }
+
     /**
      * Parses a {@code String tag} into a {@code Tag}.
      * Leading and trailing whitespaces will be trimmed.
@@ -153,7 +206,7 @@ public class ParserUtil {
         if (!Day.isValidDay(trimmedDay)) {
             throw new ParseException(Day.MESSAGE_CONSTRAINTS);
         }
-        return new Day(trimmedDay);
+        return Day.of(trimmedDay);
     }
 
     /**
@@ -0,0 +1,168 @@
+package seedu.address.logic.parser;
+
+import static java.util.Objects.requireNonNull;
+import static seedu.address.logic.Messages.MESSAGE_NO_PARENT_FOR_PARENT;
+import static seedu.address.logic.Messages.MESSAGE_NO_SESSIONS_FOR_PARENT;
+import static seedu.address.logic.Messages.MESSAGE_NO_TAGS_FOR_PARENT;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Role;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.SessionSet;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Parses the records of a CSV file of persons, such as one exported from a spreadsheet, into {@code Person}s.
+ * The first record of the file names the columns, in any order and case. The name, phone, address and role columns
+ * are required; other columns the app does not know are ignored.
+ * Fields are validated with the same rules as the {@code add} command. A {@code PersonCsvParser} holds no mutable
+ * state, so one parser can be shared by threads parsing different records.
+ */
+public class PersonCsvParser {
+
+    public static final String COLUMN_NAME = "name";
+    public static final String COLUMN_PHONE = "phone";
+    public static final String COLUMN_ADDRESS = "address";
+    public static final String COLUMN_ROLE = "role";
+    public static final String COLUMN_PARENT = "parent";
+    public static final String COLUMN_TAGS = "tags";
+    public static final String COLUMN_REMARK = "remark";
+    public static final String COLUMN_SESSIONS = "sessions";
+    public static final List<String> COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_ADDRESS, COLUMN_ROLE,
+            COLUMN_PARENT, COLUMN_TAGS, COLUMN_REMARK, COLUMN_SESSIONS);
+
+    /** Separates the tags in the tags column. */
+    public static final String TAG_SEPARATOR = " ";
+    /** Separates the sessions in the sessions column, each written as its day and time, e.g. {@code Mon 3pm-5pm}. */
+    public static final String SESSION_SEPARATOR = "; ";
+
+    public static final String MESSAGE_MISSING_COLUMN = "The header row has no %1$s column";
+    public static final String MESSAGE_DUPLICATE_COLUMN = "The header row has more than one %1$s column";
+    public static final String MESSAGE_MISSING_FIELD = "The %1$s is missing";
+    public static final String MESSAGE_INVALID_SESSION =
+            "Sessions should be written as DAY TIME and separated by ;, e.g. Mon 3pm-5pm; Wed 9am-11am";
+    public static final String MESSAGE_OVERLAPPING_SESSIONS = "Sessions %1$s and %2$s overlap";
+
+    private static final List<String> REQUIRED_COLUMNS = List.of(COLUMN_NAME, COLUMN_PHONE, COLUMN_ADDRESS,
+            COLUMN_ROLE);
+    private static final int ABSENT = -1;
+
+    // Position of each of COLUMNS in a record, or ABSENT
+    private final int[] positions = new int[COLUMNS.size()];
+
+    /**
+     * Creates a PersonCsvParser for records with the columns named in {@code header}.
+     *
+     * @throws ParseException if {@code header} is missing a required column or names a column twice.
+     */
+    public PersonCsvParser(List<String> header) throws ParseException {
+        requireNonNull(header);
+        Arrays.fill(positions, ABSENT);
+        for (int i = 0; i < header.size(); i++) {
+            int column = COLUMNS.indexOf(header.get(i).strip().toLowerCase(Locale.ROOT));
+            if (column == ABSENT) {
+                continue;
+            }
+            if (positions[column] != ABSENT) {
+                throw new ParseException(String.format(MESSAGE_DUPLICATE_COLUMN, COLUMNS.get(column)));
+            }
+            positions[column] = i;
+        }
+
+        for (String column : REQUIRED_COLUMNS) {
+            if (positions[COLUMNS.indexOf(column)] == ABSENT) {
+                throw new ParseException(String.format(MESSAGE_MISSING_COLUMN, column));
+            }
+        }
+    }
+
+    /**
+     * Parses {@code record} into the {@code Person} it describes. Fields missing from the end of a short record
+     * are taken to be empty.
+     *
+     * @throws ParseException if a field is missing or invalid.
+     */
+    public Person parse(List<String> record) throws ParseException {
+        requireNonNull(record);
+        Name name = ParserUtil.parseName(getRequiredField(record, COLUMN_NAME));
+        Phone phone = ParserUtil.parsePhone(getRequiredField(record, COLUMN_PHONE));
+        Address address = ParserUtil.parseAddress(getRequiredField(record, COLUMN_ADDRESS));
+        Role role = ParserUtil.parseRole(getRequiredField(record, COLUMN_ROLE));
+        Remark remark = ParserUtil.parseRemark(getField(record, COLUMN_REMARK));
+        String parentField = getField(record, COLUMN_PARENT);
+        Name parentName = parentField.isEmpty() ? null : ParserUtil.parseName(parentField);
+        Set<Tag> tags = ParserUtil.parseTags(split(getField(record, COLUMN_TAGS), "\\s+"));
+        SessionSet sessions = parseSessions(getField(record, COLUMN_SESSIONS));
+
+        if (role.isParent()) {
+            if (!tags.isEmpty()) {
+                throw new ParseException(MESSAGE_NO_TAGS_FOR_PARENT);
+            }
+            if (parentName != null) {
+                throw new ParseException(MESSAGE_NO_PARENT_FOR_PARENT);
+            }
+            if (!sessions.isEmpty()) {
+                throw new ParseException(MESSAGE_NO_SESSIONS_FOR_PARENT);
+            }
+            return new Parent(name, phone, address, remark);
+        }
+        return new Student(name, phone, address, remark, tags, sessions, parentName);
+    }
+
+    private String getField(List<String> record, String column) {
+        int position = positions[COLUMNS.indexOf(column)];
+        return position == ABSENT || position >= record.size() ? "" : record.get(position).strip();
+    }
+
+    private String getRequiredField(List<String> record, String column) throws ParseException {
+        String field = getField(record, column);
+        if (field.isEmpty()) {
+            throw new ParseException(String.format(MESSAGE_MISSING_FIELD, column));
+        }
+        return field;
+    }
+
+    private static SessionSet parseSessions(String field) throws ParseException {
+        SessionSet sessions = SessionSet.EMPTY;
+        for (String sessionText : split(field, SESSION_SEPARATOR.strip())) {
+            String[] dayAndTime = sessionText.split("\\s+");
+            if (dayAndTime.length != 2) {
+                throw new ParseException(MESSAGE_INVALID_SESSION);
+            }
+
+            Session session = new Session(ParserUtil.parseDay(dayAndTime[0]), ParserUtil.parseTime(dayAndTime[1]));
+            if (!sessions.contains(session) && sessions.overlapsAny(session)) {
+                Session other = sessions.stream().filter(session::isOverlap).findFirst().orElseThrow();
+                throw new ParseException(String.format(MESSAGE_OVERLAPPING_SESSIONS, other, session));
+            }
+            sessions = sessions.with(session);
+        }
+        return sessions;
+    }
+
+    /**
+     * Returns the non-blank parts of {@code field} between matches of {@code separatorRegex}, stripped.
+     */
+    private static List<String> split(String field, String separatorRegex) {
+        List<String> parts = new ArrayList<>();
+        for (String part : field.split(separatorRegex)) {
+            if (!part.isBlank()) {
+                parts.add(part.strip());
+            }
+        }
+        return parts;
+    }
+}
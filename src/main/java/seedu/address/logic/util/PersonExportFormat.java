@@ -0,0 +1,196 @@
+package seedu.address.logic.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Optional;
+
+import seedu.address.commons.util.CsvWriter;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
+import seedu.address.storage.JsonAddressBookStorage;
+
+/**
+ * A file format that persons can be exported to. Each format writes persons one at a time to a {@code Writer},
+ * so an export never builds the whole file in memory.
+ */
+public enum PersonExportFormat {
+
+    /**
+     * Comma-separated values with the columns read by {@link PersonCsvParser}, so an exported file can be imported.
+     */
+    CSV(".csv") {
+        @Override
+        public void write(Iterable<? extends Person> persons, Writer writer) throws IOException {
+            CsvWriter csvWriter = new CsvWriter(writer);
+            csvWriter.writeRecord(PersonCsvParser.COLUMNS);
+            for (Person person : persons) {
+                csvWriter.writeRecord(toCsvRecord(person));
+            }
+            csvWriter.flush();
+        }
+    },
+
+    /**
+     * vCard 3.0 (RFC 2426) contacts, for address books and phones. The role and tags become categories, and the
+     * remark, parent and sessions go into the note.
+     */
+    VCARD(".vcf") {
+        @Override
+        public void write(Iterable<? extends Person> persons, Writer writer) throws IOException {
+            for (Person person : persons) {
+                writeVCard(person, writer);
+            }
+            writer.flush();
+        }
+    },
+
+    /**
+     * The json format of the data file, so an exported file can be loaded as an address book. This is also the way
+     * to get the data out as text when the data file is kept in the binary format.
+     */
+    JSON(".json") {
+        @Override
+        public void write(Iterable<? extends Person> persons, Writer writer) throws IOException {
+            JsonAddressBookStorage.writePersons(persons, writer);
+            writer.flush();
+        }
+    };
+
+    private static final String VCARD_LINE_END = "\r\n";
+
+    private final String fileExtension;
+
+    PersonExportFormat(String fileExtension) {
+        this.fileExtension = fileExtension;
+    }
+
+    /**
+     * Writes {@code persons}, in order, to {@code writer} and flushes it.
+     */
+    public abstract void write(Iterable<? extends Person> persons, Writer writer) throws IOException;
+
+    public String getFileExtension() {
+        return fileExtension;
+    }
+
+    /**
+     * Returns the format whose file extension {@code filePath} ends with, ignoring case.
+     */
+    public static Optional<PersonExportFormat> ofFile(Path filePath) {
+        requireNonNull(filePath);
+        Path fileName = filePath.getFileName();
+        if (fileName == null) {
+            return Optional.empty();
+        }
+
+        String lowerCaseFileName = fileName.toString().toLowerCase(Locale.ROOT);
+        for (PersonExportFormat format : values()) {
+            if (lowerCaseFileName.endsWith(format.fileExtension)) {
+                return Optional.of(format);
+            }
+        }
+        return Optional.empty();
+    }
+
+    private static List<String> toCsvRecord(Person person) {
+        String parentName = "";
+        String tags = "";
+        String sessions = "";
+        if (person instanceof Student student) {
+            parentName = student.hasParent() ? student.getParentName().fullName : "";
+            tags = String.join(PersonCsvParser.TAG_SEPARATOR, sortedTagNames(student));
+            sessions = joinSessions(student);
+        }
+
+        // In the order of PersonCsvParser.COLUMNS
+        return List.of(person.getName().fullName, person.getPhone().value, person.getAddress().value,
+                person.getRole().role, parentName, tags, person.getRemark().value, sessions);
+    }
+
+    private static void writeVCard(Person person, Writer writer) throws IOException {
+        writeVCardLine(writer, "BEGIN:VCARD");
+        writeVCardLine(writer, "VERSION:3.0");
+        writeVCardLine(writer, "FN:" + escapeVCardText(person.getName().fullName));
+        writeVCardLine(writer, "N:" + escapeVCardText(person.getName().fullName) + ";;;;");
+        writeVCardLine(writer, "TEL;TYPE=CELL:" + escapeVCardText(person.getPhone().value));
+        writeVCardLine(writer, "ADR;TYPE=HOME:;;" + escapeVCardText(person.getAddress().value) + ";;;;");
+
+        List<String> categories = new ArrayList<>();
+        categories.add(escapeVCardText(person.getRole().role));
+        List<String> noteLines = new ArrayList<>();
+        if (!person.getRemark().value.isEmpty()) {
+            noteLines.add(person.getRemark().value);
+        }
+        if (person instanceof Student student) {
+            for (String tagName : sortedTagNames(student)) {
+                categories.add(escapeVCardText(tagName));
+            }
+            if (student.hasParent()) {
+                noteLines.add("Parent: " + student.getParentName().fullName);
+            }
+            if (!student.getSessions().isEmpty()) {
+                noteLines.add("Sessions: " + joinSessions(student));
+            }
+        }
+        writeVCardLine(writer, "CATEGORIES:" + String.join(",", categories));
+        if (!noteLines.isEmpty()) {
+            writeVCardLine(writer, "NOTE:" + escapeVCardText(String.join("\n", noteLines)));
+        }
+        writeVCardLine(writer, "END:VCARD");
+    }
+
+    private static void writeVCardLine(Writer writer, String line) throws IOException {
+        writer.write(line);
+        writer.write(VCARD_LINE_END);
+    }
+
+    /**
+     * Escapes the characters that have a meaning in vCard text values: backslashes, commas, semicolons and
+     * line breaks.
+     */
+    private static String escapeVCardText(String text) {
+        StringBuilder escaped = new StringBuilder(text.length());
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            switch (c) {
+            case '\\':
+            case ',':
+            case ';':
+                escaped.append('\\').append(c);
+                break;
+            case '\n':
+                escaped.append("\\n");
+                break;
+            default:
+                escaped.append(c);
+            }
+        }
+        return escaped.toString();
+    }
+
+    private static List<String> sortedTagNames(Student student) {
+        List<String> tagNames = new ArrayList<>(student.getTags().size());
+        for (Tag tag : student.getTags()) {
+            tagNames.add(tag.tagName);
+        }
+        tagNames.sort(null);
+        return tagNames;
+    }
+
+    private static String joinSessions(Student student) {
+        List<String> sessionTexts = new ArrayList<>(student.getSessions().size());
+        for (Session session : student.getSessions()) {
+            sessionTexts.add(session.getDay() + " " + session.getTime());
+        }
+        return String.join(PersonCsvParser.SESSION_SEPARATOR, sessionTexts);
+    }
+}
@@ -2,12 +2,15 @@ package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.util.ToStringBuilder;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.SessionTimetable;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.UniquePersonList;
 
@@ -40,6 +43,33 @@ public class AddressBook implements ReadOnlyAddressBook {
         resetData(toBeCopied);
     }
 
+    /**
+     * Returns a copy of {@code toBeCopied} made of new persons, linked to each other as the originals are.
+     * Unlike {@link #AddressBook(ReadOnlyAddressBook)}, which shares the persons, changes to the copy, including to
+     * the parent and student links that persons hold, leave {@code toBeCopied} as it is.
+     */
+    public static AddressBook detachedCopyOf(ReadOnlyAddressBook toBeCopied) {
+        requireNonNull(toBeCopied);
+        List<Person> copies = new ArrayList<>(toBeCopied.getPersonList().size());
+        for (Person person : toBeCopied.getPersonList()) {
+            copies.add(copyWithoutLinks(person));
+        }
+
+        AddressBook copy = new AddressBook();
+        copy.setPersons(copies);
+        copy.linkAllParents();
+        return copy;
+    }
+
+    private static Person copyWithoutLinks(Person person) {
+        if (person instanceof Student student) {
+            return new Student(student.getName(), student.getPhone(), student.getAddress(), student.getRemark(),
+                    student.getTags(), student.getSessions(), student.getParentName());
+        }
+        Parent parent = (Parent) person;
+        return new Parent(parent.getName(), parent.getPhone(), parent.getAddress(), parent.getRemark());
+    }
+
     //// list overwrite operations
 
     /**
@@ -77,6 +107,26 @@ public class AddressBook implements ReadOnlyAddressBook {
         persons.add(p);
     }
 
+    /**
+     * Adds {@code toAdd} to the address book in one go, then links the students among them to their parents.
+     * None of {@code toAdd} may already exist in the address book, and {@code toAdd} must not contain duplicates.
+     * Students may be linked to parents that are already in the address book or are in {@code toAdd}.
+     */
+    public void addPersons(List<Person> toAdd) {
+        requireNonNull(toAdd);
+        List<Person> existing = persons.asUnmodifiableObservableList();
+        List<Person> combined = new ArrayList<>(existing.size() + toAdd.size());
+        combined.addAll(existing);
+        combined.addAll(toAdd);
+        persons.setPersons(combined);
+
+        for (Person person : toAdd) {
+            if (person instanceof Student student) {
+                persons.resolveParentLink(student);
+            }
+        }
+    }
+
     /**
      * Replaces the given person {@code target} in the list with {@code editedPerson}.
      * {@code target} must exist in the address book.
@@ -121,6 +171,20 @@ public class AddressBook implements ReadOnlyAddressBook {
     public void destroyStudentLinks(Parent parent) {
         persons.destroyStudentLinks(parent);
     }
+    /**
+     * Returns the keyword search index over the persons in this address book.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return persons.getSearchIndex();
+    }
+
+    /**
+     * Returns the weekly session timetable of the persons in this address book.
+     */
+    public SessionTimetable getSessionTimetable() {
+        return persons.getSessionTimetable();
+    }
+
     //// util methods
 
     @Override
@@ -2,12 +2,17 @@ package seedu.address.model;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import javafx.collections.ObservableList;
 import seedu.address.commons.core.GuiSettings;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.SessionTimetable;
 import seedu.address.model.person.Student;
 
 /**
@@ -90,6 +95,12 @@ public interface Model {
      */
     void addPerson(Person person);
 
+    /**
+     * Add persons to book in one go, linking students among them to their parents.
+     * @param persons new persons, none already in the book and no two the same; not null
+     */
+    void addPersons(List<Person> persons);
+
     /**
      * Replace existing person with edited copy.
      * @param target original; not null
@@ -124,6 +135,20 @@ public interface Model {
      */
     void updateFilteredPersonList(Predicate<Person> predicate);
 
+    /**
+     * Build a filter that accepts exactly the persons found by {@code search} on the book's search index.
+     * The search re-runs after the book changes, so the filter stays correct for later edits.
+     * @param search lookup over the index; not null
+     * @return predicate for {@link #updateFilteredPersonList(Predicate)}
+     */
+    Predicate<Person> getSearchPredicate(Function<PersonSearchIndex, Set<Person>> search);
+
+    /**
+     * Weekly timetable of the sessions in the address book, kept up to date as persons change.
+     * @return timetable; read-only for callers
+     */
+    SessionTimetable getSessionTimetable();
+
     /**
      * Sort current filtered list with comparator; stable inside equal keys.
      * Allows commands to order output without mutating stored data.
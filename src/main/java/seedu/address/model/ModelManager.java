@@ -4,6 +4,9 @@ import static java.util.Objects.requireNonNull;
 
 import java.nio.file.Path;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.logging.Logger;
 
@@ -15,6 +18,8 @@ import seedu.address.commons.core.GuiSettings;
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.SessionTimetable;
 import seedu.address.model.person.Student;
 
 /**
@@ -129,6 +134,12 @@ public class ModelManager implements Model {
         addressBook.addPerson(person);
     }
 
+    @Override
+    public void addPersons(List<Person> persons) {
+        requireNonNull(persons);
+        addressBook.addPersons(persons);
+    }
+
     @Override
     public void setPerson(Person target, Person editedPerson) {
         requireNonNull(target);
@@ -161,6 +172,17 @@ public class ModelManager implements Model {
         filteredPersons.setPredicate(predicate);
     }
 
+    @Override
+    public Predicate<Person> getSearchPredicate(Function<PersonSearchIndex, Set<Person>> search) {
+        requireNonNull(search);
+        return addressBook.getSearchIndex().toPredicate(search);
+    }
+
+    @Override
+    public SessionTimetable getSessionTimetable() {
+        return addressBook.getSessionTimetable();
+    }
+
     @Override
     public void sortFilteredPersonList(Comparator<Person> comparator) {
         requireNonNull(comparator);
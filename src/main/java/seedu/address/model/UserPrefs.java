@@ -1,6 +1,7 @@
 package seedu.address.model;
 
 import static java.util.Objects.requireNonNull;
+import static seedu.address.commons.util.AppUtil.checkArgument;
 
 import java.nio.file.Path;
 import java.nio.file.Paths;
@@ -13,8 +14,17 @@ import seedu.address.commons.core.GuiSettings;
  */
 public class UserPrefs implements ReadOnlyUserPrefs {
 
+    public static final String STORAGE_FORMAT_JSON = "json";
+    public static final String STORAGE_FORMAT_JOURNAL = "journal";
+    public static final String STORAGE_FORMAT_BINARY = "binary";
+
+    /** Session capacity meaning that any number of sessions may run at the same time. */
+    public static final int NO_SESSION_CAPACITY = 0;
+
     private GuiSettings guiSettings = new GuiSettings();
     private Path addressBookFilePath = Paths.get("data" , "addressbook.json");
+    private String addressBookStorageFormat = STORAGE_FORMAT_JSON;
+    private int sessionCapacity = NO_SESSION_CAPACITY;
 
     /**
      * Creates a {@code UserPrefs} with default values.
@@ -36,6 +46,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         requireNonNull(newUserPrefs);
         setGuiSettings(newUserPrefs.getGuiSettings());
         setAddressBookFilePath(newUserPrefs.getAddressBookFilePath());
+        setAddressBookStorageFormat(newUserPrefs.getAddressBookStorageFormat());
+        setSessionCapacity(newUserPrefs.getSessionCapacity());
     }
 
     public GuiSettings getGuiSettings() {
@@ -56,6 +68,28 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         this.addressBookFilePath = addressBookFilePath;
     }
 
+    public String getAddressBookStorageFormat() {
+        return addressBookStorageFormat;
+    }
+
+    public void setAddressBookStorageFormat(String addressBookStorageFormat) {
+        requireNonNull(addressBookStorageFormat);
+        this.addressBookStorageFormat = addressBookStorageFormat;
+    }
+
+    /**
+     * Returns the most sessions the centre can run at the same time, or {@link #NO_SESSION_CAPACITY} if there is no
+     * limit.
+     */
+    public int getSessionCapacity() {
+        return sessionCapacity;
+    }
+
+    public void setSessionCapacity(int sessionCapacity) {
+        checkArgument(sessionCapacity >= 0, "Session capacity should not be negative");
+        this.sessionCapacity = sessionCapacity;
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
@@ -69,12 +103,14 @@ public class UserPrefs implements ReadOnlyUserPrefs {
 
         UserPrefs otherUserPrefs = (UserPrefs) other;
         return guiSettings.equals(otherUserPrefs.guiSettings)
-                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath);
+                && addressBookFilePath.equals(otherUserPrefs.addressBookFilePath)
+                && addressBookStorageFormat.equals(otherUserPrefs.addressBookStorageFormat)
+                && sessionCapacity == otherUserPrefs.sessionCapacity;
     }
 
     @Override
     public int hashCode() {
-        return Objects.hash(guiSettings, addressBookFilePath);
+        return Objects.hash(guiSettings, addressBookFilePath, addressBookStorageFormat, sessionCapacity);
     }
 
     @Override
@@ -82,6 +118,8 @@ public class UserPrefs implements ReadOnlyUserPrefs {
         StringBuilder sb = new StringBuilder();
         sb.append("Gui Settings : " + guiSettings);
         sb.append("\nLocal data file location : " + addressBookFilePath);
+        sb.append("\nLocal data file format : " + addressBookStorageFormat);
+        sb.append("\nSession capacity : " + sessionCapacity);
         return sb.toString();
     }
 
@@ -3,10 +3,12 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's address in the address book.
  * Guarantees: immutable; is valid as declared in
- * {@link #isValidAddress(String)}
+ * {@link #isValidAddress(String)}, unless created with {@link #ofTrusted(String)}, which skips validation
  */
 public class Address {
 
@@ -20,6 +22,8 @@ public class Address {
      */
     public static final String VALIDATION_REGEX = "^[\\s\\p{Alnum}#,.-]{10,120}$";
 
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
     public final String value;
 
     /**
@@ -28,16 +32,28 @@ public class Address {
      * @param address A valid address.
      */
     public Address(String address) {
+        this(address, false);
+    }
+
+    private Address(String address, boolean isTrusted) {
         requireNonNull(address);
-        checkArgument(isValidAddress(address), MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidAddress(address), MESSAGE_CONSTRAINTS);
         value = address;
     }
 
+    /**
+     * Returns a {@code Address} for {@code address} without validating it.
+     * Only for addresses already known to be valid, such as those read back from a data file this app wrote.
+     */
+    public static Address ofTrusted(String address) {
+        return new Address(address, true);
+    }
+
     /**
      * Returns true if a given string is a valid email.
      */
     public static boolean isValidAddress(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
     }
 
     @Override
@@ -3,77 +3,131 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.AppUtil.checkArgument;
 
+import java.time.DayOfWeek;
+import java.util.Locale;
+import java.util.regex.Pattern;
+
 /**
  * Represents a Person's day for a session in the address book.
- * Guarantees: immutable; is valid as declared in {@link #isValidDay(String)}
+ * There is exactly one {@code Day} for each day of the week, so days compare and order by their position in the week.
+ * Guarantees: immutable; is valid as declared in {@link #isValidDay(String)}, also when created with
+ * {@link #ofTrusted(String)}, which only skips the check against {@link #VALIDATION_REGEX}
  */
-public class Day {
+public final class Day implements Comparable<Day> {
     public static final String MESSAGE_CONSTRAINTS =
             "Day should be one of the following: Mon, Tue, Wed, Thur, Fri, Sat, Sun, or their full forms "
                     + "(e.g., Monday, Friday)";
     public static final String VALIDATION_REGEX =
             "^(?i)(mon(day)?|tue(sday)?|wed(nesday)?|thur(sday)?|fri(day)?|sat(urday)?|sun(day)?)$";
 
-    private final String value;
+    private static final Pattern VALIDATION_PATTERN = Pattern.compile(VALIDATION_REGEX);
+
+    // The short form of each day, indexed by ordinal, as shown to users and written to data files
+    private static final String[] VALUES = {"Mon", "Tue", "Wed", "Thur", "Fri", "Sat", "Sun"};
+    private static final Day[] DAYS = new Day[VALUES.length];
+
+    static {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            DAYS[dayOfWeek.ordinal()] = new Day(dayOfWeek);
+        }
+    }
+
+    private final DayOfWeek dayOfWeek;
+
+    private Day(DayOfWeek dayOfWeek) {
+        this.dayOfWeek = dayOfWeek;
+    }
 
     /**
-     * Constructs a {@code Day}.
+     * Returns the {@code Day} for {@code day}, given in short or full form in any case.
      *
      * @param day A valid day.
      */
-    public Day(String day) {
+    public static Day of(String day) {
         requireNonNull(day);
         String normalizedDay = day.trim();
         checkArgument(isValidDay(normalizedDay), MESSAGE_CONSTRAINTS);
+        return parse(normalizedDay);
+    }
 
-        switch (normalizedDay.toLowerCase()) {
+    /**
+     * Returns the {@code Day} for {@code dayOfWeek}.
+     */
+    public static Day of(DayOfWeek dayOfWeek) {
+        requireNonNull(dayOfWeek);
+        return DAYS[dayOfWeek.ordinal()];
+    }
+
+    /**
+     * Returns a {@code Day} for {@code day} without validating it against {@link #VALIDATION_REGEX}.
+     * Only for days already known to be valid, such as those read back from a data file this app wrote.
+     */
+    public static Day ofTrusted(String day) {
+        requireNonNull(day);
+        return parse(day.trim());
+    }
+
+    private static Day parse(String day) {
+        switch (day.toLowerCase(Locale.ROOT)) {
         case "monday":
         case "mon":
-            this.value = "Mon";
-            break;
+            return of(DayOfWeek.MONDAY);
         case "tuesday":
         case "tue":
-            this.value = "Tue";
-            break;
+            return of(DayOfWeek.TUESDAY);
         case "wednesday":
         case "wed":
-            this.value = "Wed";
-            break;
+            return of(DayOfWeek.WEDNESDAY);
         case "thursday":
         case "thur":
-            this.value = "Thur";
-            break;
+            return of(DayOfWeek.THURSDAY);
         case "friday":
         case "fri":
-            this.value = "Fri";
-            break;
+            return of(DayOfWeek.FRIDAY);
         case "saturday":
         case "sat":
-            this.value = "Sat";
-            break;
+            return of(DayOfWeek.SATURDAY);
         case "sunday":
         case "sun":
-            this.value = "Sun";
-            break;
+            return of(DayOfWeek.SUNDAY);
         default:
             throw new IllegalArgumentException(MESSAGE_CONSTRAINTS);
         }
     }
 
     public String getValue() {
-        return value;
+        return VALUES[ordinal()];
+    }
+
+    /**
+     * Returns the day of the week this day stands for.
+     */
+    public DayOfWeek toDayOfWeek() {
+        return dayOfWeek;
+    }
+
+    /**
+     * Returns the position of this day in the week, from 0 for Monday to 6 for Sunday.
+     */
+    public int ordinal() {
+        return dayOfWeek.ordinal();
     }
 
     /**
     * Returns true if a given string is a valid day.
     */
     public static boolean isValidDay(String test) {
-        return test.matches(VALIDATION_REGEX);
+        return VALIDATION_PATTERN.matcher(test).matches();
+    }
+
+    @Override
+    public int compareTo(Day other) {
+        return Integer.compare(ordinal(), other.ordinal());
     }
 
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -88,11 +142,11 @@ public class Day {
         }
 
         Day otherDay = (Day) other;
-        return value.equals(otherDay.value);
+        return ordinal() == otherDay.ordinal();
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return ordinal();
     }
 }
@@ -1,6 +1,11 @@
 package seedu.address.model.person;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -8,12 +13,43 @@ import seedu.address.commons.util.ToStringBuilder;
 
 /**
  * Tests that a {@code Person}'s {@code Name} matches any of the keywords given.
+ * A word in the name matches a keyword when it equals the keyword, starts with it, or is within a few typos of it,
+ * depending on the {@link MatchMode}. Matching is case insensitive.
  */
 public class NameContainsKeywordsPredicate implements Predicate<Person> {
+
+    /**
+     * How a keyword is compared with the words of a name.
+     */
+    public enum MatchMode {
+        EXACT, PREFIX, FUZZY
+    }
+
     private final List<String> keywords;
+    private final MatchMode matchMode;
 
     public NameContainsKeywordsPredicate(List<String> keywords) {
+        this(keywords, MatchMode.EXACT);
+    }
+
+    /**
+     * Creates a predicate that compares {@code keywords} with name words using {@code matchMode}.
+     */
+    public NameContainsKeywordsPredicate(List<String> keywords, MatchMode matchMode) {
+        requireNonNull(matchMode);
         this.keywords = keywords;
+        this.matchMode = matchMode;
+    }
+
+    /**
+     * Returns the number of typos tolerated in {@code keyword} by {@link MatchMode#FUZZY}.
+     * Short keywords must match exactly, since a typo in them matches too many unrelated names.
+     */
+    public static int getMaxEdits(String keyword) {
+        if (keyword.length() <= 2) {
+            return 0;
+        }
+        return keyword.length() <= 5 ? 1 : 2;
     }
 
 
@@ -27,8 +63,32 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
 
     @Override
     public boolean test(Person person) {
+        if (matchMode == MatchMode.EXACT) {
+            return keywords.stream()
+                    .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+        }
+
+        String[] words = person.getName().fullName.toLowerCase(Locale.ROOT).split("\\s+");
         return keywords.stream()
-                .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getName().fullName, keyword));
+                .map(keyword -> keyword.trim().toLowerCase(Locale.ROOT))
+                .anyMatch(keyword -> Arrays.stream(words).anyMatch(word -> matchMode == MatchMode.PREFIX
+                        ? word.startsWith(keyword)
+                        : StringUtil.isWithinEditDistance(word, keyword, getMaxEdits(keyword))));
+    }
+
+    /**
+     * Returns the persons in {@code index} whose name contains any of the keywords, without testing each person.
+     * Matches the same persons as {@link #test(Person)}.
+     */
+    public Set<Person> findMatches(PersonSearchIndex index) {
+        switch (matchMode) {
+        case PREFIX:
+            return index.findByNamePrefix(keywords);
+        case FUZZY:
+            return index.findByNameFuzzy(keywords);
+        default:
+            return index.findByName(keywords);
+        }
     }
 
     @Override
@@ -43,11 +103,12 @@ public class NameContainsKeywordsPredicate implements Predicate<Person> {
         }
 
         NameContainsKeywordsPredicate otherNameContainsKeywordsPredicate = (NameContainsKeywordsPredicate) other;
-        return keywords.equals(otherNameContainsKeywordsPredicate.keywords);
+        return keywords.equals(otherNameContainsKeywordsPredicate.keywords)
+                && matchMode == otherNameContainsKeywordsPredicate.matchMode;
     }
 
     @Override
     public String toString() {
-        return new ToStringBuilder(this).add("keywords", keywords).toString();
+        return new ToStringBuilder(this).add("keywords", keywords).add("match mode", matchMode).toString();
     }
 }
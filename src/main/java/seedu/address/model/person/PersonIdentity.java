@@ -0,0 +1,38 @@
+package seedu.address.model.person;
+
+import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
+
+/**
+ * Hash key mirroring {@link Person#isSamePerson(Person)}: names compare case-insensitively, roles exactly.
+ * Two persons have equal identities if and only if they are the same person.
+ */
+public record PersonIdentity(String foldedName, Role role) {
+
+    /**
+     * Returns the identity of {@code person}.
+     */
+    public static PersonIdentity of(Person person) {
+        return of(person.getName(), person.getRole());
+    }
+
+    /**
+     * Returns the identity of a person with the given {@code name} and {@code role}.
+     */
+    public static PersonIdentity of(Name name, Role role) {
+        requireAllNonNull(name, role);
+        return new PersonIdentity(foldCase(name.fullName), role);
+    }
+
+    /**
+     * Returns {@code text} with each character case-folded the way {@link String#equalsIgnoreCase(String)} compares
+     * them, so that two strings fold to the same string if and only if they are equal ignoring case.
+     * {@code toLowerCase} alone would not do, e.g. the Turkish dotless i only matches {@code I} through
+     * its upper case.
+     */
+    static String foldCase(String text) {
+        StringBuilder folded = new StringBuilder(text.length());
+        text.codePoints().forEach(codePoint ->
+                folded.appendCodePoint(Character.toLowerCase(Character.toUpperCase(codePoint))));
+        return folded.toString();
+    }
+}
@@ -0,0 +1,269 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.function.Function;
+import java.util.function.Predicate;
+
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.tag.Tag;
+
+/**
+ * An inverted index from the case-folded words of each person's name, role and tags to the persons that have them.
+ * Keyword searches are answered by looking up each keyword instead of testing every person. Name words are also
+ * kept sorted for prefix searches, and indexed by their bigrams for typo-tolerant searches.
+ *
+ * The index holds the exact person objects it is given and compares them by reference, since persons with the
+ * same fields may still be different entries. It is kept in step with a {@link UniquePersonList}, which must update
+ * it before changing its backing list, so that anything observing the list sees an up-to-date index.
+ */
+public class PersonSearchIndex {
+
+    private static final char GRAM_PADDING = '$';
+
+    // Sorted, so that the words starting with a prefix form one contiguous range
+    private final NavigableMap<String, Set<Person>> nameIndex = new TreeMap<>();
+    // From each padded bigram to the distinct name words containing it, to find candidates for fuzzy matches
+    private final Map<String, Set<String>> nameGramIndex = new HashMap<>();
+    private final Map<String, Set<Person>> roleIndex = new HashMap<>();
+    private final Map<String, Set<Person>> tagIndex = new HashMap<>();
+    // Incremented on every change, so that cached search results can tell when they are out of date
+    private long version;
+
+    /**
+     * Indexes {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        for (String word : getNameWords(person)) {
+            if (put(nameIndex, word, person)) {
+                for (String gram : getGrams(word)) {
+                    nameGramIndex.computeIfAbsent(gram, unused -> new HashSet<>()).add(word);
+                }
+            }
+        }
+        put(roleIndex, fold(person.getRole().role), person);
+        if (person instanceof Student student) {
+            for (Tag tag : student.getTags()) {
+                put(tagIndex, fold(tag.tagName), person);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Removes {@code person}, which must be the same object that was indexed.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        for (String word : getNameWords(person)) {
+            if (take(nameIndex, word, person)) {
+                for (String gram : getGrams(word)) {
+                    Set<String> words = nameGramIndex.get(gram);
+                    words.remove(word);
+                    if (words.isEmpty()) {
+                        nameGramIndex.remove(gram);
+                    }
+                }
+            }
+        }
+        take(roleIndex, fold(person.getRole().role), person);
+        if (person instanceof Student student) {
+            for (Tag tag : student.getTags()) {
+                take(tagIndex, fold(tag.tagName), person);
+            }
+        }
+        version++;
+    }
+
+    /**
+     * Replaces the indexed persons with {@code persons}.
+     */
+    void setAll(Collection<Person> persons) {
+        requireNonNull(persons);
+        nameIndex.clear();
+        nameGramIndex.clear();
+        roleIndex.clear();
+        tagIndex.clear();
+        persons.forEach(this::add);
+        version++;
+    }
+
+    /**
+     * Returns the persons with a word in their name equal to any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findByName(Collection<String> keywords) {
+        return findAny(nameIndex, keywords);
+    }
+
+    /**
+     * Returns the persons with a word in their name starting with any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findByNamePrefix(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = newPersonSet();
+        for (String keyword : keywords) {
+            String prefix = fold(keyword.trim());
+            for (Set<Person> persons : nameIndex.subMap(prefix, true, prefix + Character.MAX_VALUE, false).values()) {
+                matches.addAll(persons);
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons with a word in their name within
+     * {@link NameContainsKeywordsPredicate#getMaxEdits(String)} typos of any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findByNameFuzzy(Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = newPersonSet();
+        for (String keyword : keywords) {
+            String folded = fold(keyword.trim());
+            int maxEdits = NameContainsKeywordsPredicate.getMaxEdits(folded);
+            for (String word : getFuzzyCandidates(folded, maxEdits)) {
+                if (StringUtil.isWithinEditDistance(word, folded, maxEdits)) {
+                    matches.addAll(nameIndex.get(word));
+                }
+            }
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the persons whose role is any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findByRole(Collection<String> keywords) {
+        return findAny(roleIndex, keywords);
+    }
+
+    /**
+     * Returns the students with a tag equal to any of {@code keywords}, ignoring case.
+     */
+    public Set<Person> findByTag(Collection<String> keywords) {
+        return findAny(tagIndex, keywords);
+    }
+
+    /**
+     * Returns a predicate that accepts exactly the persons in the result of {@code search} on this index.
+     * The search is re-run the first time the predicate is used after the index changes, so the predicate stays
+     * correct for persons that are added or edited after it was created.
+     */
+    public Predicate<Person> toPredicate(Function<PersonSearchIndex, Set<Person>> search) {
+        requireNonNull(search);
+        return new Predicate<>() {
+            private long searchedVersion = -1;
+            private Set<Person> matches;
+
+            @Override
+            public boolean test(Person person) {
+                if (searchedVersion != version) {
+                    matches = search.apply(PersonSearchIndex.this);
+                    searchedVersion = version;
+                }
+                return matches.contains(person);
+            }
+        };
+    }
+
+    /**
+     * Returns an empty set that compares persons by reference, like the sets returned by this index.
+     */
+    public static Set<Person> newPersonSet() {
+        return Collections.newSetFromMap(new IdentityHashMap<>());
+    }
+
+    private static Set<Person> findAny(Map<String, Set<Person>> index, Collection<String> keywords) {
+        requireNonNull(keywords);
+        Set<Person> matches = newPersonSet();
+        for (String keyword : keywords) {
+            matches.addAll(index.getOrDefault(fold(keyword.trim()), Collections.emptySet()));
+        }
+        return matches;
+    }
+
+    /**
+     * Returns the name words that may be within {@code maxEdits} typos of {@code keyword}.
+     * Each edit changes at most two of the keyword's padded bigrams, so a match must share all but
+     * {@code 2 * maxEdits} of them. When that rules nothing out, every name word is a candidate.
+     */
+    private Collection<String> getFuzzyCandidates(String keyword, int maxEdits) {
+        Set<String> grams = getGrams(keyword);
+        int minSharedGrams = grams.size() - 2 * maxEdits;
+        if (minSharedGrams <= 0) {
+            return nameIndex.keySet();
+        }
+
+        Map<String, Integer> sharedGramCounts = new HashMap<>();
+        for (String gram : grams) {
+            for (String word : nameGramIndex.getOrDefault(gram, Collections.emptySet())) {
+                sharedGramCounts.merge(word, 1, Integer::sum);
+            }
+        }
+        List<String> candidates = new ArrayList<>();
+        sharedGramCounts.forEach((word, count) -> {
+            if (count >= minSharedGrams) {
+                candidates.add(word);
+            }
+        });
+        return candidates;
+    }
+
+    /**
+     * Returns the distinct bigrams of {@code word} padded at both ends, e.g. "$b", "be", "en" and "n$" for "ben".
+     */
+    private static Set<String> getGrams(String word) {
+        String padded = GRAM_PADDING + word + GRAM_PADDING;
+        Set<String> grams = new HashSet<>();
+        for (int i = 0; i + 2 <= padded.length(); i++) {
+            grams.add(padded.substring(i, i + 2));
+        }
+        return grams;
+    }
+
+    private static String[] getNameWords(Person person) {
+        return fold(person.getName().fullName).split("\\s+");
+    }
+
+    /**
+     * Adds {@code person} under {@code word}, returning true if the word was not in {@code index} before.
+     */
+    private static boolean put(Map<String, Set<Person>> index, String word, Person person) {
+        Set<Person> persons = index.get(word);
+        boolean isNewWord = persons == null;
+        if (isNewWord) {
+            persons = newPersonSet();
+            index.put(word, persons);
+        }
+        persons.add(person);
+        return isNewWord;
+    }
+
+    /**
+     * Removes {@code person} from under {@code word}, returning true if no other person is left under the word.
+     */
+    private static boolean take(Map<String, Set<Person>> index, String word, Person person) {
+        Set<Person> persons = index.get(word);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            index.remove(word);
+            return true;
+        }
+        return false;
+    }
+
+    private static String fold(String word) {
+        return word.toLowerCase(Locale.ROOT);
+    }
+}
@@ -37,7 +37,8 @@ public class Role {
      * Returns true if a given string is a valid role.
      */
     public static boolean isValidRole(String test) {
-        return test.matches(VALIDATION_REGEX);
+        // Equivalent to matching VALIDATION_REGEX, without running a regex for just two values
+        return test.equals("student") || test.equals("parent");
     }
 
     /**
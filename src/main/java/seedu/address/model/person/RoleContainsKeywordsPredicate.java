@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -30,6 +31,14 @@ public class RoleContainsKeywordsPredicate implements Predicate<Person> {
                 .anyMatch(keyword -> StringUtil.containsWordIgnoreCase(person.getRole().role, keyword));
     }
 
+    /**
+     * Returns the persons in {@code index} whose role matches any of the keywords, without testing each person.
+     * Matches the same persons as {@link #test(Person)}.
+     */
+    public Set<Person> findMatches(PersonSearchIndex index) {
+        return index.findByRole(keywords);
+    }
+
     @Override
     public boolean equals(Object other) {
         if (other == this) {
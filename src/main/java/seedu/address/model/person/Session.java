@@ -1,11 +1,18 @@
 package seedu.address.model.person;
 
+import java.time.DayOfWeek;
+
 /**
  * Represents a Person's session in the address book.
+ * A session is kept as one packed {@code int} holding its day, start and end, so that packed sessions sort by day,
+ * then start, then end. Its {@link Day} and {@link Time} are only created when asked for.
  */
 public class Session {
-    private Day day;
-    private Time time;
+    // The packed form holds the day ordinal above the start minute above the end minute
+    private static final int MINUTE_BITS = 11;
+    private static final int MINUTE_MASK = (1 << MINUTE_BITS) - 1;
+
+    private final int packed;
 
     /**
      * Constructs a {@code Session}.
@@ -15,10 +22,11 @@ public class Session {
      *
      */
     public Session(Day day, Time time) {
-        assert day != null;
-        assert time != null;
-        this.day = day;
-        this.time = time;
+        this(pack(day, time));
+    }
+
+    Session(int packed) {
+        this.packed = packed;
     }
 
     /**
@@ -27,7 +35,7 @@ public class Session {
      * @return the {@link Day} object representing the day of the session
      */
     public Day getDay() {
-        return day;
+        return Day.of(DayOfWeek.of(dayOrdinalOf(packed) + 1));
     }
 
     /**
@@ -36,17 +44,57 @@ public class Session {
      * @return the {@link Time} object representing the time of the session
      */
     public Time getTime() {
-        return time;
+        return Time.of(startOf(packed), endOf(packed));
+    }
+
+    /**
+     * Returns the start of this session in minutes after midnight.
+     */
+    public int getStartMinutes() {
+        return startOf(packed);
+    }
+
+    /**
+     * Returns the end of this session in minutes after midnight.
+     */
+    public int getEndMinutes() {
+        return endOf(packed);
     }
 
     /**
      * Returns true if this session overlaps with another session on the same day.
      */
     public boolean isOverlap(Session other) {
-        if (!this.day.equals(other.day)) {
+        if (dayOrdinalOf(packed) != dayOrdinalOf(other.packed)) {
             return false;
         }
-        return this.time.isOverlap(other.time);
+        return getStartMinutes() < other.getEndMinutes() && getEndMinutes() > other.getStartMinutes();
+    }
+
+    int toPacked() {
+        return packed;
+    }
+
+    static int pack(int dayOrdinal, int startMinutes, int endMinutes) {
+        return (dayOrdinal << MINUTE_BITS | startMinutes) << MINUTE_BITS | endMinutes;
+    }
+
+    private static int pack(Day day, Time time) {
+        assert day != null;
+        assert time != null;
+        return pack(day.ordinal(), time.getStartMinutes(), time.getEndMinutes());
+    }
+
+    static int dayOrdinalOf(int packed) {
+        return packed >>> (2 * MINUTE_BITS);
+    }
+
+    static int startOf(int packed) {
+        return packed >>> MINUTE_BITS & MINUTE_MASK;
+    }
+
+    static int endOf(int packed) {
+        return packed & MINUTE_MASK;
     }
 
     /**
@@ -57,7 +105,7 @@ public class Session {
      */
     @Override
     public String toString() {
-        return day.toString() + "-" + "[" + time.toString() + "]";
+        return getDay().toString() + "-" + "[" + getTime().toString() + "]";
     }
 
     @Override
@@ -72,13 +120,11 @@ public class Session {
         }
 
         Session otherSession = (Session) other;
-        return day.equals(otherSession.day) && time.equals(otherSession.time);
+        return packed == otherSession.packed;
     }
 
     @Override
     public int hashCode() {
-        int result = day != null ? day.hashCode() : 0;
-        result = 31 * result + (time != null ? time.hashCode() : 0);
-        return result;
+        return packed;
     }
 }
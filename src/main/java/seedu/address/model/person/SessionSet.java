@@ -0,0 +1,169 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+/**
+ * An immutable set of sessions, kept as the packed form of each session in one sorted {@code int} array instead of as
+ * separate objects. Sessions are created only while iterating, in order of day, then start, then end.
+ * Changes return a new set, leaving this one as it is.
+ */
+public final class SessionSet extends AbstractSet<Session> {
+
+    /** The set with no sessions. */
+    public static final SessionSet EMPTY = new SessionSet(new int[0]);
+
+    // Sorted and without duplicates
+    private final int[] packedSessions;
+
+    private SessionSet(int[] packedSessions) {
+        this.packedSessions = packedSessions;
+    }
+
+    /**
+     * Returns a set of the distinct sessions in {@code sessions}.
+     */
+    public static SessionSet of(Collection<Session> sessions) {
+        requireNonNull(sessions);
+        if (sessions instanceof SessionSet sessionSet) {
+            return sessionSet;
+        }
+        if (sessions.isEmpty()) {
+            return EMPTY;
+        }
+
+        int[] packed = new int[sessions.size()];
+        int count = 0;
+        for (Session session : sessions) {
+            packed[count++] = session.toPacked();
+        }
+        Arrays.sort(packed, 0, count);
+
+        int distinctCount = 0;
+        for (int i = 0; i < count; i++) {
+            if (distinctCount == 0 || packed[i] != packed[distinctCount - 1]) {
+                packed[distinctCount++] = packed[i];
+            }
+        }
+        return new SessionSet(distinctCount == packed.length ? packed : Arrays.copyOf(packed, distinctCount));
+    }
+
+    /**
+     * Returns a set of these sessions and {@code session}.
+     */
+    public SessionSet with(Session session) {
+        requireNonNull(session);
+        int index = Arrays.binarySearch(packedSessions, session.toPacked());
+        if (index >= 0) {
+            return this;
+        }
+
+        int insertionPoint = -index - 1;
+        int[] packed = new int[packedSessions.length + 1];
+        System.arraycopy(packedSessions, 0, packed, 0, insertionPoint);
+        packed[insertionPoint] = session.toPacked();
+        System.arraycopy(packedSessions, insertionPoint, packed, insertionPoint + 1,
+                packedSessions.length - insertionPoint);
+        return new SessionSet(packed);
+    }
+
+    /**
+     * Returns a set of these sessions without {@code session}.
+     */
+    public SessionSet without(Session session) {
+        requireNonNull(session);
+        int index = Arrays.binarySearch(packedSessions, session.toPacked());
+        if (index < 0) {
+            return this;
+        }
+        if (packedSessions.length == 1) {
+            return EMPTY;
+        }
+
+        int[] packed = new int[packedSessions.length - 1];
+        System.arraycopy(packedSessions, 0, packed, 0, index);
+        System.arraycopy(packedSessions, index + 1, packed, index, packed.length - index);
+        return new SessionSet(packed);
+    }
+
+    /**
+     * Returns true if any of these sessions overlaps {@code session}.
+     */
+    public boolean overlapsAny(Session session) {
+        requireNonNull(session);
+        int day = Session.dayOrdinalOf(session.toPacked());
+        // The sessions on the same day that start before this one ends form one run of the sorted array
+        int from = lowerBound(Session.pack(day, 0, 0));
+        int to = lowerBound(Session.pack(day, session.getEndMinutes(), 0));
+        for (int i = from; i < to; i++) {
+            if (Session.endOf(packedSessions[i]) > session.getStartMinutes()) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Returns the index of the first packed session not less than {@code packed}.
+     */
+    private int lowerBound(int packed) {
+        int index = Arrays.binarySearch(packedSessions, packed);
+        return index >= 0 ? index : -index - 1;
+    }
+
+    @Override
+    public boolean contains(Object other) {
+        return other instanceof Session session && Arrays.binarySearch(packedSessions, session.toPacked()) >= 0;
+    }
+
+    @Override
+    public int size() {
+        return packedSessions.length;
+    }
+
+    @Override
+    public Iterator<Session> iterator() {
+        return new Iterator<>() {
+            private int next;
+
+            @Override
+            public boolean hasNext() {
+                return next < packedSessions.length;
+            }
+
+            @Override
+            public Session next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return new Session(packedSessions[next++]);
+            }
+        };
+    }
+
+    @Override
+    public boolean equals(Object other) {
+        if (other == this) {
+            return true;
+        }
+        if (other instanceof SessionSet otherSessionSet) {
+            return Arrays.equals(packedSessions, otherSessionSet.packedSessions);
+        }
+        return super.equals(other);
+    }
+
+    @Override
+    public int hashCode() {
+        // The sum of the hash codes of the sessions, as for any set, without creating them
+        int hashCode = 0;
+        for (int packed : packedSessions) {
+            hashCode += packed;
+        }
+        return hashCode;
+    }
+}
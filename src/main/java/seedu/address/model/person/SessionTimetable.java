@@ -0,0 +1,219 @@
+package seedu.address.model.person;
+
+import static java.util.Objects.requireNonNull;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+import seedu.address.model.session.IntervalTree;
+import seedu.address.model.session.IntervalTree.Interval;
+import seedu.address.model.session.SessionSlot;
+
+/**
+ * A weekly timetable of the sessions of every person, indexed by day of the week and start time.
+ * Reading the students with sessions on a day is a lookup of that day's entries, already in start time order,
+ * instead of a scan over every person's sessions. Each day also keeps an {@link IntervalTree} of its sessions, to
+ * find the sessions overlapping a given time.
+ *
+ * Like {@link PersonSearchIndex}, the timetable holds the exact person objects it is given and is kept in step with a
+ * {@link UniquePersonList}, which updates it before changing its backing list.
+ */
+public class SessionTimetable {
+
+    /** Start of day used to sort persons without a session on the day last. */
+    public static final int NO_SESSION = Integer.MAX_VALUE;
+
+    // Legacy session slots have a start but no end, so they are taken to run to the end of the day
+    private static final int NO_END = 24 * 60;
+
+    // For each day, the persons starting a session at each minute of the day
+    private final Map<DayOfWeek, NavigableMap<Integer, Set<Person>>> startsByDay = new EnumMap<>(DayOfWeek.class);
+    // For each day, the earliest start of every person with a session on that day
+    private final Map<DayOfWeek, Map<Person, Integer>> earliestStartsByDay = new EnumMap<>(DayOfWeek.class);
+    // For each day, the start and end of every session, for finding sessions that overlap a time
+    private final Map<DayOfWeek, IntervalTree<Person>> sessionsByDay = new EnumMap<>(DayOfWeek.class);
+
+    /**
+     * Creates an empty timetable.
+     */
+    public SessionTimetable() {
+        for (DayOfWeek day : DayOfWeek.values()) {
+            startsByDay.put(day, new TreeMap<>());
+            earliestStartsByDay.put(day, new IdentityHashMap<>());
+            sessionsByDay.put(day, new IntervalTree<>());
+        }
+    }
+
+    /**
+     * Adds the sessions of {@code person}.
+     */
+    void add(Person person) {
+        requireNonNull(person);
+        person.getSessionSlot().ifPresent(slot -> addSession(person, slot.getDay(), toMinutes(slot), NO_END));
+        if (person instanceof Student student) {
+            for (Session session : student.getSessions()) {
+                addSession(person, session.getDay().toDayOfWeek(), session.getStartMinutes(),
+                        session.getEndMinutes());
+            }
+        }
+    }
+
+    /**
+     * Removes the sessions of {@code person}, which must be the same object that was added.
+     */
+    void remove(Person person) {
+        requireNonNull(person);
+        person.getSessionSlot().ifPresent(slot -> removeSession(person, slot.getDay(), toMinutes(slot), NO_END));
+        if (person instanceof Student student) {
+            for (Session session : student.getSessions()) {
+                removeSession(person, session.getDay().toDayOfWeek(), session.getStartMinutes(),
+                        session.getEndMinutes());
+            }
+        }
+    }
+
+    /**
+     * Replaces the timetable with the sessions of {@code persons}.
+     */
+    void setAll(Collection<Person> persons) {
+        requireNonNull(persons);
+        startsByDay.values().forEach(Map::clear);
+        earliestStartsByDay.values().forEach(Map::clear);
+        sessionsByDay.values().forEach(IntervalTree::clear);
+        persons.forEach(this::add);
+    }
+
+    /**
+     * Returns true if {@code person} has a session on {@code day}.
+     */
+    public boolean hasSessionOn(DayOfWeek day, Person person) {
+        return earliestStartsByDay.get(day).containsKey(person);
+    }
+
+    /**
+     * Returns the persons with a session on {@code day}, ordered by their earliest start on that day, then by name.
+     */
+    public List<Person> getPersonsOn(DayOfWeek day) {
+        Map<Person, Integer> earliestStarts = earliestStartsByDay.get(day);
+        List<Person> persons = new ArrayList<>(earliestStarts.size());
+        for (Map.Entry<Integer, Set<Person>> entry : startsByDay.get(day).entrySet()) {
+            int start = entry.getKey();
+            List<Person> startingNow = new ArrayList<>();
+            for (Person person : entry.getValue()) {
+                // Only count each person at their first session of the day
+                if (earliestStarts.get(person) == start) {
+                    startingNow.add(person);
+                }
+            }
+            startingNow.sort(Comparator.comparing(person -> person.getName().fullName,
+                    String.CASE_INSENSITIVE_ORDER));
+            persons.addAll(startingNow);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns the earliest start, in minutes after midnight, of the sessions of {@code person} on {@code day},
+     * or {@link #NO_SESSION} if there are none.
+     * Reads the person's own sessions, so the result does not depend on what the timetable holds.
+     */
+    public static int getEarliestStart(Person person, DayOfWeek day) {
+        int earliest = NO_SESSION;
+        if (person.getSessionSlot().isPresent() && person.getSessionSlot().get().getDay() == day) {
+            earliest = toMinutes(person.getSessionSlot().get());
+        }
+        if (person instanceof Student student) {
+            for (Session session : student.getSessions()) {
+                if (session.getDay().toDayOfWeek() == day) {
+                    earliest = Math.min(earliest, session.getStartMinutes());
+                }
+            }
+        }
+        return earliest;
+    }
+
+    /**
+     * Returns the sessions on {@code day} that overlap {@code [start, end)} minutes after midnight, with the person
+     * each belongs to, ordered by start.
+     */
+    public List<Interval<Person>> getSessionsOverlapping(DayOfWeek day, int start, int end) {
+        return sessionsByDay.get(day).findOverlapping(start, end);
+    }
+
+    /**
+     * Returns the largest number of sessions on {@code day} running at the same time within {@code [start, end)}
+     * minutes after midnight, leaving out the sessions of {@code excluded}, which may be null.
+     */
+    public int getPeakLoad(DayOfWeek day, int start, int end, Person excluded) {
+        // +1 at each clipped start and -1 at each clipped end, with ends sorted before starts at the same minute
+        List<Integer> changes = new ArrayList<>();
+        for (Interval<Person> session : getSessionsOverlapping(day, start, end)) {
+            if (session.value() != excluded) {
+                changes.add(2 * Math.max(session.start(), start) + 1);
+                changes.add(2 * Math.min(session.end(), end));
+            }
+        }
+        changes.sort(null);
+
+        int load = 0;
+        int peakLoad = 0;
+        for (int change : changes) {
+            load += change % 2 == 1 ? 1 : -1;
+            peakLoad = Math.max(peakLoad, load);
+        }
+        return peakLoad;
+    }
+
+    /**
+     * Returns the gaps between sessions on {@code day} within {@code openingHours} that last at least
+     * {@code minDuration} minutes, in order.
+     */
+    public List<Time> getFreeSlots(DayOfWeek day, Time openingHours, int minDuration) {
+        requireNonNull(openingHours);
+        int opening = openingHours.getStartMinutes();
+        int closing = openingHours.getEndMinutes();
+        List<Time> freeSlots = new ArrayList<>();
+
+        // The sessions come ordered by start, so one pass tracking the latest end so far finds every gap
+        int freeFrom = opening;
+        for (Interval<Person> session : getSessionsOverlapping(day, opening, closing)) {
+            if (session.start() - freeFrom >= minDuration) {
+                freeSlots.add(Time.of(freeFrom, session.start()));
+            }
+            freeFrom = Math.max(freeFrom, session.end());
+        }
+        if (closing - freeFrom >= minDuration) {
+            freeSlots.add(Time.of(freeFrom, closing));
+        }
+        return freeSlots;
+    }
+
+    private void addSession(Person person, DayOfWeek day, int start, int end) {
+        startsByDay.get(day).computeIfAbsent(start, unused -> PersonSearchIndex.newPersonSet()).add(person);
+        earliestStartsByDay.get(day).merge(person, start, Math::min);
+        sessionsByDay.get(day).insert(start, end, person);
+    }
+
+    private void removeSession(Person person, DayOfWeek day, int start, int end) {
+        sessionsByDay.get(day).remove(start, end, person);
+        NavigableMap<Integer, Set<Person>> starts = startsByDay.get(day);
+        Set<Person> persons = starts.get(start);
+        if (persons != null && persons.remove(person) && persons.isEmpty()) {
+            starts.remove(start);
+        }
+        earliestStartsByDay.get(day).remove(person);
+    }
+
+    private static int toMinutes(SessionSlot slot) {
+        return slot.getStart().getHour() * 60 + slot.getStart().getMinute();
+    }
+}
@@ -13,7 +13,7 @@ import seedu.address.model.tag.Tag;
  * Guarantees: details are present and not null, field values are validated, immutable.
  */
 public class Student extends Person {
-    protected final Set<Session> sessions;
+    protected final SessionSet sessions;
     private final Set<Tag> tags = new HashSet<>();
 
     // Allow parent to be null
@@ -32,7 +32,7 @@ public class Student extends Person {
     public Student(Name name, Phone phone, Address address, Remark remark, Set<Tag> tags) {
         super(name, phone, address, Role.STUDENT_ROLE, remark);
         this.tags.addAll(tags);
-        this.sessions = new HashSet<>();
+        this.sessions = SessionSet.EMPTY;
     }
 
     /**
@@ -49,7 +49,7 @@ public class Student extends Person {
     public Student(Name name, Phone phone, Address address, Remark remark, Set<Tag> tags, Set<Session> sessions) {
         super(name, phone, address, Role.STUDENT_ROLE, remark);
         this.tags.addAll(tags);
-        this.sessions = sessions;
+        this.sessions = SessionSet.of(sessions);
     }
 
     /**
@@ -68,7 +68,7 @@ public class Student extends Person {
             Set<Session> sessions, Name parentName) {
         super(name, phone, address, Role.STUDENT_ROLE, remark);
         this.tags.addAll(tags);
-        this.sessions = sessions;
+        this.sessions = SessionSet.of(sessions);
         this.parentName = parentName;
     }
 
@@ -79,7 +79,7 @@ public class Student extends Person {
      */
     public Student(Name name) {
         super(name, Role.STUDENT_ROLE);
-        this.sessions = new HashSet<>();
+        this.sessions = SessionSet.EMPTY;
     }
 
     /**
@@ -89,7 +89,7 @@ public class Student extends Person {
      */
     public Student(Student student, Remark remark) {
         super(student.name, student.phone, student.address, Role.STUDENT_ROLE, remark);
-        this.sessions = Set.copyOf(student.getSessions());
+        this.sessions = student.sessions;
         this.tags.addAll(Set.copyOf(student.tags));
         this.myParent = student.myParent;
         this.parentName = student.parentName;
@@ -106,8 +106,8 @@ public class Student extends Person {
      * Returns an immutable session set, which throws {@code UnsupportedOperationException}
      * if modification is attempted.
      */
-    public Set<Session> getSessions() {
-        return Collections.unmodifiableSet(sessions);
+    public SessionSet getSessions() {
+        return sessions;
     }
 
     public boolean hasSession(Session session) {
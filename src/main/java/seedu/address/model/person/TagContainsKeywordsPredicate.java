@@ -1,6 +1,7 @@
 package seedu.address.model.person;
 
 import java.util.List;
+import java.util.Set;
 import java.util.function.Predicate;
 
 import seedu.address.commons.util.StringUtil;
@@ -43,6 +44,14 @@ public class TagContainsKeywordsPredicate implements Predicate<Person> {
                         .anyMatch(tag -> StringUtil.containsWordIgnoreCase(tag.tagName, keyword)));
     }
 
+    /**
+     * Returns the persons in {@code index} with a tag matching any of the keywords, without testing each person.
+     * Matches the same persons as {@link #test(Person)}.
+     */
+    public Set<Person> findMatches(PersonSearchIndex index) {
+        return index.findByTag(keywords);
+    }
+
     /**
      * Returns true if the other is a {@code TagContainsKeywordsPredicate} that represents the same testing logic as
      *     this object.
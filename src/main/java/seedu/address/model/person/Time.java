@@ -11,17 +11,27 @@ import static seedu.address.commons.util.AppUtil.checkArgument;
  *
  * <p>Hours must be between 1 and 12, and minutes, if present, must be between 00 and 59.</p>
  * <p>Start time must be earlier than end time.</p>
+ *
+ * <p>Only the start and end in minutes after midnight are kept. The text is written out again in lower case, leaving
+ * out the minutes on the hour, whenever it is needed, so times typed differently for the same range are equal.</p>
+ *
+ * <p>Guarantees: immutable; is valid as declared in {@link #isValidTime(String)}, unless created with
+ * {@link #ofTrusted(String)}, which only checks that the start and end can be read.</p>
  */
 public class Time {
     public static final String MESSAGE_CONSTRAINTS =
         "Time should be in 12-hour format without leading zeros, e.g., 3pm-5pm or 9:30AM-11:45AM\n"
                 + "Start time should not be greater than end time";
 
+    /*
+     * The format accepted by isValidTime, which checks it with a hand-written parser instead of this regex.
+     */
     public static final String VALIDATION_REGEX =
             "^([1-9]|1[0-2])(:[0-5][0-9])?(am|pm|AM|PM)-([1-9]|1[0-2])(:[0-5][0-9])?(am|pm|AM|PM)$";
 
+    private static final int INVALID_MINUTES = -1;
+    private static final int MINUTES_PER_DAY = 24 * 60;
 
-    private final String value;
     private final int startTime;
     private final int endTime;
 
@@ -32,42 +42,74 @@ public class Time {
      *
      */
     public Time(String time) {
+        this(time, false);
+    }
+
+    private Time(String time, boolean isTrusted) {
         requireNonNull(time);
-        checkArgument(isValidTime(time), MESSAGE_CONSTRAINTS);
+        int separatorIndex = time.indexOf('-');
+        int startMinutes = toMinutes(time, 0, separatorIndex);
+        int endMinutes = toMinutes(time, separatorIndex + 1, time.length());
+        // A trusted time still has to be read, since only its minutes are kept; only the order goes unchecked
+        checkArgument(startMinutes != INVALID_MINUTES && endMinutes != INVALID_MINUTES, MESSAGE_CONSTRAINTS);
+        checkArgument(isTrusted || isValidRange(startMinutes, endMinutes), MESSAGE_CONSTRAINTS);
 
-        String[] timeParts = time.split("-");
-        int startMinutes = toMinutes(timeParts[0]);
-        int endMinutes = toMinutes(timeParts[1]);
-        this.value = time;
         this.startTime = startMinutes;
         this.endTime = endMinutes;
     }
 
+    private Time(int startMinutes, int endMinutes) {
+        this.startTime = startMinutes;
+        this.endTime = endMinutes;
+    }
+
+    /**
+     * Returns a {@code Time} for {@code time} without checking that it starts before it ends.
+     * Only for times already known to be valid, such as those read back from a data file this app wrote.
+     *
+     * @throws IllegalArgumentException if the start or end of {@code time} cannot be read.
+     */
+    public static Time ofTrusted(String time) {
+        return new Time(time, true);
+    }
+
+    /**
+     * Returns a {@code Time} from {@code startMinutes} to {@code endMinutes} after midnight.
+     */
+    public static Time of(int startMinutes, int endMinutes) {
+        checkArgument(0 <= startMinutes && startMinutes < endMinutes && endMinutes < MINUTES_PER_DAY,
+                MESSAGE_CONSTRAINTS);
+        return new Time(startMinutes, endMinutes);
+    }
+
     public int getStartMinutes() {
         return startTime;
     }
 
+    public int getEndMinutes() {
+        return endTime;
+    }
+
     /**
-     * Returns the string value of this object.
+     * Returns the string value of this object, in the same format users type, e.g. "9:30am-12pm".
      *
-     * @return the underlying string value
+     * @return the time written out
      */
     public String getValue() {
-        return value;
+        return formatMinutes(startTime) + "-" + formatMinutes(endTime);
     }
 
     /**
     * Returns true if a given string is a valid time.
     */
     public static boolean isValidTime(String test) {
-        if (!test.matches(VALIDATION_REGEX)) {
-            return false;
-        }
+        int separatorIndex = test.indexOf('-');
+        return isValidRange(toMinutes(test, 0, separatorIndex),
+                toMinutes(test, separatorIndex + 1, test.length()));
+    }
 
-        String[] timeParts = test.split("-");
-        int startMinutes = toMinutes(timeParts[0]);
-        int endMinutes = toMinutes(timeParts[1]);
-        return endMinutes > startMinutes;
+    private static boolean isValidRange(int startMinutes, int endMinutes) {
+        return startMinutes != INVALID_MINUTES && endMinutes != INVALID_MINUTES && endMinutes > startMinutes;
     }
 
     /**
@@ -78,18 +120,55 @@ public class Time {
     }
 
     /**
-     * Converts a 12-hour time to minutes since midnight.
+     * Converts the 12-hour time in {@code text} between {@code from} (inclusive) and {@code to} (exclusive)
+     * to minutes since midnight, without allocating.
+     * Returns {@code INVALID_MINUTES} if that part of {@code text} is not a single time in the format of
+     * {@link #VALIDATION_REGEX}.
      */
-    private static int toMinutes(String input) {
-        String time = input.toLowerCase();
-        boolean isPm = time.endsWith("pm");
-        String updatedTime = time.replaceAll("(?i)(am|pm)", "");
+    private static int toMinutes(String text, int from, int to) {
+        if (from < 0 || to - from < 3) {
+            return INVALID_MINUTES;
+        }
+
+        int index = from;
+        int hour = digitAt(text, index++);
+        if (hour < 1) {
+            return INVALID_MINUTES;
+        }
+        if (hour == 1 && digitAt(text, index) >= 0) {
+            int secondDigit = digitAt(text, index++);
+            if (secondDigit > 2) {
+                return INVALID_MINUTES;
+            }
+            hour = 10 + secondDigit;
+        }
 
-        String[] parts = updatedTime.split(":");
-        int hour = Integer.parseInt(parts[0]);
         int minute = 0;
-        if (parts.length == 2) {
-            minute = Integer.parseInt(parts[1]);
+        if (index < to && text.charAt(index) == ':') {
+            if (to - index < 3) {
+                return INVALID_MINUTES;
+            }
+            int tens = digitAt(text, index + 1);
+            int ones = digitAt(text, index + 2);
+            if (tens < 0 || tens > 5 || ones < 0) {
+                return INVALID_MINUTES;
+            }
+            minute = tens * 10 + ones;
+            index += 3;
+        }
+
+        if (to - index != 2) {
+            return INVALID_MINUTES;
+        }
+        char first = text.charAt(index);
+        char second = text.charAt(index + 1);
+        boolean isPm;
+        if (first == 'a' && second == 'm' || first == 'A' && second == 'M') {
+            isPm = false;
+        } else if (first == 'p' && second == 'm' || first == 'P' && second == 'M') {
+            isPm = true;
+        } else {
+            return INVALID_MINUTES;
         }
 
         if (hour == 12) {
@@ -103,9 +182,31 @@ public class Time {
         return hour * 60 + minute;
     }
 
+    /**
+     * Converts {@code minutes} since midnight to 12-hour time, leaving out the minutes on the hour.
+     */
+    private static String formatMinutes(int minutes) {
+        int hour = minutes / 60 % 12 == 0 ? 12 : minutes / 60 % 12;
+        String suffix = minutes < 12 * 60 ? "am" : "pm";
+        return minutes % 60 == 0
+                ? hour + suffix
+                : String.format("%d:%02d%s", hour, minutes % 60, suffix);
+    }
+
+    /**
+     * Returns the value of the decimal digit at {@code index} in {@code text}, or -1 if there is none.
+     */
+    private static int digitAt(String text, int index) {
+        if (index >= text.length()) {
+            return -1;
+        }
+        char c = text.charAt(index);
+        return c >= '0' && c <= '9' ? c - '0' : -1;
+    }
+
     @Override
     public String toString() {
-        return value;
+        return getValue();
     }
 
     @Override
@@ -120,11 +221,11 @@ public class Time {
         }
 
         Time otherTime = (Time) other;
-        return value.equals(otherTime.value);
+        return startTime == otherTime.startTime && endTime == otherTime.endTime;
     }
 
     @Override
     public int hashCode() {
-        return value.hashCode();
+        return startTime * MINUTES_PER_DAY + endTime;
     }
 }
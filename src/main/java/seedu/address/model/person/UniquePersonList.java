@@ -3,8 +3,11 @@ package seedu.address.model.person;
 import static java.util.Objects.requireNonNull;
 import static seedu.address.commons.util.CollectionUtil.requireAllNonNull;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javafx.collections.FXCollections;
@@ -21,6 +24,12 @@ import seedu.address.model.person.exceptions.PersonNotFoundException;
  *
  * Supports a minimal set of list operations.
  *
+ * Identity checks are answered from a hash index keyed on {@link PersonIdentity}, which is kept in step with
+ * the backing list on every mutation, so {@code contains}, {@code add} and {@code setPerson} do not scan the list.
+ * The same index doubles as the parent-by-name registry used when linking students to their parents.
+ * A {@link PersonSearchIndex} over names, roles and tags and a {@link SessionTimetable} of sessions by day are kept in
+ * step the same way, ahead of the backing list, for keyword searches and timetable views.
+ *
  * @see Person#isSamePerson(Person)
  */
 public class UniquePersonList implements Iterable<Person> {
@@ -28,13 +37,17 @@ public class UniquePersonList implements Iterable<Person> {
     private final ObservableList<Person> internalList = FXCollections.observableArrayList();
     private final ObservableList<Person> internalUnmodifiableList =
             FXCollections.unmodifiableObservableList(internalList);
+    // Secondary index over internalList, keyed by identity
+    private final Map<PersonIdentity, Person> identityIndex = new HashMap<>();
+    private final PersonSearchIndex searchIndex = new PersonSearchIndex();
+    private final SessionTimetable sessionTimetable = new SessionTimetable();
 
     /**
      * Returns true if the list contains an equivalent person as the given argument.
      */
     public boolean contains(Person toCheck) {
         requireNonNull(toCheck);
-        return internalList.stream().anyMatch(toCheck::isSamePerson);
+        return identityIndex.containsKey(PersonIdentity.of(toCheck));
     }
 
     /**
@@ -46,7 +59,10 @@ public class UniquePersonList implements Iterable<Person> {
         if (contains(toAdd)) {
             throw new DuplicatePersonException();
         }
+        searchIndex.add(toAdd);
+        sessionTimetable.add(toAdd);
         internalList.add(toAdd);
+        identityIndex.put(PersonIdentity.of(toAdd), toAdd);
     }
 
     /**
@@ -66,7 +82,13 @@ public class UniquePersonList implements Iterable<Person> {
             throw new DuplicatePersonException();
         }
 
-        internalList.set(index, editedPerson);
+        searchIndex.remove(internalList.get(index));
+        searchIndex.add(editedPerson);
+        sessionTimetable.remove(internalList.get(index));
+        sessionTimetable.add(editedPerson);
+        Person replaced = internalList.set(index, editedPerson);
+        identityIndex.remove(PersonIdentity.of(replaced));
+        identityIndex.put(PersonIdentity.of(editedPerson), editedPerson);
 
         // Since person is directly replaced, we need to
         // destroy the old links of the old object
@@ -96,16 +118,11 @@ public class UniquePersonList implements Iterable<Person> {
         if (!student.hasParent()) {
             return;
         }
-        Name parentName = student.getParentName();
-        internalList.stream()
-                .filter(p -> p instanceof Parent)
-                .filter(p -> p.getName().equals(parentName))
-                .findFirst()
-                .ifPresent(p -> {
-                    Parent parent = (Parent) p;
-                    student.setParent(parent);
-                    parent.addChild(student);
-                });
+        Parent parent = findParent(student.getParentName());
+        if (parent != null) {
+            student.setParent(parent);
+            parent.addChild(student);
+        }
     }
 
     /**
@@ -118,17 +135,12 @@ public class UniquePersonList implements Iterable<Person> {
         if (!student.hasParent()) {
             return;
         }
-        Name parentName = student.getParentName();
-        internalList.stream()
-                .filter(p -> p instanceof Parent)
-                .filter(p -> p.getName().equals(parentName))
-                .findFirst()
-                .ifPresent(p -> {
-                    Parent parent = (Parent) p;
-                    student.setParent(null);
-                    student.setParentName(null);
-                    parent.removeChild(student);
-                });
+        Parent parent = findParent(student.getParentName());
+        if (parent != null) {
+            student.setParent(null);
+            student.setParentName(null);
+            parent.removeChild(student);
+        }
     }
 
     /**
@@ -136,12 +148,22 @@ public class UniquePersonList implements Iterable<Person> {
      * Used when loading data from the JSON file.
      */
     public void resolveAllParentLinks() {
-        internalList.stream()
-                .filter(p -> p instanceof Student)
-                .map(p -> (Student) p)
-                .filter(Student::hasParent)
-                .forEach(this::resolveParentLink);
+        for (Person person : internalList) {
+            if (person instanceof Student student) {
+                resolveParentLink(student);
+            }
+        }
     }
+
+    /**
+     * Returns the Parent in the list with the given name, or null if there is none.
+     * Parents are looked up through the identity index, so this does not scan the list.
+     */
+    private Parent findParent(Name parentName) {
+        Person match = identityIndex.get(PersonIdentity.of(parentName, Role.PARENT_ROLE));
+        return match instanceof Parent parent ? parent : null;
+    }
+
     /**
      * Destroys a link between a given Student and its specified Parent in the list.
      *
@@ -162,14 +184,23 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void remove(Person toRemove) {
         requireNonNull(toRemove);
-        if (!internalList.remove(toRemove)) {
+        int index = internalList.indexOf(toRemove);
+        if (index == -1) {
             throw new PersonNotFoundException();
         }
+        searchIndex.remove(internalList.get(index));
+        sessionTimetable.remove(internalList.get(index));
+        internalList.remove(index);
+        identityIndex.remove(PersonIdentity.of(toRemove));
     }
 
     public void setPersons(UniquePersonList replacement) {
         requireNonNull(replacement);
+        searchIndex.setAll(replacement.internalList);
+        sessionTimetable.setAll(replacement.internalList);
         internalList.setAll(replacement.internalList);
+        identityIndex.clear();
+        identityIndex.putAll(replacement.identityIndex);
     }
 
     /**
@@ -178,11 +209,32 @@ public class UniquePersonList implements Iterable<Person> {
      */
     public void setPersons(List<Person> persons) {
         requireAllNonNull(persons);
-        if (!personsAreUnique(persons)) {
-            throw new DuplicatePersonException();
+        List<String> duplicatePairs = findDuplicatePairs(persons);
+        if (!duplicatePairs.isEmpty()) {
+            throw new DuplicatePersonException(duplicatePairs);
         }
 
+        searchIndex.setAll(persons);
+        sessionTimetable.setAll(persons);
         internalList.setAll(persons);
+        identityIndex.clear();
+        for (Person person : persons) {
+            identityIndex.put(PersonIdentity.of(person), person);
+        }
+    }
+
+    /**
+     * Returns the keyword search index over this list.
+     */
+    public PersonSearchIndex getSearchIndex() {
+        return searchIndex;
+    }
+
+    /**
+     * Returns the weekly session timetable of this list.
+     */
+    public SessionTimetable getSessionTimetable() {
+        return sessionTimetable;
     }
 
     /**
@@ -223,16 +275,20 @@ public class UniquePersonList implements Iterable<Person> {
     }
 
     /**
-     * Returns true if {@code persons} contains only unique persons.
+     * Returns every pair of persons in {@code persons} that share an identity, described as
+     * "FIRST (role) and SECOND (role)". Each later duplicate is paired with the first person of its identity.
+     * An empty list means {@code persons} contains only unique persons.
      */
-    private boolean personsAreUnique(List<Person> persons) {
-        for (int i = 0; i < persons.size() - 1; i++) {
-            for (int j = i + 1; j < persons.size(); j++) {
-                if (persons.get(i).isSamePerson(persons.get(j))) {
-                    return false;
-                }
+    private static List<String> findDuplicatePairs(List<Person> persons) {
+        Map<PersonIdentity, Person> firstSeen = new HashMap<>(persons.size() * 2);
+        List<String> duplicatePairs = new ArrayList<>();
+        for (Person person : persons) {
+            Person first = firstSeen.putIfAbsent(PersonIdentity.of(person), person);
+            if (first != null) {
+                duplicatePairs.add(first.getName() + " (" + first.getRole() + ") and "
+                        + person.getName() + " (" + person.getRole() + ")");
             }
         }
-        return true;
+        return duplicatePairs;
     }
 }
@@ -1,11 +1,24 @@
 package seedu.address.model.person.exceptions;
 
+import java.util.List;
+
 /**
  * Signals that the operation will result in duplicate Persons (Persons are considered duplicates if they have the same
  * identity).
  */
 public class DuplicatePersonException extends RuntimeException {
+    public static final String MESSAGE = "Operation would result in duplicate persons";
+
     public DuplicatePersonException() {
-        super("Operation would result in duplicate persons");
+        super(MESSAGE);
+    }
+
+    /**
+     * Creates an exception that lists every offending pair of persons.
+     *
+     * @param duplicatePairs human-readable descriptions of each clashing pair
+     */
+    public DuplicatePersonException(List<String> duplicatePairs) {
+        super(MESSAGE + ": " + String.join("; ", duplicatePairs));
     }
 }
@@ -0,0 +1,224 @@
+package seedu.address.model.session;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * A set of half-open integer intervals {@code [start, end)} with a value attached to each, that finds every interval
+ * overlapping a query in O(log n + k) time for n intervals and k matches.
+ *
+ * It is a height-balanced binary search tree ordered by start then end, where every node also records the largest
+ * end in its subtree, so that subtrees ending before the query are skipped. Values sharing an interval are kept
+ * together in one node, and are compared by reference when removed.
+ *
+ * @param <T> type of the values attached to intervals
+ */
+public class IntervalTree<T> {
+
+    private static final String MESSAGE_INVALID_INTERVAL = "Interval should end after it starts";
+
+    private Node<T> root;
+    private int size;
+
+    /**
+     * An interval with its value, as returned from a query.
+     */
+    public record Interval<T>(int start, int end, T value) {}
+
+    /**
+     * Adds {@code value} over {@code [start, end)}.
+     */
+    public void insert(int start, int end, T value) {
+        checkArgument(start < end, MESSAGE_INVALID_INTERVAL);
+        root = insertInto(root, start, end, value);
+        size++;
+    }
+
+    /**
+     * Removes {@code value}, which must be the same object that was inserted over {@code [start, end)}.
+     * Returns true if it was found.
+     */
+    public boolean remove(int start, int end, T value) {
+        int oldSize = size;
+        root = removeFrom(root, start, end, value);
+        return size < oldSize;
+    }
+
+    /**
+     * Removes every interval.
+     */
+    public void clear() {
+        root = null;
+        size = 0;
+    }
+
+    /**
+     * Returns the number of intervals in the tree.
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns the intervals overlapping {@code [start, end)}, ordered by start then end.
+     */
+    public List<Interval<T>> findOverlapping(int start, int end) {
+        List<Interval<T>> overlapping = new ArrayList<>();
+        collectOverlapping(root, start, end, overlapping);
+        return overlapping;
+    }
+
+    private static <T> void collectOverlapping(Node<T> node, int start, int end, List<Interval<T>> overlapping) {
+        if (node == null || node.maxEnd <= start) {
+            return;
+        }
+        collectOverlapping(node.left, start, end, overlapping);
+        if (node.start >= end) {
+            // Everything to the right starts even later
+            return;
+        }
+        if (node.end > start) {
+            for (T value : node.values) {
+                overlapping.add(new Interval<>(node.start, node.end, value));
+            }
+        }
+        collectOverlapping(node.right, start, end, overlapping);
+    }
+
+    private Node<T> insertInto(Node<T> node, int start, int end, T value) {
+        if (node == null) {
+            Node<T> created = new Node<>(start, end);
+            created.values.add(value);
+            return created;
+        }
+        int comparison = node.compareTo(start, end);
+        if (comparison == 0) {
+            node.values.add(value);
+            return node;
+        }
+        if (comparison > 0) {
+            node.left = insertInto(node.left, start, end, value);
+        } else {
+            node.right = insertInto(node.right, start, end, value);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> removeFrom(Node<T> node, int start, int end, T value) {
+        if (node == null) {
+            return null;
+        }
+        int comparison = node.compareTo(start, end);
+        if (comparison > 0) {
+            node.left = removeFrom(node.left, start, end, value);
+        } else if (comparison < 0) {
+            node.right = removeFrom(node.right, start, end, value);
+        } else {
+            if (!node.values.removeIf(existing -> existing == value)) {
+                return node;
+            }
+            size--;
+            if (!node.values.isEmpty()) {
+                return node;
+            }
+            if (node.left == null || node.right == null) {
+                return node.left == null ? node.right : node.left;
+            }
+            // Replace the emptied node with its successor, the leftmost node of the right subtree
+            Node<T> successor = node.right;
+            while (successor.left != null) {
+                successor = successor.left;
+            }
+            node.right = removeLeftmost(node.right);
+            successor.left = node.left;
+            successor.right = node.right;
+            return rebalance(successor);
+        }
+        return rebalance(node);
+    }
+
+    private Node<T> removeLeftmost(Node<T> node) {
+        if (node.left == null) {
+            return node.right;
+        }
+        node.left = removeLeftmost(node.left);
+        return rebalance(node);
+    }
+
+    private Node<T> rebalance(Node<T> node) {
+        node.update();
+        int balance = height(node.left) - height(node.right);
+        if (balance > 1) {
+            if (height(node.left.left) < height(node.left.right)) {
+                node.left = rotateLeft(node.left);
+            }
+            return rotateRight(node);
+        }
+        if (balance < -1) {
+            if (height(node.right.right) < height(node.right.left)) {
+                node.right = rotateRight(node.right);
+            }
+            return rotateLeft(node);
+        }
+        return node;
+    }
+
+    private Node<T> rotateRight(Node<T> node) {
+        Node<T> pivot = node.left;
+        node.left = pivot.right;
+        pivot.right = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private Node<T> rotateLeft(Node<T> node) {
+        Node<T> pivot = node.right;
+        node.right = pivot.left;
+        pivot.left = node;
+        node.update();
+        pivot.update();
+        return pivot;
+    }
+
+    private static int height(Node<?> node) {
+        return node == null ? 0 : node.height;
+    }
+
+    private static int maxEnd(Node<?> node) {
+        return node == null ? Integer.MIN_VALUE : node.maxEnd;
+    }
+
+    private static class Node<T> {
+        private final int start;
+        private final int end;
+        private final List<T> values = new ArrayList<>(1);
+        private Node<T> left;
+        private Node<T> right;
+        private int height = 1;
+        private int maxEnd;
+
+        Node(int start, int end) {
+            this.start = start;
+            this.end = end;
+            this.maxEnd = end;
+        }
+
+        /**
+         * Compares the interval of this node with {@code [otherStart, otherEnd)}.
+         */
+        int compareTo(int otherStart, int otherEnd) {
+            return start != otherStart ? Integer.compare(start, otherStart) : Integer.compare(end, otherEnd);
+        }
+
+        /**
+         * Recomputes the height and largest end of this subtree from its children.
+         */
+        void update() {
+            height = 1 + Math.max(IntervalTree.height(left), IntervalTree.height(right));
+            maxEnd = Math.max(end, Math.max(IntervalTree.maxEnd(left), IntervalTree.maxEnd(right)));
+        }
+    }
+}
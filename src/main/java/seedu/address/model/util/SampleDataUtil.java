@@ -28,22 +28,22 @@ public class SampleDataUtil {
         return new Person[] {
             new Student(new Name("Alex Yeoh"), new Phone("87438807"),
                 new Address("Blk 30 Geylang Street 29, #06-40"), EMPTY_REMARK,
-                getTagSet("math"), getSessionSet(new Session(new Day("Mon"), new Time("2pm-4pm")))),
+                getTagSet("math"), getSessionSet(new Session(Day.of("Mon"), new Time("2pm-4pm")))),
             new Student(new Name("Bernice Yu"), new Phone("99272758"),
                 new Address("Blk 30 Lorong 3 Serangoon Gardens, #07-18"), EMPTY_REMARK,
-                getTagSet("science"), getSessionSet(new Session(new Day("Mon"), new Time("2pm-4pm")))),
+                getTagSet("science"), getSessionSet(new Session(Day.of("Mon"), new Time("2pm-4pm")))),
             new Student(new Name("Charlotte Oliveiro"), new Phone("93210283"),
                 new Address("Blk 11 Ang Mo Kio Street 74, #11-04"), EMPTY_REMARK,
-                getTagSet("english"), getSessionSet(new Session(new Day("Mon"), new Time("2pm-4pm")))),
+                getTagSet("english"), getSessionSet(new Session(Day.of("Mon"), new Time("2pm-4pm")))),
             new Student(new Name("David Chew"), new Phone("91031282"),
                 new Address("Blk 436 Serangoon Gardens Street 26, #16-43"), EMPTY_REMARK,
-                getTagSet("chinese"), getSessionSet(new Session(new Day("Mon"), new Time("2pm-4pm")))),
+                getTagSet("chinese"), getSessionSet(new Session(Day.of("Mon"), new Time("2pm-4pm")))),
             new Student(new Name("Irfan Ibrahim"), new Phone("92492021"),
                 new Address("Blk 47 Tampines Street 20, #17-35"), EMPTY_REMARK,
-                getTagSet("math"), getSessionSet(new Session(new Day("Mon"), new Time("2pm-4pm")))),
+                getTagSet("math"), getSessionSet(new Session(Day.of("Mon"), new Time("2pm-4pm")))),
             new Student(new Name("Roy Balakrishnan"), new Phone("92624417"),
                 new Address("Blk 45 Aljunied Street 85, #11-31"), EMPTY_REMARK,
-                getTagSet("math"), getSessionSet(new Session(new Day("Mon"), new Time("2pm-4pm")))),
+                getTagSet("math"), getSessionSet(new Session(Day.of("Mon"), new Time("2pm-4pm")))),
             new Parent(new Name("Robin Banks"), new Phone("96767679"),
                     new Address("Blk 67 My Grandfathers Road 67, #67-67"), EMPTY_REMARK)
         };
@@ -71,7 +71,7 @@ public class SampleDataUtil {
      */
     public static Set<Session> getSessionSet(Session... session) {
         return Arrays.stream(session)
-                .map(s -> new Session(new Day(s.getDay().getValue()), new Time(s.getTime().getValue())))
+                .map(s -> new Session(s.getDay(), new Time(s.getTime().getValue())))
                 .collect(Collectors.toSet());
     }
 
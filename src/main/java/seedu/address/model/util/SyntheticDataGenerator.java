@@ -0,0 +1,266 @@
+package seedu.address.model.util;
+
+import static seedu.address.commons.util.AppUtil.checkArgument;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+import java.util.Set;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Time;
+import seedu.address.model.tag.Tag;
+
+/**
+ * Generates address books of any size with realistic-looking data, for load tests and benchmarks.
+ *
+ * <p>Generation is deterministic: the same settings and seed always produce the same address book.
+ * Students share their family name with their parent, subjects follow a skewed distribution with math the most
+ * common, and sessions fall mostly on weekday evenings and weekend days.</p>
+ */
+public class SyntheticDataGenerator {
+
+    public static final long DEFAULT_SEED = 42;
+    public static final double DEFAULT_CHILDREN_PER_PARENT = 1.5;
+    public static final double DEFAULT_LINKED_STUDENT_SHARE = 0.8;
+    public static final double DEFAULT_SESSIONS_PER_STUDENT = 2.0;
+
+    public static final String MESSAGE_INVALID_SETTING = "%s should be %s";
+
+    private static final String[] GIVEN_NAMES = {
+        "Alex", "Bernice", "Charlotte", "David", "Irfan", "Roy", "Wei Ling", "Jun Jie", "Siti", "Arjun", "Priya",
+        "Ethan", "Chloe", "Marcus", "Nurul", "Hui Min", "Ryan", "Zhi Hao", "Aisha", "Daniel", "Grace", "Kumar",
+        "Mei", "Isaac", "Hannah", "Farhan", "Jasmine", "Lucas", "Rachel", "Vikram"
+    };
+    private static final String[] FAMILY_NAMES = {
+        "Tan", "Lim", "Lee", "Ng", "Ong", "Wong", "Goh", "Chua", "Chan", "Koh", "Teo", "Ang", "Yeo", "Tay",
+        "Ho", "Low", "Toh", "Sim", "Chong", "Ibrahim", "Rahman", "Abdullah", "Kumar", "Pillai", "Nair", "Singh",
+        "Fernandez", "D'Souza", "Oliveiro", "Balakrishnan"
+    };
+    private static final String[] STREETS = {
+        "Geylang Street", "Serangoon Gardens Street", "Ang Mo Kio Avenue", "Tampines Street", "Aljunied Road",
+        "Jurong West Avenue", "Bedok North Road", "Clementi Avenue", "Toa Payoh Lorong", "Woodlands Drive"
+    };
+
+    // Subjects in decreasing order of popularity; each is picked with half the weight of the one before
+    private static final String[] SUBJECTS = {
+        "math", "english", "science", "chinese", "physics", "chemistry", "biology", "malay", "tamil", "literature"
+    };
+    private static final String[] WEEKDAYS = {"Mon", "Tue", "Wed", "Thur", "Fri"};
+    private static final String[] WEEKEND_DAYS = {"Sat", "Sun"};
+    private static final String[] EVENING_SLOTS = {"4pm-6pm", "5pm-7pm", "6pm-8pm", "7pm-9pm", "7:30pm-9pm"};
+    private static final String[] DAYTIME_SLOTS = {
+        "9am-11am", "10am-12pm", "11am-1pm", "1pm-3pm", "2pm-4pm", "3pm-5pm", "9:30am-11:30am"
+    };
+    private static final double WEEKEND_SESSION_SHARE = 0.4;
+    private static final int MAX_SESSIONS_PER_STUDENT = 6;
+    private static final int MAX_TAGS_PER_STUDENT = 3;
+
+    private int personCount = 1000;
+    private long seed = DEFAULT_SEED;
+    private double childrenPerParent = DEFAULT_CHILDREN_PER_PARENT;
+    private double linkedStudentShare = DEFAULT_LINKED_STUDENT_SHARE;
+    private double sessionsPerStudent = DEFAULT_SESSIONS_PER_STUDENT;
+
+    private Random random;
+    private Set<String> usedNames;
+
+    /**
+     * Sets the total number of students and parents to generate.
+     */
+    public SyntheticDataGenerator withPersonCount(int personCount) {
+        checkArgument(personCount >= 0, String.format(MESSAGE_INVALID_SETTING, "Person count", "at least 0"));
+        this.personCount = personCount;
+        return this;
+    }
+
+    /**
+     * Sets the seed of the random numbers used to generate data.
+     */
+    public SyntheticDataGenerator withSeed(long seed) {
+        this.seed = seed;
+        return this;
+    }
+
+    /**
+     * Sets the average number of students linked to each parent.
+     */
+    public SyntheticDataGenerator withChildrenPerParent(double childrenPerParent) {
+        checkArgument(childrenPerParent >= 1,
+                String.format(MESSAGE_INVALID_SETTING, "Children per parent", "at least 1"));
+        this.childrenPerParent = childrenPerParent;
+        return this;
+    }
+
+    /**
+     * Sets the fraction of students that have a parent in the address book.
+     */
+    public SyntheticDataGenerator withLinkedStudentShare(double linkedStudentShare) {
+        checkArgument(linkedStudentShare >= 0 && linkedStudentShare <= 1,
+                String.format(MESSAGE_INVALID_SETTING, "Linked student share", "between 0 and 1"));
+        this.linkedStudentShare = linkedStudentShare;
+        return this;
+    }
+
+    /**
+     * Sets the average number of weekly sessions per student.
+     */
+    public SyntheticDataGenerator withSessionsPerStudent(double sessionsPerStudent) {
+        checkArgument(sessionsPerStudent >= 0 && sessionsPerStudent <= MAX_SESSIONS_PER_STUDENT,
+                String.format(MESSAGE_INVALID_SETTING, "Sessions per student",
+                        "between 0 and " + MAX_SESSIONS_PER_STUDENT));
+        this.sessionsPerStudent = sessionsPerStudent;
+        return this;
+    }
+
+    /**
+     * Returns the persons for the current settings: the parents first, then the students.
+     * Students refer to their parents by name but are not linked to them.
+     */
+    public List<Person> generatePersons() {
+        random = new Random(seed);
+        usedNames = new HashSet<>();
+
+        // With s students and p parents: s + p = personCount and s * linkedStudentShare = p * childrenPerParent
+        double parentShare = linkedStudentShare / (childrenPerParent + linkedStudentShare);
+        int parentCount = (int) Math.round(personCount * parentShare);
+        int studentCount = personCount - parentCount;
+        int linkedStudentCount = parentCount == 0
+                ? 0
+                : Math.max(parentCount, (int) (studentCount * linkedStudentShare));
+
+        List<Person> persons = new ArrayList<>(personCount);
+        List<Parent> parents = new ArrayList<>(parentCount);
+        for (int i = 0; i < parentCount; i++) {
+            Parent parent = new Parent(generateName(pick(FAMILY_NAMES)), generatePhone(), generateAddress(),
+                    SampleDataUtil.EMPTY_REMARK);
+            parents.add(parent);
+            persons.add(parent);
+        }
+
+        for (int i = 0; i < studentCount; i++) {
+            // Every parent gets at least one child, the rest are spread at random
+            Parent parent = null;
+            if (i < parentCount) {
+                parent = parents.get(i);
+            } else if (i < linkedStudentCount) {
+                parent = parents.get(random.nextInt(parentCount));
+            }
+
+            String familyName = parent == null ? pick(FAMILY_NAMES) : getFamilyName(parent.getName());
+            Address address = parent == null ? generateAddress() : parent.getAddress();
+            Student student = new Student(generateName(familyName), generatePhone(), address,
+                    SampleDataUtil.EMPTY_REMARK, generateTags(), generateSessions(),
+                    parent == null ? null : parent.getName());
+            persons.add(student);
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an address book of the persons produced by {@link #generatePersons()}, with students linked to their
+     * parents.
+     */
+    public AddressBook generate() {
+        AddressBook addressBook = new AddressBook();
+        addressBook.setPersons(generatePersons());
+        addressBook.linkAllParents();
+        return addressBook;
+    }
+
+    /**
+     * Returns a name with the given family name that has not been generated before.
+     */
+    private Name generateName(String familyName) {
+        String name = pick(GIVEN_NAMES) + " " + familyName;
+        for (int suffix = 0; !usedNames.add(name.toLowerCase(Locale.ROOT)); suffix++) {
+            name = pick(GIVEN_NAMES) + " " + toLetters(suffix) + " " + familyName;
+        }
+        return new Name(name);
+    }
+
+    private static String getFamilyName(Name name) {
+        String fullName = name.fullName;
+        return fullName.substring(fullName.lastIndexOf(' ') + 1);
+    }
+
+    private Phone generatePhone() {
+        return new Phone((random.nextBoolean() ? "8" : "9") + String.format("%07d", random.nextInt(10_000_000)));
+    }
+
+    private Address generateAddress() {
+        return new Address(String.format("Blk %d %s %d, #%02d-%02d", 1 + random.nextInt(999), pick(STREETS),
+                1 + random.nextInt(99), 1 + random.nextInt(25), 1 + random.nextInt(200)));
+    }
+
+    private Set<Tag> generateTags() {
+        Set<Tag> tags = new HashSet<>();
+        int tagCount = 1 + random.nextInt(MAX_TAGS_PER_STUDENT);
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(new Tag(pickSubject()));
+        }
+        return tags;
+    }
+
+    /**
+     * Returns a subject, each one half as likely as the one before it in {@code SUBJECTS}.
+     */
+    private String pickSubject() {
+        int index = 0;
+        while (index < SUBJECTS.length - 1 && random.nextBoolean()) {
+            index++;
+        }
+        return SUBJECTS[index];
+    }
+
+    /**
+     * Returns about {@code sessionsPerStudent} sessions on distinct days, so that none of them overlap.
+     */
+    private Set<Session> generateSessions() {
+        int sessionCount = (int) sessionsPerStudent;
+        if (random.nextDouble() < sessionsPerStudent - sessionCount) {
+            sessionCount++;
+        }
+
+        Set<Session> sessions = new HashSet<>();
+        Set<String> days = new HashSet<>();
+        while (sessions.size() < sessionCount) {
+            boolean isWeekend = random.nextDouble() < WEEKEND_SESSION_SHARE;
+            String day = isWeekend ? pick(WEEKEND_DAYS) : pick(WEEKDAYS);
+            if (!days.add(day)) {
+                continue;
+            }
+            String time = isWeekend ? pick(DAYTIME_SLOTS) : pick(EVENING_SLOTS);
+            sessions.add(new Session(Day.of(day), new Time(time)));
+        }
+        return sessions;
+    }
+
+    private String pick(String[] values) {
+        return values[random.nextInt(values.length)];
+    }
+
+    /**
+     * Encodes {@code number} as a capitalised word of letters, since names may not contain digits.
+     */
+    private static String toLetters(int number) {
+        StringBuilder builder = new StringBuilder();
+        int remaining = number;
+        do {
+            builder.append((char) ('a' + remaining % 26));
+            remaining /= 26;
+        } while (remaining > 0);
+        builder.setCharAt(0, Character.toUpperCase(builder.charAt(0)));
+        return builder.toString();
+    }
+}
@@ -0,0 +1,416 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.BufferedInputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.logging.Logger;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Address;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Remark;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Time;
+import seedu.address.model.tag.Tag;
+
+/**
+ * A class to access AddressBook data stored as a compact binary snapshot on the hard disk.
+ *
+ * <p>The file holds a versioned header, a table of every distinct string in the address book, and then one record
+ * per person that refers to its fields by their index in the string table. Repeated values such as tags, days and
+ * times are stored only once, and repeated names and tags are also validated, and shared, only once on load.</p>
+ *
+ * <p>The binary file is kept apart from the json data file. Until the first save creates it, the address book is
+ * imported from the json data file, which is then left as it was.</p>
+ */
+public class BinaryAddressBookStorage implements AddressBookStorage {
+
+    public static final int MAGIC = 0x45444342; // "EDCB"
+    public static final int FORMAT_VERSION = 1;
+    public static final String FILE_EXTENSION = ".bin";
+
+    public static final String MESSAGE_NOT_BINARY = "%s is not a binary data file";
+    public static final String MESSAGE_UNSUPPORTED_VERSION = "Unsupported binary data file version %d";
+    public static final String MESSAGE_INVALID_STRING_INDEX = "Binary data file refers to missing string %d";
+    public static final String MESSAGE_INVALID_COUNT = "Binary data file has an invalid %s count %d";
+    public static final String MESSAGE_INVALID_STRING_LENGTH = "Binary data file has a string of invalid length %d";
+
+    private static final byte KIND_PARENT = 0;
+    private static final byte KIND_STUDENT = 1;
+    private static final int NO_STRING = -1;
+    /** The magic number, format version and string count that come before the strings. */
+    private static final int BYTES_BEFORE_STRINGS = 3 * Integer.BYTES;
+
+    private static final Logger logger = LogsCenter.getLogger(BinaryAddressBookStorage.class);
+
+    private final Path filePath;
+    private final Path jsonFilePath;
+
+    public BinaryAddressBookStorage(Path filePath) {
+        this(filePath, null);
+    }
+
+    /**
+     * Creates a storage for the binary file at {@code filePath} that imports the json data file at
+     * {@code jsonFilePath} while the binary file does not exist. A null {@code jsonFilePath} imports nothing.
+     */
+    public BinaryAddressBookStorage(Path filePath, Path jsonFilePath) {
+        this.filePath = filePath;
+        this.jsonFilePath = jsonFilePath;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the binary file kept for the json data file at {@code jsonFilePath}: the same name with
+     * its {@code .json} extension, if any, replaced by {@link #FILE_EXTENSION}.
+     */
+    public static Path getBinaryFilePath(Path jsonFilePath) {
+        String fileName = jsonFilePath.getFileName().toString();
+        if (fileName.toLowerCase(Locale.ROOT).endsWith(".json")) {
+            fileName = fileName.substring(0, fileName.length() - ".json".length());
+        }
+        return jsonFilePath.resolveSibling(fileName + FILE_EXTENSION);
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} starts with the binary header.
+     * Returns false if it cannot be read, leaving the error to whichever reader then opens it.
+     */
+    public static boolean isBinaryFile(Path filePath) {
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            return hasBinaryHeader(in);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        if (jsonFilePath != null && !Files.exists(filePath)) {
+            logger.info(filePath + " does not exist yet, importing " + jsonFilePath);
+            return new JsonAddressBookStorage(jsonFilePath).readAddressBook();
+        }
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        try (DataInputStream in = new DataInputStream(new BufferedInputStream(Files.newInputStream(filePath)))) {
+            if (!hasBinaryHeader(in)) {
+                throw new IllegalValueException(String.format(MESSAGE_NOT_BINARY, filePath));
+            }
+            return Optional.of(readBody(in, Files.size(filePath)));
+        } catch (IOException e) {
+            logger.warning("Error reading from binary file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Returns true if {@code in} starts with {@link #MAGIC}. Leaves {@code in} just after the magic number if so,
+     * or at its start otherwise.
+     */
+    private static boolean hasBinaryHeader(DataInputStream in) throws IOException {
+        in.mark(Integer.BYTES);
+        byte[] magic = in.readNBytes(Integer.BYTES);
+        if (magic.length == Integer.BYTES
+                && ((magic[0] & 0xff) << 24 | (magic[1] & 0xff) << 16 | (magic[2] & 0xff) << 8 | magic[3] & 0xff)
+                == MAGIC) {
+            return true;
+        }
+        in.reset();
+        return false;
+    }
+
+    /**
+     * Reads the part of a binary data file of {@code fileSize} bytes that follows the magic number.
+     */
+    private static AddressBook readBody(DataInputStream in, long fileSize) throws IOException, IllegalValueException {
+        int version = in.readInt();
+        if (version != FORMAT_VERSION) {
+            throw new IllegalValueException(String.format(MESSAGE_UNSUPPORTED_VERSION, version));
+        }
+
+        // Every string takes at least the bytes of its length, so a damaged count cannot allocate a huge table
+        String[] strings = new String[readCount(in, "string", (fileSize - BYTES_BEFORE_STRINGS) / Integer.BYTES)];
+        for (int i = 0; i < strings.length; i++) {
+            strings[i] = readString(in);
+        }
+        ValueTables values = new ValueTables(strings);
+
+        AddressBook addressBook = new AddressBook();
+        int personCount = readCount(in, "person", Integer.MAX_VALUE);
+        for (int i = 0; i < personCount; i++) {
+            Person person = readPerson(in, values);
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(JsonSerializableAddressBook.MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+
+        // Link parents and students
+        addressBook.linkAllParents();
+
+        return addressBook;
+    }
+
+    private static Person readPerson(DataInputStream in, ValueTables values)
+            throws IOException, IllegalValueException {
+        byte kind = in.readByte();
+        Name name = values.names.get(in.readInt());
+        Phone phone = values.create(in.readInt(), Phone::new);
+        Address address = values.create(in.readInt(), Address::new);
+        Remark remark = values.create(in.readInt(), Remark::new);
+
+        if (kind == KIND_PARENT) {
+            return new Parent(name, phone, address, remark);
+        }
+        if (kind != KIND_STUDENT) {
+            throw new IllegalValueException("Unknown person kind " + kind);
+        }
+
+        int parentNameIndex = in.readInt();
+        Name parentName = parentNameIndex == NO_STRING ? null : values.names.get(parentNameIndex);
+
+        int tagCount = readCount(in, "tag", Integer.MAX_VALUE);
+        Set<Tag> tags = new HashSet<>();
+        for (int i = 0; i < tagCount; i++) {
+            tags.add(values.tags.get(in.readInt()));
+        }
+
+        int sessionCount = readCount(in, "session", Integer.MAX_VALUE);
+        Set<Session> sessions = new HashSet<>();
+        for (int i = 0; i < sessionCount; i++) {
+            Day day = values.days.get(in.readInt());
+            Time time = values.create(in.readInt(), Time::new);
+            sessions.add(new Session(day, time));
+        }
+
+        return parentName == null
+                ? new Student(name, phone, address, remark, tags, sessions)
+                : new Student(name, phone, address, remark, tags, sessions, parentName);
+    }
+
+    /**
+     * Reads a count of {@code what} items.
+     *
+     * @throws IllegalValueException if the count is negative or more than {@code max}.
+     */
+    private static int readCount(DataInputStream in, String what, long max) throws IOException, IllegalValueException {
+        int count = in.readInt();
+        if (count < 0 || count > max) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_COUNT, what, count));
+        }
+        return count;
+    }
+
+    private static String readString(DataInputStream in) throws IOException, IllegalValueException {
+        int length = in.readInt();
+        if (length < 0) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_STRING_LENGTH, length));
+        }
+        // Reads in chunks, so a length longer than the rest of the file fails without allocating it all
+        byte[] bytes = in.readNBytes(length);
+        if (bytes.length != length) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_STRING_LENGTH, length));
+        }
+        return new String(bytes, StandardCharsets.UTF_8);
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     *
+     * @param filePath location of the data. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        List<Person> persons = addressBook.getPersonList();
+        Map<String, Integer> stringTable = buildStringTable(persons);
+
+        FileUtil.writeAtomically(filePath, stream -> {
+            DataOutputStream out = new DataOutputStream(stream);
+            out.writeInt(MAGIC);
+            out.writeInt(FORMAT_VERSION);
+
+            out.writeInt(stringTable.size());
+            for (String string : stringTable.keySet()) {
+                byte[] bytes = string.getBytes(StandardCharsets.UTF_8);
+                out.writeInt(bytes.length);
+                out.write(bytes);
+            }
+
+            out.writeInt(persons.size());
+            for (Person person : persons) {
+                writePerson(out, person, stringTable);
+            }
+            out.flush();
+        });
+    }
+
+    /**
+     * Returns every distinct string in {@code persons}, mapped to its index in the string table.
+     */
+    private static Map<String, Integer> buildStringTable(List<Person> persons) {
+        Map<String, Integer> stringTable = new LinkedHashMap<>();
+        Function<String, Integer> nextIndex = string -> stringTable.size();
+        for (Person person : persons) {
+            stringTable.computeIfAbsent(person.getName().fullName, nextIndex);
+            stringTable.computeIfAbsent(person.getPhone().value, nextIndex);
+            stringTable.computeIfAbsent(person.getAddress().value, nextIndex);
+            stringTable.computeIfAbsent(person.getRemark().value, nextIndex);
+            if (person instanceof Student student) {
+                if (student.getParentName() != null) {
+                    stringTable.computeIfAbsent(student.getParentName().fullName, nextIndex);
+                }
+                for (Tag tag : student.getTags()) {
+                    stringTable.computeIfAbsent(tag.tagName, nextIndex);
+                }
+                for (Session session : student.getSessions()) {
+                    stringTable.computeIfAbsent(session.getDay().getValue(), nextIndex);
+                    stringTable.computeIfAbsent(session.getTime().getValue(), nextIndex);
+                }
+            }
+        }
+        return stringTable;
+    }
+
+    private static void writePerson(DataOutputStream out, Person person, Map<String, Integer> stringTable)
+            throws IOException {
+        out.writeByte(person instanceof Student ? KIND_STUDENT : KIND_PARENT);
+        out.writeInt(stringTable.get(person.getName().fullName));
+        out.writeInt(stringTable.get(person.getPhone().value));
+        out.writeInt(stringTable.get(person.getAddress().value));
+        out.writeInt(stringTable.get(person.getRemark().value));
+
+        if (!(person instanceof Student student)) {
+            return;
+        }
+
+        Name parentName = student.getParentName();
+        out.writeInt(parentName == null ? NO_STRING : stringTable.get(parentName.fullName));
+
+        Set<Tag> tags = student.getTags();
+        out.writeInt(tags.size());
+        for (Tag tag : tags) {
+            out.writeInt(stringTable.get(tag.tagName));
+        }
+
+        Set<Session> sessions = student.getSessions();
+        out.writeInt(sessions.size());
+        for (Session session : sessions) {
+            out.writeInt(stringTable.get(session.getDay().getValue()));
+            out.writeInt(stringTable.get(session.getTime().getValue()));
+        }
+    }
+
+    /**
+     * Converts strings from the string table into value objects of one type, reusing the object built for an
+     * earlier occurrence of the same string so that each distinct value is constructed and validated only once.
+     */
+    private static class ValueTable<T> {
+        private final ValueTables tables;
+        private final Function<String, T> constructor;
+        private final Object[] values;
+
+        ValueTable(ValueTables tables, Function<String, T> constructor) {
+            this.tables = tables;
+            this.constructor = constructor;
+            this.values = new Object[tables.strings.length];
+        }
+
+        T get(int index) throws IllegalValueException {
+            if (index < 0 || index >= values.length) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_STRING_INDEX, index));
+            }
+            if (values[index] == null) {
+                values[index] = tables.create(index, constructor);
+            }
+            @SuppressWarnings("unchecked")
+            T value = (T) values[index];
+            return value;
+        }
+    }
+
+    /**
+     * The string table of a binary data file, with value tables for the field types whose values repeat.
+     * Phones, addresses and remarks are mostly unique, so they are constructed afresh instead. So are times, which
+     * a session only keeps as minutes.
+     */
+    private static class ValueTables {
+        private final String[] strings;
+        private final ValueTable<Name> names;
+        private final ValueTable<Tag> tags;
+        private final ValueTable<Day> days;
+
+        ValueTables(String[] strings) {
+            this.strings = strings;
+            names = new ValueTable<>(this, Name::new);
+            tags = new ValueTable<>(this, Tag::new);
+            days = new ValueTable<>(this, Day::of);
+        }
+
+        /**
+         * Returns a new value built from the string at {@code index}.
+         *
+         * @throws IllegalValueException if there is no such string or it is not a valid value.
+         */
+        <T> T create(int index, Function<String, T> constructor) throws IllegalValueException {
+            if (index < 0 || index >= strings.length) {
+                throw new IllegalValueException(String.format(MESSAGE_INVALID_STRING_INDEX, index));
+            }
+            try {
+                return constructor.apply(strings[index]);
+            } catch (IllegalArgumentException e) {
+                throw new IllegalValueException(e.getMessage());
+            }
+        }
+    }
+}
@@ -0,0 +1,308 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.logging.Logger;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
+
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.commons.util.JsonUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+
+/**
+ * A class to access AddressBook data stored as a json snapshot plus an append-only journal of later changes.
+ * The snapshot has the same format as the file written by {@link JsonAddressBookStorage}; the journal lives next
+ * to it and holds one line per changed person. Saving appends only the persons that changed since the last save,
+ * and the journal is folded back into the snapshot once it grows past the compaction threshold.
+ */
+public class JournalAddressBookStorage implements AddressBookStorage {
+
+    public static final String JOURNAL_FILE_SUFFIX = ".journal";
+    public static final int DEFAULT_COMPACTION_THRESHOLD = 1000;
+
+    private static final Logger logger = LogsCenter.getLogger(JournalAddressBookStorage.class);
+
+    private final Path filePath;
+    private final int compactionThreshold;
+    private final boolean isCompact;
+
+    // What the snapshot and journal at filePath currently hold, in list order.
+    // Null until the first save, which always compacts.
+    private List<PersistedPerson> persistedPersons;
+    private int journalRecordCount;
+
+    public JournalAddressBookStorage(Path filePath) {
+        this(filePath, DEFAULT_COMPACTION_THRESHOLD, false);
+    }
+
+    /**
+     * Creates a journal storage that compacts after {@code compactionThreshold} journal records.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold) {
+        this(filePath, compactionThreshold, false);
+    }
+
+    /**
+     * Creates a journal storage that compacts after {@code compactionThreshold} journal records.
+     *
+     * @param isCompact if true, the snapshot is written without indentation or line breaks.
+     */
+    public JournalAddressBookStorage(Path filePath, int compactionThreshold, boolean isCompact) {
+        requireNonNull(filePath);
+        assert compactionThreshold > 0;
+        this.filePath = filePath;
+        this.compactionThreshold = compactionThreshold;
+        this.isCompact = isCompact;
+    }
+
+    public Path getAddressBookFilePath() {
+        return filePath;
+    }
+
+    /**
+     * Returns the path of the journal that belongs to the snapshot at {@code snapshotPath}.
+     */
+    public static Path getJournalFilePath(Path snapshotPath) {
+        return snapshotPath.resolveSibling(snapshotPath.getFileName() + JOURNAL_FILE_SUFFIX);
+    }
+
+    @Override
+    public Optional<ReadOnlyAddressBook> readAddressBook() throws DataLoadingException {
+        return readAddressBook(filePath);
+    }
+
+    /**
+     * Similar to {@link #readAddressBook()}.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     * @throws DataLoadingException if loading the data from storage failed.
+     */
+    public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
+        requireNonNull(filePath);
+
+        if (!Files.exists(filePath)) {
+            return Optional.empty();
+        }
+
+        // Persons are converted as they are parsed, so the snapshot is never held in memory as a whole.
+        // They are only checked for duplicates and linked once the journal has been applied.
+        try {
+            List<Person> persons;
+            try (JsonParser parser = JsonUtil.createParser(filePath)) {
+                persons = JsonSerializableAddressBook.readPersons(parser, false);
+            }
+            replayJournal(getJournalFilePath(filePath), filePath, persons);
+            return Optional.of(JsonSerializableAddressBook.toAddressBook(persons));
+        } catch (IOException e) {
+            logger.warning("Error reading from " + filePath + ": " + e);
+            throw new DataLoadingException(e);
+        } catch (IllegalValueException ive) {
+            logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
+            throw new DataLoadingException(ive);
+        }
+    }
+
+    /**
+     * Applies the records in the journal at {@code journalPath} to {@code persons}, read from the snapshot at
+     * {@code snapshotPath}.
+     * A journal written for a different snapshot is ignored, since that snapshot already contains its changes.
+     * A torn last line, left behind by an interrupted append, is skipped.
+     */
+    private void replayJournal(Path journalPath, Path snapshotPath, List<Person> persons)
+            throws IOException, IllegalValueException {
+        if (!Files.exists(journalPath)) {
+            return;
+        }
+
+        List<String> lines = Files.readAllLines(journalPath, StandardCharsets.UTF_8);
+        if (lines.isEmpty()) {
+            return;
+        }
+
+        JsonAdaptedJournalRecord header = JsonUtil.fromJsonString(lines.get(0), JsonAdaptedJournalRecord.class);
+        if (!header.isSnapshot() || !checksum(snapshotPath).equals(header.getChecksum())) {
+            logger.info("Ignoring journal " + journalPath + " as it was written for an older snapshot");
+            return;
+        }
+
+        for (int i = 1; i < lines.size(); i++) {
+            JsonAdaptedJournalRecord record;
+            try {
+                record = JsonUtil.fromJsonString(lines.get(i), JsonAdaptedJournalRecord.class);
+            } catch (IOException e) {
+                if (i == lines.size() - 1) {
+                    logger.warning("Skipping incomplete last record in " + journalPath);
+                    break;
+                }
+                throw e;
+            }
+            record.applyTo(persons);
+        }
+    }
+
+    @Override
+    public void saveAddressBook(ReadOnlyAddressBook addressBook) throws IOException {
+        saveAddressBook(addressBook, filePath);
+    }
+
+    /**
+     * Similar to {@link #saveAddressBook(ReadOnlyAddressBook)}.
+     * Saving to a location other than this storage's own always writes a full snapshot there.
+     *
+     * @param filePath location of the snapshot. Cannot be null.
+     */
+    public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        requireNonNull(addressBook);
+        requireNonNull(filePath);
+
+        if (!filePath.equals(this.filePath)) {
+            writeSnapshot(addressBook, filePath);
+            return;
+        }
+
+        List<Person> persons = addressBook.getPersonList();
+        List<JsonAdaptedJournalRecord> records = persistedPersons == null ? null : diff(persons);
+        if (records == null
+                || records.size() > persons.size()
+                || journalRecordCount + records.size() > compactionThreshold) {
+            compact(addressBook);
+            return;
+        }
+        if (records.isEmpty()) {
+            return;
+        }
+
+        StringBuilder lines = new StringBuilder();
+        for (JsonAdaptedJournalRecord record : records) {
+            lines.append(JsonUtil.toCompactJsonString(record)).append(System.lineSeparator());
+        }
+        Files.writeString(getJournalFilePath(filePath), lines, StandardCharsets.UTF_8,
+                StandardOpenOption.CREATE, StandardOpenOption.APPEND);
+
+        persistedPersons = toPersisted(persons);
+        journalRecordCount += records.size();
+    }
+
+    /**
+     * Returns the records that turn the persisted person list into {@code persons},
+     * or null if the persons kept from the persisted list are no longer in the same order.
+     * Persons are matched by reference, so only added, replaced or removed persons produce records;
+     * a student is also recorded again if its parent name was replaced in place.
+     */
+    private List<JsonAdaptedJournalRecord> diff(List<Person> persons) {
+        Set<Person> current = Collections.newSetFromMap(new IdentityHashMap<>());
+        current.addAll(persons);
+        Set<Person> persisted = Collections.newSetFromMap(new IdentityHashMap<>());
+        persistedPersons.forEach(persistedPerson -> persisted.add(persistedPerson.person()));
+
+        // i is also the position in the list as it stands after applying the records so far
+        List<JsonAdaptedJournalRecord> records = new ArrayList<>();
+        int i = 0;
+        int j = 0;
+        while (i < persons.size() || j < persistedPersons.size()) {
+            Person person = i < persons.size() ? persons.get(i) : null;
+            PersistedPerson persistedPerson = j < persistedPersons.size() ? persistedPersons.get(j) : null;
+            boolean isNew = person != null && !persisted.contains(person);
+
+            if (persistedPerson != null && persistedPerson.person() == person) {
+                if (persistedPerson.parentName() != parentNameOf(person)) {
+                    records.add(JsonAdaptedJournalRecord.set(i, person));
+                }
+                i++;
+                j++;
+            } else if (persistedPerson != null && !current.contains(persistedPerson.person())) {
+                if (isNew) {
+                    records.add(JsonAdaptedJournalRecord.set(i, person));
+                    i++;
+                } else {
+                    records.add(JsonAdaptedJournalRecord.remove(i));
+                }
+                j++;
+            } else if (isNew) {
+                records.add(JsonAdaptedJournalRecord.insert(i, person));
+                i++;
+            } else {
+                return null;
+            }
+        }
+        return records;
+    }
+
+    /**
+     * Writes {@code addressBook} as the new snapshot and starts an empty journal for it.
+     */
+    private void compact(ReadOnlyAddressBook addressBook) throws IOException {
+        String snapshotChecksum = writeSnapshot(addressBook, filePath);
+
+        // A crash before the journal is replaced leaves a journal whose checksum no longer matches,
+        // which is then ignored on the next load.
+        String header = JsonUtil.toCompactJsonString(JsonAdaptedJournalRecord.snapshot(snapshotChecksum));
+        writeAtomically(getJournalFilePath(filePath), header + System.lineSeparator());
+
+        persistedPersons = toPersisted(addressBook.getPersonList());
+        journalRecordCount = 0;
+        logger.fine("Compacted address book journal into " + filePath);
+    }
+
+    /**
+     * Writes {@code addressBook} as a snapshot at {@code filePath} and returns its checksum.
+     */
+    private String writeSnapshot(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+        // Persons are serialized straight to the file, and the checksum is computed as they are written
+        Checksum checksum = FileUtil.newChecksum();
+        FileUtil.writeAtomically(filePath, out -> {
+            OutputStream checkedOut = new CheckedOutputStream(out, checksum);
+            try (JsonGenerator generator = JsonUtil.createGenerator(checkedOut, isCompact)) {
+                JsonSerializableAddressBook.writeModelType(addressBook, generator);
+            }
+        });
+        return Long.toHexString(checksum.getValue());
+    }
+
+    private static void writeAtomically(Path filePath, String content) throws IOException {
+        FileUtil.writeAtomically(filePath, out -> out.write(content.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static String checksum(Path snapshotPath) throws IOException {
+        return Long.toHexString(FileUtil.computeChecksum(snapshotPath));
+    }
+
+    private static List<PersistedPerson> toPersisted(List<Person> persons) {
+        List<PersistedPerson> persisted = new ArrayList<>(persons.size());
+        for (Person person : persons) {
+            persisted.add(new PersistedPerson(person, parentNameOf(person)));
+        }
+        return persisted;
+    }
+
+    private static Name parentNameOf(Person person) {
+        return person instanceof Student student ? student.getParentName() : null;
+    }
+
+    /**
+     * A person as last written, with the one field that can change without the person being replaced.
+     */
+    private record PersistedPerson(Person person, Name parentName) {}
+}
@@ -0,0 +1,101 @@
+package seedu.address.storage;
+
+import java.util.List;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+
+import seedu.address.commons.exceptions.IllegalValueException;
+import seedu.address.model.person.Person;
+
+/**
+ * Jackson-friendly version of one change recorded in the address book journal.
+ * Indexes refer to the person list as it stands after all earlier records have been applied.
+ */
+@JsonInclude(JsonInclude.Include.NON_NULL)
+class JsonAdaptedJournalRecord {
+
+    public static final String OP_SNAPSHOT = "snapshot";
+    public static final String OP_INSERT = "insert";
+    public static final String OP_SET = "set";
+    public static final String OP_REMOVE = "remove";
+
+    public static final String MESSAGE_INVALID_RECORD = "Journal record is invalid: %s";
+
+    private final String op;
+    private final int index;
+    private final JsonAdaptedPerson person;
+    private final String checksum;
+
+    /**
+     * Constructs a {@code JsonAdaptedJournalRecord} with the given details.
+     */
+    @JsonCreator
+    public JsonAdaptedJournalRecord(@JsonProperty("op") String op, @JsonProperty("index") int index,
+            @JsonProperty("person") JsonAdaptedPerson person, @JsonProperty("checksum") String checksum) {
+        this.op = op;
+        this.index = index;
+        this.person = person;
+        this.checksum = checksum;
+    }
+
+    /**
+     * Returns the header record that ties a journal to the snapshot with the given {@code checksum}.
+     */
+    public static JsonAdaptedJournalRecord snapshot(String checksum) {
+        return new JsonAdaptedJournalRecord(OP_SNAPSHOT, 0, null, checksum);
+    }
+
+    public static JsonAdaptedJournalRecord insert(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OP_INSERT, index, new JsonAdaptedPerson(person), null);
+    }
+
+    public static JsonAdaptedJournalRecord set(int index, Person person) {
+        return new JsonAdaptedJournalRecord(OP_SET, index, new JsonAdaptedPerson(person), null);
+    }
+
+    public static JsonAdaptedJournalRecord remove(int index) {
+        return new JsonAdaptedJournalRecord(OP_REMOVE, index, null, null);
+    }
+
+    public boolean isSnapshot() {
+        return OP_SNAPSHOT.equals(op);
+    }
+
+    public String getChecksum() {
+        return checksum;
+    }
+
+    /**
+     * Applies this record to {@code persons}.
+     *
+     * @throws IllegalValueException if the record is not a valid change or does not fit {@code persons}.
+     */
+    public void applyTo(List<Person> persons) throws IllegalValueException {
+        if (op == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, "missing op"));
+        }
+        int upperBound = OP_INSERT.equals(op) ? persons.size() : persons.size() - 1;
+        if (index < 0 || index > upperBound) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op + " at " + index));
+        }
+        if (!OP_REMOVE.equals(op) && person == null) {
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op + " without a person"));
+        }
+
+        switch (op) {
+        case OP_INSERT:
+            persons.add(index, person.toModelType());
+            break;
+        case OP_SET:
+            persons.set(index, person.toModelType());
+            break;
+        case OP_REMOVE:
+            persons.remove(index);
+            break;
+        default:
+            throw new IllegalValueException(String.format(MESSAGE_INVALID_RECORD, op));
+        }
+    }
+}
@@ -91,44 +91,52 @@ class JsonAdaptedPerson {
      * @throws IllegalValueException if there were any data constraints violated in the adapted person.
      */
     public Person toModelType() throws IllegalValueException {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but does not validate the values of fields that are present
+     * if {@code isTrusted} is true. Each field is validated at most once either way.
+     */
+    public Person toModelType(boolean isTrusted) throws IllegalValueException {
         final List<Tag> personTags = new ArrayList<>();
         for (JsonAdaptedTag tag : tags) {
-            personTags.add(tag.toModelType());
+            personTags.add(tag.toModelType(isTrusted));
         }
 
         final List<Session> personSessions = new ArrayList<>();
         for (JsonAdaptedSession session : sessions) {
-            personSessions.add(session.toModelType());
+            personSessions.add(session.toModelType(isTrusted));
         }
 
         if (name == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Name.class.getSimpleName()));
         }
-        if (!Name.isValidName(name)) {
+        if (!isTrusted && !Name.isValidName(name)) {
             throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
         }
-        final Name modelName = new Name(name);
+        final Name modelName = Name.ofTrusted(name);
 
         if (phone == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Phone.class.getSimpleName()));
         }
-        if (!Phone.isValidPhone(phone)) {
+        if (!isTrusted && !Phone.isValidPhone(phone)) {
             throw new IllegalValueException(Phone.MESSAGE_CONSTRAINTS);
         }
-        final Phone modelPhone = new Phone(phone);
+        final Phone modelPhone = Phone.ofTrusted(phone);
 
         if (address == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Address.class.getSimpleName()));
         }
-        if (!Address.isValidAddress(address)) {
+        if (!isTrusted && !Address.isValidAddress(address)) {
             throw new IllegalValueException(Address.MESSAGE_CONSTRAINTS);
         }
-        final Address modelAddress = new Address(address);
+        final Address modelAddress = Address.ofTrusted(address);
 
         if (role == null) {
             throw new IllegalValueException(String.format(MISSING_FIELD_MESSAGE_FORMAT, Role.class.getSimpleName()));
         }
-        if (!Role.isValidRole(role)) {
+        if (!isTrusted && !Role.isValidRole(role)) {
             throw new IllegalValueException(Role.MESSAGE_CONSTRAINTS);
         }
 
@@ -138,7 +146,10 @@ class JsonAdaptedPerson {
             final Set<Tag> modelTags = new HashSet<>(personTags);
             final Set<Session> modelSessions = new HashSet<>(personSessions);
             if (parentName != null) {
-                final Name modelParentName = new Name(parentName);
+                if (!isTrusted && !Name.isValidName(parentName)) {
+                    throw new IllegalValueException(Name.MESSAGE_CONSTRAINTS);
+                }
+                final Name modelParentName = Name.ofTrusted(parentName);
                 return new Student(modelName, modelPhone, modelAddress, modelRemark,
                         modelTags, modelSessions, modelParentName);
             } else {
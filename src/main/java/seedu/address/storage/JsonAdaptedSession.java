@@ -47,12 +47,26 @@ class JsonAdaptedSession {
      * @throws IllegalValueException if there were any data constraints violated in the adapted Session.
      */
     public Session toModelType() throws IllegalValueException {
-        if (!Day.isValidDay(this.day)) {
-            throw new IllegalValueException(Day.MESSAGE_CONSTRAINTS);
-        } else if (!Time.isValidTime(this.time)) {
-            throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but does not validate the day and time if {@code isTrusted} is true.
+     */
+    public Session toModelType(boolean isTrusted) throws IllegalValueException {
+        if (!isTrusted) {
+            if (!Day.isValidDay(this.day)) {
+                throw new IllegalValueException(Day.MESSAGE_CONSTRAINTS);
+            } else if (!Time.isValidTime(this.time)) {
+                throw new IllegalValueException(Time.MESSAGE_CONSTRAINTS);
+            }
+        }
+        try {
+            return new Session(Day.ofTrusted(this.day), Time.ofTrusted(this.time));
+        } catch (IllegalArgumentException e) {
+            // Even a trusted day or time is rejected if it cannot be read at all
+            throw new IllegalValueException(e.getMessage(), e);
         }
-        return new Session(new Day(this.day), new Time(this.time));
     }
 
 }
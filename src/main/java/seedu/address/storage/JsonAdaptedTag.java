@@ -39,10 +39,17 @@ class JsonAdaptedTag {
      * @throws IllegalValueException if there were any data constraints violated in the adapted tag.
      */
     public Tag toModelType() throws IllegalValueException {
-        if (!Tag.isValidTagName(tagName)) {
+        return toModelType(false);
+    }
+
+    /**
+     * Similar to {@link #toModelType()}, but does not validate the tag name if {@code isTrusted} is true.
+     */
+    public Tag toModelType(boolean isTrusted) throws IllegalValueException {
+        if (!isTrusted && !Tag.isValidTagName(tagName)) {
             throw new IllegalValueException(Tag.MESSAGE_CONSTRAINTS);
         }
-        return new Tag(tagName);
+        return Tag.ofTrusted(tagName);
     }
 
 }
@@ -3,9 +3,17 @@ package seedu.address.storage;
 import static java.util.Objects.requireNonNull;
 
 import java.io.IOException;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.nio.file.Files;
 import java.nio.file.Path;
 import java.util.Optional;
 import java.util.logging.Logger;
+import java.util.zip.CheckedOutputStream;
+import java.util.zip.Checksum;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParser;
 
 import seedu.address.commons.core.LogsCenter;
 import seedu.address.commons.exceptions.DataLoadingException;
@@ -13,18 +21,38 @@ import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.commons.util.FileUtil;
 import seedu.address.commons.util.JsonUtil;
 import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
 
 /**
  * A class to access AddressBook data stored as a json file on the hard disk.
+ *
+ * <p>Every save also records a checksum of the file next to it. If the file still matches that checksum when it is
+ * read, it has not been changed since this app wrote it, so its field values are not validated again.</p>
+ *
+ * <p>A file that starts with the binary header, as once written over the json data file by the binary format, is
+ * read as binary; it is rewritten as json on the next save.</p>
  */
 public class JsonAddressBookStorage implements AddressBookStorage {
 
+    private static final String CHECKSUM_FILE_SUFFIX = ".crc";
+
     private static final Logger logger = LogsCenter.getLogger(JsonAddressBookStorage.class);
 
     private Path filePath;
+    private final boolean isCompact;
 
     public JsonAddressBookStorage(Path filePath) {
+        this(filePath, false);
+    }
+
+    /**
+     * Creates a storage for the json file at {@code filePath}.
+     *
+     * @param isCompact if true, the file is written without indentation or line breaks.
+     */
+    public JsonAddressBookStorage(Path filePath, boolean isCompact) {
         this.filePath = filePath;
+        this.isCompact = isCompact;
     }
 
     public Path getAddressBookFilePath() {
@@ -45,14 +73,23 @@ public class JsonAddressBookStorage implements AddressBookStorage {
     public Optional<ReadOnlyAddressBook> readAddressBook(Path filePath) throws DataLoadingException {
         requireNonNull(filePath);
 
-        Optional<JsonSerializableAddressBook> jsonAddressBook = JsonUtil.readJsonFile(
-                filePath, JsonSerializableAddressBook.class);
-        if (!jsonAddressBook.isPresent()) {
+        if (!Files.exists(filePath)) {
             return Optional.empty();
         }
 
-        try {
-            return Optional.of(jsonAddressBook.get().toModelType());
+        if (BinaryAddressBookStorage.isBinaryFile(filePath)) {
+            logger.info(filePath + " is a binary data file, reading it as binary");
+            return new BinaryAddressBookStorage(filePath).readAddressBook(filePath);
+        }
+
+        boolean isTrusted = hasMatchingChecksum(filePath);
+
+        // Persons are converted as they are parsed, so the file is never held in memory as a whole
+        try (JsonParser parser = JsonUtil.createParser(filePath)) {
+            return Optional.of(JsonSerializableAddressBook.readModelType(parser, isTrusted));
+        } catch (IOException e) {
+            logger.warning("Error reading from jsonFile file " + filePath + ": " + e);
+            throw new DataLoadingException(e);
         } catch (IllegalValueException ive) {
             logger.info("Illegal values found in " + filePath + ": " + ive.getMessage());
             throw new DataLoadingException(ive);
@@ -73,8 +110,51 @@ public class JsonAddressBookStorage implements AddressBookStorage {
         requireNonNull(addressBook);
         requireNonNull(filePath);
 
-        FileUtil.createIfMissing(filePath);
-        JsonUtil.saveJsonFile(new JsonSerializableAddressBook(addressBook), filePath);
+        // Persons are serialized straight to a temporary file that then replaces the old one,
+        // so an interrupted save leaves the previous data file intact
+        Checksum checksum = FileUtil.newChecksum();
+        FileUtil.writeAtomically(filePath, out -> {
+            OutputStream checkedOut = new CheckedOutputStream(out, checksum);
+            try (JsonGenerator generator = JsonUtil.createGenerator(checkedOut, isCompact)) {
+                JsonSerializableAddressBook.writeModelType(addressBook, generator);
+            }
+        });
+
+        // Written after the data file, so a save interrupted in between leaves a checksum that does not match
+        FileUtil.writeToFile(getChecksumFilePath(filePath), Long.toHexString(checksum.getValue()));
+    }
+
+    /**
+     * Writes {@code persons}, in order, to {@code writer} as an address book in the format of the json data file,
+     * so the output can be loaded as an address book. {@code writer} is flushed but left open.
+     */
+    public static void writePersons(Iterable<? extends Person> persons, Writer writer) throws IOException {
+        requireNonNull(persons);
+        try (JsonGenerator generator = JsonUtil.createGenerator(writer, false)) {
+            JsonSerializableAddressBook.writePersons(persons, generator);
+        }
+    }
+
+    /**
+     * Returns true if the file at {@code filePath} matches the checksum recorded when it was last saved.
+     */
+    private static boolean hasMatchingChecksum(Path filePath) {
+        Path checksumFilePath = getChecksumFilePath(filePath);
+        if (!FileUtil.isFileExists(checksumFilePath)) {
+            return false;
+        }
+
+        try {
+            long recordedChecksum = Long.parseUnsignedLong(FileUtil.readFromFile(checksumFilePath).trim(), 16);
+            return recordedChecksum == FileUtil.computeChecksum(filePath);
+        } catch (IOException | NumberFormatException e) {
+            logger.info("Unable to verify checksum of " + filePath + ": " + e);
+            return false;
+        }
+    }
+
+    private static Path getChecksumFilePath(Path filePath) {
+        return filePath.resolveSibling(filePath.getFileName() + CHECKSUM_FILE_SUFFIX);
     }
 
 }
@@ -1,5 +1,6 @@
 package seedu.address.storage;
 
+import java.io.IOException;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -7,6 +8,10 @@ import java.util.stream.Collectors;
 import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
 import com.fasterxml.jackson.annotation.JsonRootName;
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
 
 import seedu.address.commons.exceptions.IllegalValueException;
 import seedu.address.model.AddressBook;
@@ -61,4 +66,97 @@ class JsonSerializableAddressBook {
         return addressBook;
     }
 
+    /**
+     * Reads an address book in this class's JSON format from {@code parser} directly into the model's
+     * {@code AddressBook}, converting each person as soon as it has been read.
+     * Unlike {@link #toModelType()}, only one adapted person is held in memory at a time.
+     *
+     * @throws IOException if the input is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    public static AddressBook readModelType(JsonParser parser) throws IOException, IllegalValueException {
+        return readModelType(parser, false);
+    }
+
+    /**
+     * Similar to {@link #readModelType(JsonParser)}, but does not validate the values of person fields
+     * if {@code isTrusted} is true. Missing fields and duplicate persons are still rejected.
+     */
+    public static AddressBook readModelType(JsonParser parser, boolean isTrusted)
+            throws IOException, IllegalValueException {
+        return toAddressBook(readPersons(parser, isTrusted));
+    }
+
+    /**
+     * Reads the persons of an address book in this class's JSON format from {@code parser}, converting each person
+     * as soon as it has been read, without checking them for duplicates or linking parents and students.
+     * Person field values are not validated if {@code isTrusted} is true.
+     *
+     * @throws IOException if the input is not valid JSON.
+     * @throws IllegalValueException if there were any data constraints violated.
+     */
+    static List<Person> readPersons(JsonParser parser, boolean isTrusted) throws IOException, IllegalValueException {
+        if (parser.nextToken() != JsonToken.START_OBJECT) {
+            throw new JsonParseException(parser, "Expected an address book object");
+        }
+
+        List<Person> persons = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String fieldName = parser.getCurrentName();
+            JsonToken value = parser.nextToken();
+            if (!"persons".equals(fieldName) || value == JsonToken.VALUE_NULL) {
+                parser.skipChildren();
+                continue;
+            }
+            if (value != JsonToken.START_ARRAY) {
+                throw new JsonParseException(parser, "Expected an array of persons");
+            }
+            while (parser.nextToken() == JsonToken.START_OBJECT) {
+                persons.add(parser.readValueAs(JsonAdaptedPerson.class).toModelType(isTrusted));
+            }
+        }
+        return persons;
+    }
+
+    /**
+     * Returns an {@code AddressBook} of {@code persons}, in order, with parents and students linked.
+     *
+     * @throws IllegalValueException if {@code persons} contains duplicate persons.
+     */
+    static AddressBook toAddressBook(List<Person> persons) throws IllegalValueException {
+        AddressBook addressBook = new AddressBook();
+        for (Person person : persons) {
+            if (addressBook.hasPerson(person)) {
+                throw new IllegalValueException(MESSAGE_DUPLICATE_PERSON);
+            }
+            addressBook.addPerson(person);
+        }
+
+        // Link parents and students
+        addressBook.linkAllParents();
+
+        return addressBook;
+    }
+
+    /**
+     * Writes {@code source} in this class's JSON format to {@code generator}, one person at a time.
+     * Unlike serializing a {@code JsonSerializableAddressBook}, only one adapted person is held in memory at a time.
+     */
+    public static void writeModelType(ReadOnlyAddressBook source, JsonGenerator generator) throws IOException {
+        writePersons(source.getPersonList(), generator);
+    }
+
+    /**
+     * Writes an address book of {@code persons}, in order, in this class's JSON format to {@code generator}.
+     */
+    static void writePersons(Iterable<? extends Person> persons, JsonGenerator generator) throws IOException {
+        generator.writeStartObject();
+        generator.writeArrayFieldStart("persons");
+        for (Person person : persons) {
+            generator.writeObject(new JsonAdaptedPerson(person));
+        }
+        generator.writeEndArray();
+        generator.writeEndObject();
+    }
+
 }
@@ -0,0 +1,175 @@
+package seedu.address.storage;
+
+import static java.util.Objects.requireNonNull;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.logging.Logger;
+
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import seedu.address.commons.core.LogsCenter;
+import seedu.address.commons.util.StringUtil;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+
+/**
+ * Saves the address book on a background thread, coalescing bursts of save requests into a single write.
+ * Each request replaces the pending snapshot, so only the latest state reaches the disk.
+ * The outcome of each background save goes to the save listener, since the command that asked for it has
+ * already finished.
+ */
+public class WriteBehindAddressBookSaver {
+
+    private static final Logger logger = LogsCenter.getLogger(WriteBehindAddressBookSaver.class);
+
+    private final AddressBookStorage addressBookStorage;
+    private final long delayMillis;
+    private final ScheduledExecutorService executor;
+
+    private ReadOnlyAddressBook pendingSnapshot;
+    private boolean isSaveScheduled;
+    private IOException lastFailure;
+    private Consumer<Optional<IOException>> saveListener = outcome -> {};
+    // The copy of each student in the model as it was last snapshotted, reused while its parent name is unchanged
+    private Map<Student, Student> studentCopies = new IdentityHashMap<>();
+
+    /**
+     * Creates a saver that writes to {@code addressBookStorage} at most {@code delayMillis} after a request.
+     */
+    public WriteBehindAddressBookSaver(AddressBookStorage addressBookStorage, long delayMillis) {
+        requireNonNull(addressBookStorage);
+        assert delayMillis >= 0;
+        this.addressBookStorage = addressBookStorage;
+        this.delayMillis = delayMillis;
+        this.executor = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "addressbook-saver");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    /**
+     * Snapshots {@code addressBook} on the calling thread and schedules it to be saved.
+     * Any snapshot that has not been written yet is superseded by this one.
+     */
+    public synchronized void requestSave(ReadOnlyAddressBook addressBook) {
+        requireNonNull(addressBook);
+        pendingSnapshot = snapshot(addressBook);
+        if (!isSaveScheduled) {
+            isSaveScheduled = true;
+            executor.schedule(this::savePending, delayMillis, TimeUnit.MILLISECONDS);
+        }
+    }
+
+    /**
+     * Sets the listener told the outcome of every background save, on the saver thread: the failure if the save
+     * failed, or an empty {@code Optional} if it succeeded.
+     */
+    public synchronized void setSaveListener(Consumer<Optional<IOException>> saveListener) {
+        requireNonNull(saveListener);
+        this.saveListener = saveListener;
+    }
+
+    /**
+     * Writes any pending snapshot and blocks until it is on disk.
+     *
+     * @throws IOException if the last save failed, so the file does not hold the latest state.
+     */
+    public void flush() throws IOException {
+        try {
+            executor.submit(this::savePending).get();
+        } catch (ExecutionException e) {
+            throw new IOException("Failed to save address book", e.getCause());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while saving address book", e);
+        }
+
+        synchronized (this) {
+            if (lastFailure != null) {
+                throw lastFailure;
+            }
+        }
+    }
+
+    /**
+     * Flushes any pending snapshot and stops the background thread.
+     *
+     * @throws IOException if the final save failed.
+     */
+    public void shutdown() throws IOException {
+        try {
+            flush();
+        } finally {
+            executor.shutdown();
+        }
+    }
+
+    private void savePending() {
+        ReadOnlyAddressBook snapshot;
+        synchronized (this) {
+            snapshot = pendingSnapshot;
+            pendingSnapshot = null;
+            isSaveScheduled = false;
+        }
+        if (snapshot == null) {
+            return;
+        }
+
+        Optional<IOException> failure = Optional.empty();
+        try {
+            addressBookStorage.saveAddressBook(snapshot);
+        } catch (IOException e) {
+            logger.warning("Background save failed: " + StringUtil.getDetails(e));
+            failure = Optional.of(e);
+        }
+
+        Consumer<Optional<IOException>> listener;
+        synchronized (this) {
+            // A later successful save puts the latest state on disk, so an earlier failure no longer matters
+            lastFailure = failure.orElse(null);
+            listener = saveListener;
+        }
+        listener.accept(failure);
+    }
+
+    /**
+     * Returns a copy of the person list of {@code addressBook} that later commands cannot change.
+     * A student's parent name is updated in place, so each student is replaced by a copy that the model never
+     * touches. The same copy is reused until that parent name changes, which lets storages that track persons by
+     * reference still tell which ones changed.
+     */
+    private ReadOnlyAddressBook snapshot(ReadOnlyAddressBook addressBook) {
+        List<Person> persons = new ArrayList<>(addressBook.getPersonList().size());
+        Map<Student, Student> copies = new IdentityHashMap<>();
+        for (Person person : addressBook.getPersonList()) {
+            if (person instanceof Student student) {
+                Student copy = studentCopies.get(student);
+                if (copy == null || !Objects.equals(copy.getParentName(), student.getParentName())) {
+                    copy = new Student(student, student.getRemark());
+                }
+                copies.put(student, copy);
+                persons.add(copy);
+            } else {
+                persons.add(person);
+            }
+        }
+        studentCopies = copies;
+
+        ObservableList<Person> personList = FXCollections.unmodifiableObservableList(
+                FXCollections.observableList(persons));
+        return () -> personList;
+    }
+}
@@ -1,17 +1,23 @@
 package seedu.address.ui;
 
 import java.util.Comparator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
+import javafx.collections.ObservableList;
 import javafx.fxml.FXML;
 import javafx.geometry.Insets;
+import javafx.scene.Node;
 import javafx.scene.control.Label;
 import javafx.scene.layout.FlowPane;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import seedu.address.model.person.Person;
-import seedu.address.model.person.Session;
+import seedu.address.model.person.SessionSet;
 import seedu.address.model.person.Student;
+import seedu.address.model.tag.Tag;
 
 /**
  * An UI component that displays information of a {@code Person}.
@@ -19,6 +25,14 @@ import seedu.address.model.person.Student;
 public class PersonCard extends UiPart<Region> {
 
     private static final String FXML = "PersonListCard.fxml";
+    private static final String LABEL_STYLE_CLASS = "label";
+    private static final Insets SESSION_MARGIN = new Insets(0, 6, 0, 0); // top, right, bottom, left
+
+    // The sorted labels of recently shown tag and session sets, which many persons share, so that showing a person
+    // again while scrolling does not sort or format anything. Only used on the JavaFX application thread.
+    private static final int LABEL_CACHE_SIZE = 512;
+    private static final Map<Set<Tag>, List<LabelModel>> TAG_LABELS = newLabelCache();
+    private static final Map<SessionSet, List<LabelModel>> SESSION_LABELS = newLabelCache();
 
     /**
      * Note: Certain keywords such as "location" and "resources" are reserved keywords in JavaFX.
@@ -28,8 +42,6 @@ public class PersonCard extends UiPart<Region> {
      * @see <a href="https://github.com/se-edu/addressbook-level4/issues/336">The issue on AddressBook level 4</a>
      */
 
-    public final Person person;
-
     @FXML
     private HBox cardPane;
     @FXML
@@ -49,41 +61,92 @@ public class PersonCard extends UiPart<Region> {
     @FXML
     private FlowPane sessions;
 
+    private String roleStyleClass;
+
     /**
-     * Creates a {@code PersonCode} with the given {@code Person} and index to display.
+     * Creates an empty {@code PersonCard}, to be shown with {@link #setPerson(Person, int)}.
      */
-    public PersonCard(Person person, int displayedIndex) {
+    public PersonCard() {
         super(FXML);
-        this.person = person;
+    }
+
+    /**
+     * Shows {@code person} at {@code displayedIndex} on this card, reusing the labels it already has.
+     */
+    public void setPerson(Person person, int displayedIndex) {
         id.setText(displayedIndex + ". ");
         name.setText(person.getName().fullName);
         phone.setText(person.getPhone().value);
         address.setText(person.getAddress().value);
         remark.setText(person.getRemark().value);
         if (person instanceof Student student) {
-            student.getTags().stream()
-                    .sorted(Comparator.comparing(tag -> tag.tagName))
-                    .forEach(tag -> {
-                        Label tagLabel = new Label(tag.tagName);
-                        String styleClass = tag.tagName.toLowerCase();
-                        tagLabel.getStyleClass().add(styleClass);
-                        tags.getChildren().add(tagLabel);
-                    });
-            student.getSessions().stream().sorted(Comparator
-                            .comparingInt((Session s) -> List.of("Mon", "Tue", "Wed", "Thur", "Fri", "Sat", "Sun")
-                                    .indexOf(s.getDay().getValue()))
-                            .thenComparingInt(s -> s.getTime().getStartMinutes()))
-                    .forEach(s -> {
-                        Label sessionLabel = new Label(s.toString().toLowerCase());
-                        sessionLabel.getStyleClass().add("session-box");
-                        // Optional: add specific style based on day
-                        sessionLabel.getStyleClass().add(s.getDay().getValue().toLowerCase());
-                        // Add right margin (or any side)
-                        FlowPane.setMargin(sessionLabel, new Insets(0, 6, 0, 0)); // top, right, bottom, left
-                        sessions.getChildren().add(sessionLabel);
-                    });
+            setLabels(tags, TAG_LABELS.computeIfAbsent(student.getTags(), PersonCard::toTagLabels), null);
+            setLabels(sessions, SESSION_LABELS.computeIfAbsent(student.getSessions(), PersonCard::toSessionLabels),
+                    SESSION_MARGIN);
+        } else {
+            setLabels(tags, List.of(), null);
+            setLabels(sessions, List.of(), null);
         }
-        role.setText(person.getRole().toString());
-        role.getStyleClass().add(person.getRole().toString().toLowerCase());
+
+        String roleName = person.getRole().toString();
+        role.setText(roleName);
+        if (roleStyleClass != null) {
+            role.getStyleClass().remove(roleStyleClass);
+        }
+        roleStyleClass = roleName.toLowerCase();
+        role.getStyleClass().add(roleStyleClass);
+    }
+
+    /**
+     * Makes the labels in {@code pane} show {@code models}, changing the existing labels in place and only adding
+     * or removing labels for the difference in count.
+     */
+    private static void setLabels(FlowPane pane, List<LabelModel> models, Insets margin) {
+        ObservableList<Node> children = pane.getChildren();
+        if (children.size() > models.size()) {
+            children.remove(models.size(), children.size());
+        }
+        for (int i = 0; i < models.size(); i++) {
+            Label label;
+            if (i < children.size()) {
+                label = (Label) children.get(i);
+            } else {
+                label = new Label();
+                FlowPane.setMargin(label, margin);
+                children.add(label);
+            }
+            label.setText(models.get(i).text());
+            label.getStyleClass().setAll(models.get(i).styleClasses());
+        }
+    }
+
+    private static List<LabelModel> toTagLabels(Set<Tag> tagSet) {
+        return tagSet.stream()
+                .sorted(Comparator.comparing(tag -> tag.tagName))
+                .map(tag -> new LabelModel(tag.tagName, List.of(LABEL_STYLE_CLASS, tag.tagName.toLowerCase())))
+                .toList();
+    }
+
+    private static List<LabelModel> toSessionLabels(SessionSet sessionSet) {
+        // Sessions already come in order of day, then start
+        return sessionSet.stream()
+                .map(session -> new LabelModel(session.toString().toLowerCase(), List.of(LABEL_STYLE_CLASS,
+                        "session-box", session.getDay().getValue().toLowerCase())))
+                .toList();
+    }
+
+    private static <K> Map<K, List<LabelModel>> newLabelCache() {
+        return new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<K, List<LabelModel>> eldest) {
+                return size() > LABEL_CACHE_SIZE;
+            }
+        };
+    }
+
+    /**
+     * The text and style classes of one tag or session label.
+     */
+    private record LabelModel(String text, List<String> styleClasses) {
     }
 }
@@ -0,0 +1,56 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.core.Config;
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.commons.util.ConfigUtil;
+import seedu.address.commons.util.FileUtil;
+import seedu.address.model.AddressBook;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.util.SampleDataUtil;
+import seedu.address.storage.JsonUserPrefsStorage;
+
+public class AppComponentsTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private Path configFilePath;
+    private Path addressBookFilePath;
+
+    @BeforeEach
+    public void setUp() throws Exception {
+        configFilePath = temporaryFolder.resolve("config.json");
+        addressBookFilePath = temporaryFolder.resolve("addressbook.json");
+
+        Config config = new Config();
+        config.setUserPrefsFilePath(temporaryFolder.resolve("preferences.json"));
+        ConfigUtil.saveConfig(config, configFilePath);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setAddressBookFilePath(addressBookFilePath);
+        new JsonUserPrefsStorage(config.getUserPrefsFilePath()).saveUserPrefs(userPrefs);
+
+        FileUtil.writeToFile(addressBookFilePath, "not json");
+    }
+
+    @Test
+    public void initialize_unreadableDataFile_usesSampleData() {
+        AppComponents components = AppComponents.initialize(configFilePath);
+        assertEquals(new AddressBook(SampleDataUtil.getSampleAddressBook()),
+                new AddressBook(components.getModel().getAddressBook()));
+    }
+
+    @Test
+    public void initializeWithoutFallback_unreadableDataFile_throwsDataLoadingException() throws Exception {
+        assertThrows(DataLoadingException.class, () -> AppComponents.initializeWithoutFallback(configFilePath));
+        assertEquals("not json", FileUtil.readFromFile(addressBookFilePath));
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.BufferedReader;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.Logic;
+import seedu.address.logic.LogicManager;
+import seedu.address.logic.commands.ClearCommand;
+import seedu.address.logic.commands.ExitCommand;
+import seedu.address.logic.commands.ListCommand;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.storage.JsonUserPrefsStorage;
+import seedu.address.storage.StorageManager;
+
+public class HeadlessMainTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+
+    private StorageManager storage;
+    private Model model;
+    private Logic logic;
+
+    @BeforeEach
+    public void setUp() {
+        JsonAddressBookStorage addressBookStorage =
+                new JsonAddressBookStorage(temporaryFolder.resolve("addressbook.json"));
+        JsonUserPrefsStorage userPrefsStorage = new JsonUserPrefsStorage(temporaryFolder.resolve("userPrefs.json"));
+        storage = new StorageManager(addressBookStorage, userPrefsStorage);
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        logic = new LogicManager(model, storage);
+    }
+
+    @Test
+    public void runCommands_allCommandsSucceed_printsResults() throws IOException {
+        int exitCode = run("# nightly clean-up", "list", "", "  clear  ");
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, exitCode);
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS, ClearCommand.MESSAGE_SUCCESS), output(out));
+        assertEquals("", output(err));
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    @Test
+    public void runCommands_commandFails_stopsAtFailure() throws IOException {
+        int exitCode = run("list", "frobnicate", "clear");
+
+        assertEquals(HeadlessMain.EXIT_COMMAND_FAILED, exitCode);
+        assertEquals(lines(ListCommand.MESSAGE_SUCCESS), output(out));
+        assertEquals(lines("frobnicate: " + MESSAGE_UNKNOWN_COMMAND), output(err));
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void runCommands_exitCommand_stopsReading() throws IOException {
+        int exitCode = run("exit", "clear");
+
+        assertEquals(HeadlessMain.EXIT_SUCCESS, exitCode);
+        assertEquals(lines(ExitCommand.MESSAGE_EXIT_ACKNOWLEDGEMENT), output(out));
+        assertEquals(getTypicalAddressBook().getPersonList(), model.getAddressBook().getPersonList());
+    }
+
+    @Test
+    public void runCommands_unexpectedError_reportsFailureAndKeepsEarlierChanges() throws IOException {
+        model = new ModelManager(getTypicalAddressBook(), new UserPrefs()) {
+            @Override
+            public void updateFilteredPersonList(Predicate<Person> predicate) {
+                throw new IllegalStateException("Filter failed");
+            }
+        };
+        logic = new LogicManager(model, storage);
+
+        int exitCode = run("clear", "list", "clear");
+
+        assertEquals(HeadlessMain.EXIT_COMMAND_FAILED, exitCode);
+        assertEquals(lines(ClearCommand.MESSAGE_SUCCESS), output(out));
+        assertTrue(output(err).startsWith("list: Unexpected error Filter failed"));
+        assertTrue(model.getAddressBook().getPersonList().isEmpty());
+    }
+
+    private int run(String... commandLines) throws IOException {
+        BufferedReader commands = new BufferedReader(new StringReader(String.join("\n", commandLines)));
+        return HeadlessMain.runCommands(logic, commands, new PrintStream(out, true, StandardCharsets.UTF_8),
+                new PrintStream(err, true, StandardCharsets.UTF_8));
+    }
+
+    private static String output(ByteArrayOutputStream stream) {
+        return stream.toString(StandardCharsets.UTF_8);
+    }
+
+    private static String lines(String... lines) {
+        return String.join(System.lineSeparator(), lines) + System.lineSeparator();
+    }
+}
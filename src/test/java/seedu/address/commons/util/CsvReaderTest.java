@@ -0,0 +1,53 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvReaderTest {
+
+    @Test
+    public void readRecord_plainFields_splitsOnCommas() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("a,b,,c\nd"));
+
+        assertEquals(List.of("a", "b", "", "c"), reader.readRecord());
+        assertEquals(1, reader.getLineNumber());
+        assertEquals(List.of("d"), reader.readRecord());
+        assertEquals(2, reader.getLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_quotedFields_keepsCommasQuotesAndLineBreaks() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\"a, b\",\"say \"\"hi\"\"\",\"two\nlines\"\nnext"));
+
+        assertEquals(List.of("a, b", "say \"hi\"", "two\nlines"), reader.readRecord());
+        assertEquals(List.of("next"), reader.readRecord());
+        assertEquals(3, reader.getLineNumber());
+    }
+
+    @Test
+    public void readRecord_windowsLineEndingsAndByteOrderMark_ignored() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("\uFEFFname,phone\r\n\r\nAmy,123\r\n"));
+
+        assertEquals(List.of("name", "phone"), reader.readRecord());
+        assertEquals(List.of(""), reader.readRecord());
+        assertEquals(List.of("Amy", "123"), reader.readRecord());
+        assertEquals(3, reader.getLineNumber());
+        assertNull(reader.readRecord());
+    }
+
+    @Test
+    public void readRecord_unclosedQuote_throwsIoException() throws IOException {
+        CsvReader reader = new CsvReader(new StringReader("ok\n\"never closed,\nstill open"));
+
+        assertEquals(List.of("ok"), reader.readRecord());
+        assertThrows(IOException.class, reader::readRecord);
+    }
+}
@@ -0,0 +1,41 @@
+package seedu.address.commons.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+public class CsvWriterTest {
+
+    @Test
+    public void writeRecord_plainFields_writesUnquoted() throws IOException {
+        StringWriter out = new StringWriter();
+        CsvWriter writer = new CsvWriter(out);
+        writer.writeRecord(List.of("a", "b", "", "c"));
+        writer.writeRecord(List.of("d"));
+
+        assertEquals("a,b,,c\r\nd\r\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_specialCharacters_quotesOnlyThoseFields() throws IOException {
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord(List.of("a, b", "say \"hi\"", "two\nlines", "plain"));
+
+        assertEquals("\"a, b\",\"say \"\"hi\"\"\",\"two\nlines\",plain\r\n", out.toString());
+    }
+
+    @Test
+    public void writeRecord_readBackByCsvReader_sameFields() throws IOException {
+        List<String> fields = List.of("a, b", "say \"hi\"", "two\r\nlines", "", "plain");
+        StringWriter out = new StringWriter();
+        new CsvWriter(out).writeRecord(fields);
+
+        CsvReader reader = new CsvReader(new StringReader(out.toString()));
+        assertEquals(fields, reader.readRecord());
+    }
+}
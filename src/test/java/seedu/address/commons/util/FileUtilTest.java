@@ -1,13 +1,25 @@
 package seedu.address.commons.util;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.stream.Stream;
+
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 
 public class FileUtilTest {
 
+    @TempDir
+    public Path testFolder;
+
     @Test
     public void isValidPath() {
         // valid path
@@ -20,4 +32,46 @@ public class FileUtilTest {
         assertThrows(NullPointerException.class, () -> FileUtil.isValidPath(null));
     }
 
+    @Test
+    public void writeAtomically_existingFile_replacesContent() throws Exception {
+        Path file = testFolder.resolve("dir").resolve("file.txt");
+        FileUtil.writeAtomically(file, out -> out.write("old".getBytes(StandardCharsets.UTF_8)));
+        FileUtil.writeAtomically(file, out -> out.write("new".getBytes(StandardCharsets.UTF_8)));
+
+        assertEquals("new", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(file.getParent()));
+    }
+
+    @Test
+    public void writeAtomically_writerThrows_keepsOriginalContent() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        FileUtil.writeToFile(file, "original");
+
+        assertThrows(IOException.class, () -> FileUtil.writeAtomically(file, out -> {
+            out.write("partial".getBytes(StandardCharsets.UTF_8));
+            throw new IOException("disk full");
+        }));
+
+        assertEquals("original", FileUtil.readFromFile(file));
+        assertEquals(1, countFiles(testFolder));
+    }
+
+    @Test
+    public void computeChecksum_sameContent_sameChecksum() throws Exception {
+        Path file = testFolder.resolve("file.txt");
+        Path otherFile = testFolder.resolve("other.txt");
+        FileUtil.writeToFile(file, "content");
+        FileUtil.writeToFile(otherFile, "content");
+        assertEquals(FileUtil.computeChecksum(file), FileUtil.computeChecksum(otherFile));
+
+        FileUtil.writeToFile(otherFile, "contend");
+        assertNotEquals(FileUtil.computeChecksum(file), FileUtil.computeChecksum(otherFile));
+    }
+
+    private static long countFiles(Path dir) throws IOException {
+        try (Stream<Path> files = Files.list(dir)) {
+            return files.count();
+        }
+    }
+
 }
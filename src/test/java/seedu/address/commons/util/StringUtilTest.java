@@ -76,6 +76,35 @@ public class StringUtilTest {
         assertThrows(NullPointerException.class, () -> StringUtil.containsWordIgnoreCase(null, "abc"));
     }
 
+    //---------------- Tests for isWithinEditDistance --------------------------------------
+
+    @Test
+    public void isWithinEditDistance_negativeMaxEdits_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> StringUtil.isWithinEditDistance("abc", "abc", -1));
+    }
+
+    @Test
+    public void isWithinEditDistance_validInputs_correctResult() {
+        // identical words and empty strings
+        assertTrue(StringUtil.isWithinEditDistance("bernice", "bernice", 0));
+        assertTrue(StringUtil.isWithinEditDistance("", "", 0));
+        assertTrue(StringUtil.isWithinEditDistance("", "ab", 2));
+        assertFalse(StringUtil.isWithinEditDistance("", "ab", 1));
+
+        // one substitution, insertion or deletion
+        assertTrue(StringUtil.isWithinEditDistance("bernice", "bernise", 1));
+        assertTrue(StringUtil.isWithinEditDistance("bernice", "berniece", 1));
+        assertTrue(StringUtil.isWithinEditDistance("bernice", "brnice", 1));
+        assertFalse(StringUtil.isWithinEditDistance("bernice", "bernise", 0));
+
+        // transposition counts as two edits
+        assertFalse(StringUtil.isWithinEditDistance("bernice", "brenice", 1));
+        assertTrue(StringUtil.isWithinEditDistance("bernice", "brenice", 2));
+
+        // case sensitive
+        assertFalse(StringUtil.isWithinEditDistance("Bernice", "bernice", 0));
+    }
+
     /*
      * Valid equivalence partitions for word:
      *   - any word
@@ -11,6 +11,9 @@ import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Comparator;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -25,6 +28,8 @@ import seedu.address.model.ReadOnlyAddressBook;
 import seedu.address.model.ReadOnlyUserPrefs;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
+import seedu.address.model.person.SessionTimetable;
 import seedu.address.model.person.Student;
 import seedu.address.testutil.StudentBuilder;
 
@@ -190,6 +195,12 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public void addPersons(List<Person> persons) {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /** {@inheritDoc} */
         @Override
         public void setPerson(Person target, Person editedPerson) {
@@ -226,6 +237,18 @@ public class AddCommandTest {
             throw new AssertionError("This method should not be called.");
         }
 
+        /** {@inheritDoc} */
+        @Override
+        public Predicate<Person> getSearchPredicate(Function<PersonSearchIndex, Set<Person>> search) {
+            throw new AssertionError("This method should not be called.");
+        }
+
+        /** {@inheritDoc} */
+        @Override
+        public SessionTimetable getSessionTimetable() {
+            throw new AssertionError("This method should not be called.");
+        }
+
         /**
          * Sort hook used by new view-session flow.
          * No-op in this stub since add does not depend on order.
@@ -38,7 +38,7 @@ public class AddSessionCommandTest {
         Model model = new ModelManager(ab, new UserPrefs());
 
         Index index = Index.fromOneBased(1);
-        Day day = new Day("Mon");
+        Day day = Day.of("Mon");
         Time time = new Time("12pm-1pm");
         AddSessionCommand command = new AddSessionCommand(index, day, time);
 
@@ -70,7 +70,7 @@ public class AddSessionCommandTest {
         Model model = new ModelManager(ab, new UserPrefs());
 
         Index index = Index.fromOneBased(1);
-        Day day = new Day("Mon");
+        Day day = Day.of("Mon");
         Time time = new Time("12pm-1pm");
         AddSessionCommand firstAdd = new AddSessionCommand(index, day, time);
         // add once - should succeed
@@ -89,7 +89,7 @@ public class AddSessionCommandTest {
         Model model = new ModelManager(ab, new UserPrefs());
 
         Index index = Index.fromOneBased(1);
-        Day day = new Day("Mon");
+        Day day = Day.of("Mon");
         Time firstTime = new Time("2pm-3pm");
         AddSessionCommand firstAdd = new AddSessionCommand(index, day, firstTime);
         // add once - should succeed
@@ -102,6 +102,28 @@ public class AddSessionCommandTest {
     }
 
 
+    @Test
+    public void execute_overCapacity_throwsCommandException() throws Exception {
+        Student first = new StudentBuilder().withName("First Student").withSessions().build();
+        Student second = new StudentBuilder().withName("Second Student").withSessions().build();
+        AddressBook ab = new AddressBook();
+        ab.addPerson(first);
+        ab.addPerson(second);
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSessionCapacity(1);
+        Model model = new ModelManager(ab, userPrefs);
+
+        Day day = Day.of("Tue");
+        new AddSessionCommand(Index.fromOneBased(1), day, new Time("2pm-3pm")).execute(model);
+
+        // the centre is full from 2pm to 3pm
+        AddSessionCommand overlapAdd = new AddSessionCommand(Index.fromOneBased(2), day, new Time("2:30pm-4pm"));
+        assertCommandFailure(overlapAdd, model, String.format(AddSessionCommand.MESSAGE_OVER_CAPACITY, 1));
+
+        // back-to-back sessions do not run at the same time
+        new AddSessionCommand(Index.fromOneBased(2), day, new Time("3pm-4pm")).execute(model);
+    }
+
     @Test
     public void execute_onParent_throwsCommandException() {
         Person parent = new ParentBuilder().build();
@@ -110,7 +132,7 @@ public class AddSessionCommandTest {
         Model model = new ModelManager(ab, new UserPrefs());
 
         Index index = Index.fromOneBased(1);
-        Day day = new Day("Tue");
+        Day day = Day.of("Tue");
         Time time = new Time("1pm-3pm");
         AddSessionCommand command = new AddSessionCommand(index, day, time);
 
@@ -125,7 +147,7 @@ public class AddSessionCommandTest {
         Model model = new ModelManager(ab, new UserPrefs());
 
         Index outOfBoundsIndex = Index.fromOneBased(2); // only 1 person in model
-        Day day = new Day("Wed");
+        Day day = Day.of("Wed");
         Time time = new Time("2pm-4pm");
         AddSessionCommand command = new AddSessionCommand(outOfBoundsIndex, day, time);
 
@@ -136,7 +158,7 @@ public class AddSessionCommandTest {
     public void equals() {
         Index index1 = Index.fromOneBased(1);
         Index index2 = Index.fromOneBased(2);
-        Day day = new Day("Mon");
+        Day day = Day.of("Mon");
         Time time = new Time("12pm-1pm");
 
         AddSessionCommand cmd1 = new AddSessionCommand(index1, day, time);
@@ -154,7 +176,7 @@ public class AddSessionCommandTest {
         assertFalse(cmd1.equals("not a command"));
 
         // different day -> false
-        AddSessionCommand cmdDifferentDay = new AddSessionCommand(index1, new Day("Tue"), time);
+        AddSessionCommand cmdDifferentDay = new AddSessionCommand(index1, Day.of("Tue"), time);
         assertFalse(cmd1.equals(cmdDifferentDay));
 
         // different time -> false
@@ -165,7 +187,7 @@ public class AddSessionCommandTest {
     @Test
     public void toStringMethod() {
         Index index = Index.fromOneBased(1);
-        Day day = new Day("Mon");
+        Day day = Day.of("Mon");
         Time time = new Time("12pm-1pm");
         AddSessionCommand cmd = new AddSessionCommand(index, day, time);
 
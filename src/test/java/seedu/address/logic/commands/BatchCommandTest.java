@@ -0,0 +1,135 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CHARLES;
+import static seedu.address.testutil.TypicalPersons.JAMES;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.commons.core.index.Index;
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.BatchCommand.ScriptCommand;
+import seedu.address.model.AddressBook;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Time;
+import seedu.address.testutil.ParentBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class BatchCommandTest {
+
+    private static final Path SCRIPT_PATH = Path.of("intake.txt");
+
+    private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_allCommandsSucceed_success() {
+        Session session = new Session(Day.of("Tue"), new Time("9am-11am"));
+        BatchCommand batchCommand = new BatchCommand(SCRIPT_PATH, List.of(
+                new ScriptCommand(1, "delete 1", new DeleteCommand(INDEX_FIRST_PERSON)),
+                new ScriptCommand(3, "addsession 1 d/Tue ti/9am-11am",
+                        new AddSessionCommand(INDEX_FIRST_PERSON, session.getDay(), session.getTime()))));
+
+        Model expectedModel = new ModelManager(model.getAddressBook(), new UserPrefs());
+        expectedModel.deletePerson(ALICE);
+        expectedModel.setPerson(BENSON, new StudentBuilder(BENSON).withSessions(
+                BENSON.getSessions().with(session).toArray(new Session[0])).build());
+
+        assertCommandSuccess(batchCommand, model, String.format(BatchCommand.MESSAGE_SUCCESS, 2, SCRIPT_PATH),
+                expectedModel);
+        assertTrue(((Student) model.getFilteredPersonList().get(0)).hasSession(session));
+    }
+
+    @Test
+    public void execute_commandFails_nothingChanges() {
+        // the last person's index is only out of bounds once the first command has run
+        Index outOfBoundIndex = Index.fromOneBased(model.getFilteredPersonList().size());
+        BatchCommand batchCommand = new BatchCommand(SCRIPT_PATH, List.of(
+                new ScriptCommand(1, "delete 1", new DeleteCommand(INDEX_FIRST_PERSON)),
+                new ScriptCommand(2, "delete " + outOfBoundIndex.getOneBased(), new DeleteCommand(outOfBoundIndex))));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                "delete " + outOfBoundIndex.getOneBased(), Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+    }
+
+    @Test
+    public void execute_commandFails_parentLinksUnchanged() {
+        Parent parent = new ParentBuilder(CHARLES).build();
+        Student child = new StudentBuilder(JAMES).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(parent);
+        addressBook.addPerson(child);
+        addressBook.linkAllParents();
+        model = new ModelManager(addressBook, new UserPrefs());
+
+        // deleting the parent unlinks the child, but only in the copy that the batch works on
+        BatchCommand batchCommand = new BatchCommand(SCRIPT_PATH, List.of(
+                new ScriptCommand(1, "delete 1", new DeleteCommand(INDEX_FIRST_PERSON)),
+                new ScriptCommand(2, "delete 2", new DeleteCommand(INDEX_SECOND_PERSON))));
+
+        assertCommandFailure(batchCommand, model, String.format(BatchCommand.MESSAGE_COMMAND_FAILED, 2,
+                "delete 2", Messages.MESSAGE_INVALID_PERSON_DISPLAYED_INDEX));
+        assertTrue(child.hasLinkedParent());
+        assertTrue(parent.hasChild(child));
+    }
+
+    @Test
+    public void isMutating() {
+        assertFalse(new BatchCommand(SCRIPT_PATH, List.of(
+                new ScriptCommand(1, "list", new ListCommand()))).isMutating());
+        assertTrue(new BatchCommand(SCRIPT_PATH, List.of(
+                new ScriptCommand(1, "list", new ListCommand()),
+                new ScriptCommand(2, "delete 1", new DeleteCommand(INDEX_FIRST_PERSON)))).isMutating());
+    }
+
+    @Test
+    public void equals() {
+        List<ScriptCommand> commands = List.of(new ScriptCommand(1, "delete 1", new DeleteCommand(INDEX_FIRST_PERSON)));
+        BatchCommand batchCommand = new BatchCommand(SCRIPT_PATH, commands);
+
+        // same values -> returns true
+        assertTrue(batchCommand.equals(new BatchCommand(Path.of("intake.txt"), commands)));
+
+        // same object -> returns true
+        assertTrue(batchCommand.equals(batchCommand));
+
+        // null -> returns false
+        assertFalse(batchCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(batchCommand.equals(new ClearCommand()));
+
+        // different script -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(Path.of("other.txt"), commands)));
+
+        // different commands -> returns false
+        assertFalse(batchCommand.equals(new BatchCommand(SCRIPT_PATH,
+                List.of(new ScriptCommand(1, "delete 2", new DeleteCommand(INDEX_SECOND_PERSON))))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        List<ScriptCommand> commands = List.of(new ScriptCommand(1, "delete 1", new DeleteCommand(INDEX_FIRST_PERSON)));
+        BatchCommand batchCommand = new BatchCommand(SCRIPT_PATH, commands);
+        String expected = BatchCommand.class.getCanonicalName() + "{scriptPath=" + SCRIPT_PATH
+                + ", commands=" + commands + "}";
+        assertEquals(expected, batchCommand.toString());
+    }
+}
@@ -63,7 +63,7 @@ public class CommandTestUtil {
     public static final String VALID_TIME_1PM = "1pm-2pm";
     public static final String VALID_DAY_TUE = "Tuesday";
     public static final String VALID_TIME_2PM = "2pm-3pm";
-    public static final Session VALID_SESSION = new Session(new Day(VALID_DAY), new Time(VALID_TIME));
+    public static final Session VALID_SESSION = new Session(Day.of(VALID_DAY), new Time(VALID_TIME));
 
     public static final String NAME_DESC_AMY = " " + PREFIX_NAME + VALID_NAME_AMY;
     public static final String NAME_DESC_BOB = " " + PREFIX_NAME + VALID_NAME_BOB;
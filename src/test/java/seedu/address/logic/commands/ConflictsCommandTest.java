@@ -0,0 +1,85 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.ELLE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Time;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code ConflictsCommand}.
+ */
+public class ConflictsCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_overlappingSessions_listsStudents() {
+        Time time = new Time("2pm-4pm");
+        CommandResult result = new ConflictsCommand(Day.of("Mon"), time).execute(model);
+
+        assertEquals(String.format(ConflictsCommand.MESSAGE_SUCCESS, 5, time, "Mon"), result.getFeedbackToUser());
+        assertEquals(Arrays.asList(ALICE, BENSON, CARL, DANIEL, ELLE), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_noOverlappingSessions_listsNoOne() {
+        Time time = new Time("3pm-4pm");
+        CommandResult result = new ConflictsCommand(Day.of("Mon"), time).execute(model);
+
+        assertEquals(String.format(ConflictsCommand.MESSAGE_SUCCESS, 0, time, "Mon"), result.getFeedbackToUser());
+        assertEquals(Collections.emptyList(), model.getFilteredPersonList());
+    }
+
+    @Test
+    public void execute_overCapacity_reportsPeakLoad() {
+        Time time = new Time("2pm-4pm");
+        Model cappedModel = new ModelManager(getTypicalAddressBook(), withCapacity(4));
+        String feedback = new ConflictsCommand(Day.of("Mon"), time).execute(cappedModel).getFeedbackToUser();
+        assertTrue(feedback.endsWith(String.format(ConflictsCommand.MESSAGE_OVER_CAPACITY, 5, 4)));
+
+        Model roomyModel = new ModelManager(getTypicalAddressBook(), withCapacity(5));
+        feedback = new ConflictsCommand(Day.of("Mon"), time).execute(roomyModel).getFeedbackToUser();
+        assertFalse(feedback.contains("capacity"));
+    }
+
+    @Test
+    public void equals() {
+        ConflictsCommand mondayCommand = new ConflictsCommand(Day.of("Mon"), new Time("2pm-4pm"));
+
+        // same values -> returns true
+        assertTrue(mondayCommand.equals(new ConflictsCommand(Day.of("Mon"), new Time("2pm-4pm"))));
+
+        // same object -> returns true
+        assertTrue(mondayCommand.equals(mondayCommand));
+
+        // null -> returns false
+        assertFalse(mondayCommand.equals(null));
+
+        // different day -> returns false
+        assertFalse(mondayCommand.equals(new ConflictsCommand(Day.of("Tue"), new Time("2pm-4pm"))));
+
+        // different time -> returns false
+        assertFalse(mondayCommand.equals(new ConflictsCommand(Day.of("Mon"), new Time("2pm-5pm"))));
+    }
+
+    private static UserPrefs withCapacity(int sessionCapacity) {
+        UserPrefs userPrefs = new UserPrefs();
+        userPrefs.setSessionCapacity(sessionCapacity);
+        return userPrefs;
+    }
+}
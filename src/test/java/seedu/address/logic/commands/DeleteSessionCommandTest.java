@@ -31,10 +31,10 @@ import seedu.address.model.person.Time;
  */
 public class DeleteSessionCommandTest {
 
-    private static final Day TEST_DAY_ONE = new Day("Tue");
+    private static final Day TEST_DAY_ONE = Day.of("Tue");
     private static final Time TEST_TIME_ONE = new Time("12pm-1pm");
 
-    private static final Day TEST_DAY_CORRECT = new Day("Mon");
+    private static final Day TEST_DAY_CORRECT = Day.of("Mon");
     private static final Time TEST_TIME_CORRECT = new Time("12pm-3pm");
 
     private Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
@@ -122,7 +122,7 @@ public class DeleteSessionCommandTest {
 
         // same day and time -> returns true
         assertTrue(standardCommand.equals(new DeleteSessionCommand(
-                INDEX_FIRST_PERSON, new Day("Tue"), new Time("12pm-1pm"))));
+                INDEX_FIRST_PERSON, Day.of("Tue"), new Time("12pm-1pm"))));
     }
 
     @Test
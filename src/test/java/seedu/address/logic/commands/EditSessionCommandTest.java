@@ -25,8 +25,8 @@ import seedu.address.model.person.Time;
 import seedu.address.testutil.StudentBuilder;
 
 public class EditSessionCommandTest {
-    private static final Day VALID_DAY = new Day("Mon");
-    private static final Day NEW_DAY = new Day("Tue");
+    private static final Day VALID_DAY = Day.of("Mon");
+    private static final Day NEW_DAY = Day.of("Tue");
     private static final Time VALID_TIME = new Time("2pm-3pm");
     private static final Time NEW_TIME = new Time("3pm-4pm");
     private static final String VALID_NAME = "Ma Yirui";
@@ -115,7 +115,7 @@ public class EditSessionCommandTest {
 
         // different old day -> returns false
         assertFalse(standardCommand.equals(new EditSessionCommand(
-                INDEX_FIRST_PERSON, new Day("Wednesday"), VALID_TIME, NEW_DAY, NEW_TIME)));
+                INDEX_FIRST_PERSON, Day.of("Wednesday"), VALID_TIME, NEW_DAY, NEW_TIME)));
 
         // different old time -> returns false
         assertFalse(standardCommand.equals(new EditSessionCommand(
@@ -123,7 +123,7 @@ public class EditSessionCommandTest {
 
         // different new day -> returns false
         assertFalse(standardCommand.equals(new EditSessionCommand(
-                INDEX_FIRST_PERSON, VALID_DAY, VALID_TIME, new Day("Thursday"), NEW_TIME)));
+                INDEX_FIRST_PERSON, VALID_DAY, VALID_TIME, Day.of("Thursday"), NEW_TIME)));
 
         // different new time -> returns false
         assertFalse(standardCommand.equals(new EditSessionCommand(
@@ -0,0 +1,111 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.ExportCommand.Scope;
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.util.PersonExportFormat;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Person;
+
+public class ExportCommandTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_shownScope_writesDisplayedPersons() throws Exception {
+        model.updateFilteredPersonList(ALICE::equals);
+        Path file = temporaryFolder.resolve("shown.csv");
+
+        CommandResult result = new ExportCommand(file, PersonExportFormat.CSV, Scope.SHOWN).execute(model);
+
+        assertTrue(result.getFeedbackToUser().startsWith(String.format(ExportCommand.MESSAGE_SUCCESS, 1, file)));
+        assertEquals(expectedContent(PersonExportFormat.CSV, List.of(ALICE)), Files.readString(file));
+    }
+
+    @Test
+    public void execute_allScope_writesEveryPerson() throws Exception {
+        model.updateFilteredPersonList(ALICE::equals);
+        Path file = temporaryFolder.resolve("nested").resolve("all.vcf");
+        List<Person> persons = model.getAddressBook().getPersonList();
+
+        CommandResult result = new ExportCommand(file, PersonExportFormat.VCARD, Scope.ALL).execute(model);
+
+        assertTrue(result.getFeedbackToUser()
+                .startsWith(String.format(ExportCommand.MESSAGE_SUCCESS, persons.size(), file)));
+        assertEquals(expectedContent(PersonExportFormat.VCARD, persons),
+                Files.readString(file, StandardCharsets.UTF_8));
+    }
+
+    @Test
+    public void execute_unwritableFile_throwsCommandException() throws IOException {
+        Path notADirectory = Files.createFile(temporaryFolder.resolve("file"));
+        ExportCommand exportCommand = new ExportCommand(notADirectory.resolve("out.csv"), PersonExportFormat.CSV,
+                Scope.ALL);
+        assertThrows(CommandException.class, () -> exportCommand.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ExportCommand exportCommand = new ExportCommand(Path.of("students.csv"), PersonExportFormat.CSV, Scope.SHOWN);
+
+        // same values -> returns true
+        assertTrue(exportCommand.equals(
+                new ExportCommand(Path.of("students.csv"), PersonExportFormat.CSV, Scope.SHOWN)));
+
+        // same object -> returns true
+        assertTrue(exportCommand.equals(exportCommand));
+
+        // null -> returns false
+        assertFalse(exportCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(exportCommand.equals(new ClearCommand()));
+
+        // different file -> returns false
+        assertFalse(exportCommand.equals(
+                new ExportCommand(Path.of("parents.csv"), PersonExportFormat.CSV, Scope.SHOWN)));
+
+        // different format -> returns false
+        assertFalse(exportCommand.equals(
+                new ExportCommand(Path.of("students.csv"), PersonExportFormat.VCARD, Scope.SHOWN)));
+
+        // different scope -> returns false
+        assertFalse(exportCommand.equals(
+                new ExportCommand(Path.of("students.csv"), PersonExportFormat.CSV, Scope.ALL)));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Path.of("students.csv");
+        String expected = ExportCommand.class.getCanonicalName() + "{filePath=" + filePath
+                + ", format=" + PersonExportFormat.CSV + ", scope=" + Scope.SHOWN + "}";
+        assertEquals(expected, new ExportCommand(filePath, PersonExportFormat.CSV, Scope.SHOWN).toString());
+    }
+
+    private static String expectedContent(PersonExportFormat format, List<Person> persons) throws IOException {
+        StringWriter writer = new StringWriter();
+        format.write(persons, writer);
+        return writer.toString();
+    }
+}
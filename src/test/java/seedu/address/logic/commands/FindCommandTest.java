@@ -23,8 +23,10 @@ import seedu.address.model.Model;
 import seedu.address.model.ModelManager;
 import seedu.address.model.UserPrefs;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.Person;
 import seedu.address.model.person.RoleContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
+import seedu.address.testutil.StudentBuilder;
 
 /**
  * Contains integration tests (interaction with the Model) for
@@ -174,6 +176,23 @@ public class FindCommandTest {
         assertEquals(Collections.singletonList(BENSON), model.getFilteredPersonList());
     }
 
+    @Test
+    public void execute_addressBookChangedAfterFind_filteredListUpdated() throws Exception {
+        FindCommand command = new FindCommand(prepareNamePredicate("Kurz"),
+                new RoleContainsKeywordsPredicate(Collections.emptyList()),
+                new TagContainsKeywordsPredicate(Collections.emptyList()));
+        command.execute(model);
+        assertEquals(Collections.singletonList(CARL), model.getFilteredPersonList());
+
+        // persons added or edited after the search are filtered with the same keywords
+        Person newKurz = new StudentBuilder().withName("Zed Kurz").build();
+        model.addPerson(newKurz);
+        assertEquals(Arrays.asList(CARL, newKurz), model.getFilteredPersonList());
+
+        model.setPerson(CARL, new StudentBuilder(CARL).withName("Carl Smith").build());
+        assertEquals(Collections.singletonList(newKurz), model.getFilteredPersonList());
+    }
+
     @Test
     public void toStringMethod() {
         NameContainsKeywordsPredicate namePredicate = new NameContainsKeywordsPredicate(Arrays.asList("keyword"));
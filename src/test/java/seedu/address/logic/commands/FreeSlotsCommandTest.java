@@ -0,0 +1,77 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Time;
+
+/**
+ * Contains integration tests (interaction with the Model) for {@code FreeSlotsCommand}.
+ */
+public class FreeSlotsCommandTest {
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+    private final Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_oneDay_listsGapsAroundSessions() {
+        Time openingHours = new Time("9am-6pm");
+        FreeSlotsCommand command = new FreeSlotsCommand(openingHours, 60, Optional.of(Day.of("Mon")));
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 60, openingHours)
+                + "\nMon: 9am-12pm, 3pm-6pm";
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_everyDay_listsEachDay() {
+        Time openingHours = new Time("10am-4pm");
+        FreeSlotsCommand command = new FreeSlotsCommand(openingHours, 150, Optional.empty());
+        String expectedMessage = String.format(FreeSlotsCommand.MESSAGE_SUCCESS, 150, openingHours)
+                + "\nMon: " + FreeSlotsCommand.MESSAGE_NO_FREE_SLOTS
+                + "\nTue: 10am-4pm\nWed: 10am-4pm\nThur: 10am-4pm\nFri: 10am-4pm\nSat: 10am-4pm\nSun: 10am-4pm";
+        assertCommandSuccess(command, model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void equals() {
+        Time openingHours = new Time("9am-6pm");
+        FreeSlotsCommand mondayCommand = new FreeSlotsCommand(openingHours, 60, Optional.of(Day.of("Mon")));
+
+        // same values -> returns true
+        assertTrue(mondayCommand.equals(new FreeSlotsCommand(new Time("9am-6pm"), 60, Optional.of(Day.of("Mon")))));
+
+        // same object -> returns true
+        assertTrue(mondayCommand.equals(mondayCommand));
+
+        // null -> returns false
+        assertFalse(mondayCommand.equals(null));
+
+        // different opening hours -> returns false
+        assertFalse(mondayCommand.equals(new FreeSlotsCommand(new Time("9am-5pm"), 60, Optional.of(Day.of("Mon")))));
+
+        // different duration -> returns false
+        assertFalse(mondayCommand.equals(new FreeSlotsCommand(openingHours, 30, Optional.of(Day.of("Mon")))));
+
+        // every day -> returns false
+        assertFalse(mondayCommand.equals(new FreeSlotsCommand(openingHours, 60, Optional.empty())));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Time openingHours = new Time("9am-6pm");
+        FreeSlotsCommand command = new FreeSlotsCommand(openingHours, 60, Optional.empty());
+        String expected = FreeSlotsCommand.class.getCanonicalName() + "{openingHours=" + openingHours
+                + ", minDuration=60, day=null}";
+        assertEquals(expected, command.toString());
+    }
+}
@@ -0,0 +1,177 @@
+package seedu.address.logic.commands;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandFailure;
+import static seedu.address.logic.commands.CommandTestUtil.assertCommandSuccess;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.exceptions.CommandException;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.model.Model;
+import seedu.address.model.ModelManager;
+import seedu.address.model.UserPrefs;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Phone;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Time;
+import seedu.address.testutil.ParentBuilder;
+import seedu.address.testutil.StudentBuilder;
+
+public class ImportCommandTest {
+
+    private static final String HEADER = "name,phone,address,role,parent,tags,remark,sessions";
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final Model model = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+
+    @Test
+    public void execute_validFile_addsAllPersons() throws IOException {
+        // the student comes before the parent it is linked to
+        Path file = writeCsv(HEADER,
+                "Tim Tan,91234567,\"12 Kent Ridge Road, #01-02\",student,Jane Tan,math science,Needs help,"
+                        + "Mon 3pm-5pm; Wed 9am-11am",
+                "",
+                "Jane Tan,92345678,12 Kent Ridge Road,parent,,,,");
+
+        Student tim = new StudentBuilder().withName("Tim Tan").withPhone("91234567")
+                .withAddress("12 Kent Ridge Road, #01-02").withRemark("Needs help").withTags("math", "science")
+                .withSessions(new Session(Day.of("Mon"), new Time("3pm-5pm")),
+                        new Session(Day.of("Wed"), new Time("9am-11am")))
+                .withParentName("Jane Tan").build();
+        Parent jane = new ParentBuilder().withName("Jane Tan").withPhone("92345678")
+                .withAddress("12 Kent Ridge Road").withRemark("").build();
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(tim);
+        expectedModel.addPerson(jane);
+
+        assertCommandSuccess(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_SUCCESS, 2, file),
+                expectedModel);
+        List<Person> persons = model.getAddressBook().getPersonList();
+        Student importedTim = (Student) persons.get(persons.size() - 2);
+        assertTrue(importedTim.hasLinkedParent());
+        assertTrue(importedTim.getParent().hasChild(importedTim));
+    }
+
+    @Test
+    public void execute_invalidRows_skipsAndReportsThem() throws IOException {
+        Path file = writeCsv("Role,Name,Phone,Address",
+                "student,Tim Tan,91234567,12 Kent Ridge Road",
+                "student,Bad Phone,123,12 Kent Ridge Road",
+                "student,Alice Pauline,94351253,\"123, Jurong West Ave 6, #08-111\"",
+                "student,tim tan,98887777,12 Kent Ridge Road",
+                "parent,,98887777,12 Kent Ridge Road");
+
+        Model expectedModel = new ModelManager(getTypicalAddressBook(), new UserPrefs());
+        expectedModel.addPerson(new StudentBuilder().withName("Tim Tan").withPhone("91234567")
+                .withAddress("12 Kent Ridge Road").withRemark("").withTags().withSessions().build());
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 1, file)
+                + String.format(ImportCommand.MESSAGE_SKIPPED_ROWS, 4)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 3, Phone.MESSAGE_CONSTRAINTS)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 4, AddCommand.MESSAGE_DUPLICATE_PERSON)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 5,
+                        String.format(ImportCommand.MESSAGE_SAME_AS_EARLIER_ROW, 2))
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 6,
+                        String.format(PersonCsvParser.MESSAGE_MISSING_FIELD, PersonCsvParser.COLUMN_NAME));
+        assertCommandSuccess(new ImportCommand(file), model, expectedMessage, expectedModel);
+    }
+
+    @Test
+    public void execute_parentNotFound_skipsStudent() throws IOException {
+        Path file = writeCsv("name,phone,address,role,parent",
+                "Ann Lee,91234567,12 Kent Ridge Road,student,No Such Parent");
+
+        String expectedMessage = String.format(ImportCommand.MESSAGE_SUCCESS, 0, file)
+                + String.format(ImportCommand.MESSAGE_SKIPPED_ROWS, 1)
+                + String.format(ImportCommand.MESSAGE_ROW_ERROR, 2, AddCommand.MESSAGE_INVALID_PARENT);
+        assertCommandSuccess(new ImportCommand(file), model, expectedMessage,
+                new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_manyInvalidRows_listsOnlyTheFirst() throws IOException {
+        List<String> lines = new ArrayList<>(List.of(HEADER));
+        int rowCount = ImportCommand.MAX_LISTED_ROW_ERRORS + 3;
+        for (int i = 0; i < rowCount; i++) {
+            lines.add("Person " + (char) ('A' + i) + ",123,12 Kent Ridge Road,student");
+        }
+        Path file = writeCsv(lines.toArray(new String[0]));
+
+        StringBuilder expectedMessage = new StringBuilder(String.format(ImportCommand.MESSAGE_SUCCESS, 0, file))
+                .append(String.format(ImportCommand.MESSAGE_SKIPPED_ROWS, rowCount));
+        for (int i = 0; i < ImportCommand.MAX_LISTED_ROW_ERRORS; i++) {
+            expectedMessage.append(String.format(ImportCommand.MESSAGE_ROW_ERROR, i + 2, Phone.MESSAGE_CONSTRAINTS));
+        }
+        expectedMessage.append(String.format(ImportCommand.MESSAGE_MORE_ROW_ERRORS, 3));
+        assertCommandSuccess(new ImportCommand(file), model, expectedMessage.toString(),
+                new ModelManager(getTypicalAddressBook(), new UserPrefs()));
+    }
+
+    @Test
+    public void execute_missingColumn_throwsCommandException() throws IOException {
+        Path file = writeCsv("name,phone,address", "Tim Tan,91234567,12 Kent Ridge Road");
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_CANNOT_READ_FILE,
+                file, String.format(PersonCsvParser.MESSAGE_MISSING_COLUMN, PersonCsvParser.COLUMN_ROLE)));
+    }
+
+    @Test
+    public void execute_emptyFile_throwsCommandException() throws IOException {
+        Path file = writeCsv();
+        assertCommandFailure(new ImportCommand(file), model, String.format(ImportCommand.MESSAGE_EMPTY_FILE, file));
+    }
+
+    @Test
+    public void execute_missingFile_throwsCommandException() {
+        ImportCommand importCommand = new ImportCommand(temporaryFolder.resolve("missing.csv"));
+        assertThrows(CommandException.class, () -> importCommand.execute(model));
+    }
+
+    @Test
+    public void equals() {
+        ImportCommand importCommand = new ImportCommand(Path.of("students.csv"));
+
+        // same values -> returns true
+        assertTrue(importCommand.equals(new ImportCommand(Path.of("students.csv"))));
+
+        // same object -> returns true
+        assertTrue(importCommand.equals(importCommand));
+
+        // null -> returns false
+        assertFalse(importCommand.equals(null));
+
+        // different types -> returns false
+        assertFalse(importCommand.equals(new ClearCommand()));
+
+        // different file -> returns false
+        assertFalse(importCommand.equals(new ImportCommand(Path.of("parents.csv"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        Path filePath = Path.of("students.csv");
+        String expected = ImportCommand.class.getCanonicalName() + "{filePath=" + filePath + "}";
+        assertEquals(expected, new ImportCommand(filePath).toString());
+    }
+
+    private Path writeCsv(String... lines) throws IOException {
+        Path file = temporaryFolder.resolve("persons.csv");
+        Files.write(file, List.of(lines));
+        return file;
+    }
+}
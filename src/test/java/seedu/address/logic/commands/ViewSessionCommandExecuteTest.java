@@ -7,7 +7,10 @@ import java.nio.file.Path;
 import java.time.DayOfWeek;
 import java.util.Comparator;
 import java.util.HashSet;
+import java.util.List;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 import java.util.function.Predicate;
 
 import org.junit.jupiter.api.Test;
@@ -26,11 +29,14 @@ import seedu.address.model.person.Day;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.PersonSearchIndex;
 import seedu.address.model.person.Phone;
 import seedu.address.model.person.Remark;
 import seedu.address.model.person.Session;
+import seedu.address.model.person.SessionTimetable;
 import seedu.address.model.person.Student;
 import seedu.address.model.person.Time;
+import seedu.address.model.person.UniquePersonList;
 import seedu.address.model.session.SessionSlot;
 
 /**
@@ -50,16 +56,16 @@ public class ViewSessionCommandExecuteTest {
     public void execute_filtersByDay_andSortsByEarliestStart() {
         Student alex = student(
                 "Alex",
-                new Session(new Day("Mon"), new Time("12pm-1pm")),
-                new Session(new Day("Mon"), new Time("5pm-6pm"))
+                new Session(Day.of("Mon"), new Time("12pm-1pm")),
+                new Session(Day.of("Mon"), new Time("5pm-6pm"))
         );
         Student bernice = student(
                 "Bernice",
-                new Session(new Day("Mon"), new Time("1pm-2pm"))
+                new Session(Day.of("Mon"), new Time("1pm-2pm"))
         );
         Student charlie = student(
                 "Charlie",
-                new Session(new Day("Tue"), new Time("10am-11am"))
+                new Session(Day.of("Tue"), new Time("10am-11am"))
         );
 
         ModelStub model = new ModelStub(FXCollections.observableArrayList(alex, bernice, charlie));
@@ -173,6 +179,11 @@ public class ViewSessionCommandExecuteTest {
             backing.add(person);
         }
 
+        @Override
+        public void addPersons(List<Person> persons) {
+            backing.addAll(persons);
+        }
+
         @Override
         public void setPerson(Person target, Person editedPerson) {
             int idx = backing.indexOf(target);
@@ -204,6 +215,18 @@ public class ViewSessionCommandExecuteTest {
             filtered.setPredicate(predicate);
         }
 
+        @Override
+        public Predicate<Person> getSearchPredicate(Function<PersonSearchIndex, Set<Person>> search) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public SessionTimetable getSessionTimetable() {
+            UniquePersonList persons = new UniquePersonList();
+            persons.setPersons(backing);
+            return persons.getSessionTimetable();
+        }
+
         @Override
         public void sortFilteredPersonList(Comparator<Person> comparator) {
             sorted.setComparator(comparator);
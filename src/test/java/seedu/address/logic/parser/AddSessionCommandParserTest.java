@@ -82,21 +82,21 @@ public class AddSessionCommandParserTest {
         String userInput = targetIndex.getOneBased() + " " + PREFIX_DAY + "Mon "
                 + PREFIX_TIME + "12pm-1pm";
         AddSessionCommand expectedCommand = new AddSessionCommand(targetIndex,
-                new Day("Mon"), new Time("12pm-1pm"));
+                Day.of("Mon"), new Time("12pm-1pm"));
         assertParseSuccess(parser, userInput, expectedCommand);
 
         // different valid day
         userInput = targetIndex.getOneBased() + " " + PREFIX_DAY + "Tue "
                 + PREFIX_TIME + "12pm-1pm";
         expectedCommand = new AddSessionCommand(targetIndex,
-                new Day("Tue"), new Time("12pm-1pm"));
+                Day.of("Tue"), new Time("12pm-1pm"));
         assertParseSuccess(parser, userInput, expectedCommand);
 
         // different valid time
         userInput = targetIndex.getOneBased() + " " + PREFIX_DAY + "Mon "
                 + PREFIX_TIME + "3pm-4pm";
         expectedCommand = new AddSessionCommand(targetIndex,
-                new Day("Mon"), new Time("3pm-4pm"));
+                Day.of("Mon"), new Time("3pm-4pm"));
         assertParseSuccess(parser, userInput, expectedCommand);
     }
 
@@ -137,7 +137,7 @@ public class AddressBookParserTest {
 
     @Test
     public void parseCommand_deletesession() throws Exception {
-        final Day day = new Day("Sat");
+        final Day day = Day.of("Sat");
         final Time time = new Time("9am-12pm");
         DeleteSessionCommand command = (DeleteSessionCommand) parser.parseCommand(
                 DeleteSessionCommand.COMMAND_WORD + " " + INDEX_FIRST_PERSON.getOneBased() + " "
@@ -0,0 +1,76 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.Messages.MESSAGE_UNKNOWN_COMMAND;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+import static seedu.address.testutil.TypicalIndexes.INDEX_FIRST_PERSON;
+import static seedu.address.testutil.TypicalIndexes.INDEX_SECOND_PERSON;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.logic.commands.BatchCommand;
+import seedu.address.logic.commands.BatchCommand.ScriptCommand;
+import seedu.address.logic.commands.DeleteCommand;
+import seedu.address.logic.commands.DeleteSessionCommand;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Time;
+
+public class BatchCommandParserTest {
+
+    @TempDir
+    public Path temporaryFolder;
+
+    private final BatchCommandParser parser = new BatchCommandParser(new AddressBookParser());
+
+    @Test
+    public void parse_validScript_returnsBatchCommand() throws IOException {
+        Path script = writeScript("# intake", "delete 1", "", "  deletesession 2 d/Mon ti/3pm-5pm  ", "delete 2");
+
+        BatchCommand expectedCommand = new BatchCommand(script, List.of(
+                new ScriptCommand(2, "delete 1", new DeleteCommand(INDEX_FIRST_PERSON)),
+                new ScriptCommand(4, "deletesession 2 d/Mon ti/3pm-5pm",
+                        new DeleteSessionCommand(INDEX_SECOND_PERSON, Day.of("Mon"), new Time("3pm-5pm"))),
+                new ScriptCommand(5, "delete 2", new DeleteCommand(INDEX_SECOND_PERSON))));
+        assertParseSuccess(parser, " " + script, expectedCommand);
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, BatchCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_missingScript_throwsParseException() {
+        Path missingScript = temporaryFolder.resolve("missing.txt");
+        assertParseFailure(parser, missingScript.toString(),
+                String.format(BatchCommandParser.MESSAGE_CANNOT_READ_SCRIPT, missingScript));
+    }
+
+    @Test
+    public void parse_invalidLine_throwsParseExceptionWithLineNumber() throws IOException {
+        Path script = writeScript("delete 1", "frobnicate 2");
+        assertParseFailure(parser, script.toString(),
+                String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 2, "frobnicate 2", MESSAGE_UNKNOWN_COMMAND));
+    }
+
+    @Test
+    public void parse_nestedBatch_throwsParseException() throws IOException {
+        Path script = writeScript("delete 1", "batch other.txt");
+        assertParseFailure(parser, script.toString(), String.format(BatchCommandParser.MESSAGE_INVALID_LINE, 2,
+                "batch other.txt", BatchCommandParser.MESSAGE_NESTED_BATCH));
+    }
+
+    private Path writeScript(String... lines) throws IOException {
+        Path script = temporaryFolder.resolve("script.txt");
+        Files.write(script, List.of(lines));
+        return script;
+    }
+}
@@ -0,0 +1,51 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ConflictsCommand;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Time;
+
+public class ConflictsCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, ConflictsCommand.MESSAGE_USAGE);
+
+    private final ConflictsCommandParser parser = new ConflictsCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseFailure(parser, " " + PREFIX_TIME + "3pm-5pm", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_DAY + "Tue", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidPreamble_failure() {
+        assertParseFailure(parser, "1 " + PREFIX_DAY + "Tue " + PREFIX_TIME + "3pm-5pm", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " " + PREFIX_DAY + "Tuesdays " + PREFIX_TIME + "3pm-5pm", Day.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_DAY + "Tue " + PREFIX_TIME + "25:00", Time.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_duplicatePrefix_failure() {
+        assertParseFailure(parser, " " + PREFIX_DAY + "Tue " + PREFIX_DAY + "Wed " + PREFIX_TIME + "3pm-5pm",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_DAY));
+    }
+
+    @Test
+    public void parse_allFieldsPresent_success() {
+        assertParseSuccess(parser, " " + PREFIX_DAY + "Tue " + PREFIX_TIME + "3pm-5pm",
+                new ConflictsCommand(Day.of("Tue"), new Time("3pm-5pm")));
+    }
+}
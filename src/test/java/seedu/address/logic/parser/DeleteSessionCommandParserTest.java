@@ -78,7 +78,7 @@ public class DeleteSessionCommandParserTest {
         String userInput = targetIndex.getOneBased() + DAY_DESC + TIME_DESC;
 
         DeleteSessionCommand expectedCommand = new DeleteSessionCommand(targetIndex,
-                new Day(VALID_DAY), new Time(VALID_TIME));
+                Day.of(VALID_DAY), new Time(VALID_TIME));
 
         assertParseSuccess(parser, userInput, expectedCommand);
     }
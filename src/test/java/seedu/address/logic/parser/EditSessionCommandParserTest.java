@@ -116,9 +116,9 @@ public class EditSessionCommandParserTest {
 
         EditSessionCommand expectedCommand = new EditSessionCommand(
                 targetIndex,
-                new Day(VALID_DAY_MON),
+                Day.of(VALID_DAY_MON),
                 new Time(VALID_TIME_1PM),
-                new Day(VALID_DAY_TUE),
+                Day.of(VALID_DAY_TUE),
                 new Time(VALID_TIME_2PM)
         );
 
@@ -0,0 +1,65 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_SCOPE;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.nio.file.Path;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.Messages;
+import seedu.address.logic.commands.ExportCommand;
+import seedu.address.logic.commands.ExportCommand.Scope;
+import seedu.address.logic.util.PersonExportFormat;
+
+public class ExportCommandParserTest {
+
+    private final ExportCommandParser parser = new ExportCommandParser();
+
+    @Test
+    public void parse_csvFile_returnsExportCommandForShownPersons() {
+        assertParseSuccess(parser, "  data/students.csv  ",
+                new ExportCommand(Path.of("data/students.csv"), PersonExportFormat.CSV, Scope.SHOWN));
+    }
+
+    @Test
+    public void parse_vCardFileWithScope_returnsExportCommand() {
+        assertParseSuccess(parser, " contacts.VCF " + PREFIX_SCOPE + "all",
+                new ExportCommand(Path.of("contacts.VCF"), PersonExportFormat.VCARD, Scope.ALL));
+        assertParseSuccess(parser, " contacts.vcf " + PREFIX_SCOPE + "Shown",
+                new ExportCommand(Path.of("contacts.vcf"), PersonExportFormat.VCARD, Scope.SHOWN));
+    }
+
+    @Test
+    public void parse_emptyArgs_throwsParseException() {
+        assertParseFailure(parser, "   ",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+        assertParseFailure(parser, " " + PREFIX_SCOPE + "all",
+                String.format(MESSAGE_INVALID_COMMAND_FORMAT, ExportCommand.MESSAGE_USAGE));
+    }
+
+    @Test
+    public void parse_unknownExtension_throwsParseException() {
+        assertParseFailure(parser, "students.txt",
+                String.format(ExportCommandParser.MESSAGE_UNKNOWN_FORMAT, "students.txt"));
+    }
+
+    @Test
+    public void parse_invalidPath_throwsParseException() {
+        assertParseFailure(parser, "a\0b.csv",
+                String.format(ImportCommandParser.MESSAGE_INVALID_FILE_PATH, "a\0b.csv"));
+    }
+
+    @Test
+    public void parse_invalidScope_throwsParseException() {
+        assertParseFailure(parser, "students.csv " + PREFIX_SCOPE + "some", ParserUtil.MESSAGE_INVALID_EXPORT_SCOPE);
+    }
+
+    @Test
+    public void parse_duplicateScope_throwsParseException() {
+        assertParseFailure(parser, "students.csv " + PREFIX_SCOPE + "all " + PREFIX_SCOPE + "shown",
+                Messages.getErrorMessageForDuplicatePrefixes(PREFIX_SCOPE));
+    }
+}
@@ -1,6 +1,7 @@
 package seedu.address.logic.parser;
 
 import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_MATCH_MODE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_NAME;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_ROLE;
 import static seedu.address.logic.parser.CliSyntax.PREFIX_TAG;
@@ -15,6 +16,7 @@ import org.junit.jupiter.api.Test;
 import seedu.address.logic.commands.FindCommand;
 import seedu.address.model.person.Name;
 import seedu.address.model.person.NameContainsKeywordsPredicate;
+import seedu.address.model.person.NameContainsKeywordsPredicate.MatchMode;
 import seedu.address.model.person.RoleContainsKeywordsPredicate;
 import seedu.address.model.person.TagContainsKeywordsPredicate;
 
@@ -66,6 +68,31 @@ public class FindCommandParserTest {
                 expectedFindCommand);
     }
 
+    @Test
+    public void parse_matchMode_returnsFindCommand() {
+        FindCommand expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Ber"), MatchMode.PREFIX),
+                new RoleContainsKeywordsPredicate(Collections.emptyList()),
+                new TagContainsKeywordsPredicate(Collections.emptyList())
+        );
+        assertParseSuccess(parser, PREFIX_NAME + "Ber " + PREFIX_MATCH_MODE + "prefix", expectedFindCommand);
+
+        expectedFindCommand = new FindCommand(
+                new NameContainsKeywordsPredicate(Collections.singletonList("Bernise"), MatchMode.FUZZY),
+                new RoleContainsKeywordsPredicate(Collections.emptyList()),
+                new TagContainsKeywordsPredicate(Collections.emptyList())
+        );
+        assertParseSuccess(parser, PREFIX_NAME + "Bernise " + PREFIX_MATCH_MODE + " FUZZY ", expectedFindCommand);
+    }
+
+    @Test
+    public void parse_invalidMatchMode_throwsParseException() {
+        assertParseFailure(parser, PREFIX_NAME + "Ber " + PREFIX_MATCH_MODE + "partial",
+                ParserUtil.MESSAGE_INVALID_MATCH_MODE);
+        assertParseFailure(parser, PREFIX_TAG + "math " + PREFIX_MATCH_MODE + "prefix",
+                FindCommandParser.MESSAGE_MATCH_MODE_WITHOUT_NAME);
+    }
+
     @Test
     public void parse_invalidArgs_throwsParseException() {
         // No prefixes provided
@@ -0,0 +1,47 @@
+package seedu.address.logic.parser;
+
+import static seedu.address.logic.Messages.MESSAGE_INVALID_COMMAND_FORMAT;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DAY;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_DURATION;
+import static seedu.address.logic.parser.CliSyntax.PREFIX_TIME;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseFailure;
+import static seedu.address.logic.parser.CommandParserTestUtil.assertParseSuccess;
+
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.commands.FreeSlotsCommand;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Time;
+
+public class FreeSlotsCommandParserTest {
+    private static final String MESSAGE_INVALID_FORMAT =
+            String.format(MESSAGE_INVALID_COMMAND_FORMAT, FreeSlotsCommand.MESSAGE_USAGE);
+
+    private final FreeSlotsCommandParser parser = new FreeSlotsCommandParser();
+
+    @Test
+    public void parse_missingParts_failure() {
+        assertParseFailure(parser, " " + PREFIX_DURATION + "60", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, " " + PREFIX_TIME + "9am-9pm", MESSAGE_INVALID_FORMAT);
+        assertParseFailure(parser, "1 " + PREFIX_TIME + "9am-9pm " + PREFIX_DURATION + "60", MESSAGE_INVALID_FORMAT);
+    }
+
+    @Test
+    public void parse_invalidValue_failure() {
+        assertParseFailure(parser, " " + PREFIX_TIME + "9pm-9am " + PREFIX_DURATION + "60", Time.MESSAGE_CONSTRAINTS);
+        assertParseFailure(parser, " " + PREFIX_TIME + "9am-9pm " + PREFIX_DURATION + "0",
+                ParserUtil.MESSAGE_INVALID_DURATION);
+        assertParseFailure(parser, " " + PREFIX_TIME + "9am-9pm " + PREFIX_DURATION + "60 " + PREFIX_DAY + "Funday",
+                Day.MESSAGE_CONSTRAINTS);
+    }
+
+    @Test
+    public void parse_validArgs_success() {
+        assertParseSuccess(parser, " " + PREFIX_TIME + "9am-9pm " + PREFIX_DURATION + "60",
+                new FreeSlotsCommand(new Time("9am-9pm"), 60, Optional.empty()));
+        assertParseSuccess(parser, " " + PREFIX_DAY + "Tue " + PREFIX_TIME + "9am-9pm " + PREFIX_DURATION + "90",
+                new FreeSlotsCommand(new Time("9am-9pm"), 90, Optional.of(Day.of("Tue"))));
+    }
+}
@@ -140,14 +140,14 @@ public class ParserUtilTest {
 
     @Test
     public void parseDay_validValueWithoutWhitespace_returnsDay() throws Exception {
-        Day expectedDay = new Day(VALID_DAY);
+        Day expectedDay = Day.of(VALID_DAY);
         assertEquals(expectedDay, ParserUtil.parseDay(VALID_DAY));
     }
 
     @Test
     public void parseDay_validValueWithWhitespace_returnsTrimmedDay() throws Exception {
         String dayWithWhitespace = WHITESPACE + VALID_DAY + WHITESPACE;
-        Day expectedDay = new Day(VALID_DAY);
+        Day expectedDay = Day.of(VALID_DAY);
         assertEquals(expectedDay, ParserUtil.parseDay(dayWithWhitespace));
     }
 
@@ -174,6 +174,18 @@ public class ParserUtilTest {
         assertEquals(expectedTime, ParserUtil.parseTime(timeWithWhitespace));
     }
 
+    @Test
+    public void parseDuration_invalidInput_throwsParseException() {
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration("0"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration("-30"));
+        assertThrows(ParseException.class, () -> ParserUtil.parseDuration("1h"));
+    }
+
+    @Test
+    public void parseDuration_validInput_returnsMinutes() throws Exception {
+        assertEquals(90, ParserUtil.parseDuration(WHITESPACE + "90" + WHITESPACE));
+    }
+
     @Test
     public void parseTag_null_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> ParserUtil.parseTag(null));
@@ -0,0 +1,81 @@
+package seedu.address.logic.parser;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.logic.Messages.MESSAGE_NO_SESSIONS_FOR_PARENT;
+import static seedu.address.logic.Messages.MESSAGE_NO_TAGS_FOR_PARENT;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Time;
+import seedu.address.model.tag.Tag;
+
+public class PersonCsvParserTest {
+
+    private static final List<String> HEADER = List.of("Sessions", "Tags", "Role", "Address", "Phone", "Name");
+
+    @Test
+    public void constructor_missingRequiredColumn_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_MISSING_COLUMN,
+                PersonCsvParser.COLUMN_PHONE), () -> new PersonCsvParser(List.of("name", "address", "role")));
+    }
+
+    @Test
+    public void constructor_duplicateColumn_throwsParseException() {
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_DUPLICATE_COLUMN,
+                PersonCsvParser.COLUMN_NAME), () -> new PersonCsvParser(List.of("name", "phone", "Name")));
+    }
+
+    @Test
+    public void parse_columnsInAnyOrder_success() throws ParseException {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+
+        Student student = (Student) parser.parse(List.of(" Mon 3pm-5pm ;Mon 3pm-5pm; Tue 9am-11am", "math  science",
+                "Student", "12 Kent Ridge Road", "91234567", "Tim Tan"));
+
+        assertEquals("Tim Tan", student.getName().fullName);
+        assertEquals("91234567", student.getPhone().value);
+        assertEquals(Set.of(new Tag("math"), new Tag("science")), student.getTags());
+        assertEquals(List.of(new Session(Day.of("Mon"), new Time("3pm-5pm")),
+                new Session(Day.of("Tue"), new Time("9am-11am"))), List.copyOf(student.getSessions()));
+    }
+
+    @Test
+    public void parse_invalidSessions_throwsParseException() throws ParseException {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+
+        assertThrows(ParseException.class, PersonCsvParser.MESSAGE_INVALID_SESSION, () -> parser.parse(
+                List.of("Mon", "", "student", "12 Kent Ridge Road", "91234567", "Tim Tan")));
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_OVERLAPPING_SESSIONS,
+                new Session(Day.of("Mon"), new Time("3pm-5pm")), new Session(Day.of("Mon"), new Time("4pm-6pm"))), () ->
+                parser.parse(List.of("Mon 3pm-5pm; Mon 4pm-6pm", "", "student", "12 Kent Ridge Road", "91234567",
+                        "Tim Tan")));
+    }
+
+    @Test
+    public void parse_parentWithStudentFields_throwsParseException() throws ParseException {
+        PersonCsvParser parser = new PersonCsvParser(HEADER);
+
+        assertThrows(ParseException.class, MESSAGE_NO_TAGS_FOR_PARENT, () -> parser.parse(
+                List.of("", "math", "parent", "12 Kent Ridge Road", "91234567", "Jane Tan")));
+        assertThrows(ParseException.class, MESSAGE_NO_SESSIONS_FOR_PARENT, () -> parser.parse(
+                List.of("Mon 3pm-5pm", "", "parent", "12 Kent Ridge Road", "91234567", "Jane Tan")));
+    }
+
+    @Test
+    public void parse_shortRecord_missingFieldsAreEmpty() throws ParseException {
+        PersonCsvParser parser = new PersonCsvParser(List.of("name", "phone", "address", "role", "tags"));
+
+        Student student = (Student) parser.parse(List.of("Tim Tan", "91234567", "12 Kent Ridge Road", "student"));
+        assertEquals(Set.of(), student.getTags());
+        assertThrows(ParseException.class, String.format(PersonCsvParser.MESSAGE_MISSING_FIELD,
+                PersonCsvParser.COLUMN_ROLE), () -> parser.parse(List.of("Tim Tan", "91234567", "12 Kent Ridge Road")));
+    }
+}
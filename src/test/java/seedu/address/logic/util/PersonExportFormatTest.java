@@ -0,0 +1,113 @@
+package seedu.address.logic.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static seedu.address.testutil.TypicalPersons.CHARLES;
+import static seedu.address.testutil.TypicalPersons.JAMES;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.util.CsvReader;
+import seedu.address.logic.parser.PersonCsvParser;
+import seedu.address.logic.parser.exceptions.ParseException;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Day;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Session;
+import seedu.address.model.person.Student;
+import seedu.address.model.person.Time;
+import seedu.address.storage.JsonAddressBookStorage;
+import seedu.address.testutil.StudentBuilder;
+
+public class PersonExportFormatTest {
+
+    private static final Student JAMES_WITH_SESSIONS = new StudentBuilder(JAMES)
+            .withSessions(new Session(Day.of("Wed"), new Time("9am-11am")),
+                    new Session(Day.of("Mon"), new Time("3pm-5pm"))).build();
+
+    @TempDir
+    public Path temporaryFolder;
+
+    @Test
+    public void ofFile() {
+        assertEquals(Optional.of(PersonExportFormat.CSV), PersonExportFormat.ofFile(Path.of("data", "out.csv")));
+        assertEquals(Optional.of(PersonExportFormat.VCARD), PersonExportFormat.ofFile(Path.of("OUT.VCF")));
+        assertEquals(Optional.of(PersonExportFormat.JSON), PersonExportFormat.ofFile(Path.of("out.json")));
+        assertEquals(Optional.empty(), PersonExportFormat.ofFile(Path.of("out.txt")));
+        assertEquals(Optional.empty(), PersonExportFormat.ofFile(Path.of("csv")));
+    }
+
+    @Test
+    public void write_csv_writesColumnsReadByImport() throws IOException {
+        StringWriter writer = new StringWriter();
+        PersonExportFormat.CSV.write(List.of(CHARLES, JAMES_WITH_SESSIONS), writer);
+
+        assertEquals("name,phone,address,role,parent,tags,remark,sessions\r\n"
+                + "Charles Kwan,91234453,\"Block 456, Charles Street 55, Singapore 676767\",parent,,,"
+                + "I love my children.,\r\n"
+                + "James Lee,87654321,\"Block 123, Bobby Street 3, Singapore 678901\",student,Charles Kwan,"
+                + "math science,Favourite pastime: Teaching,Mon 3pm-5pm; Wed 9am-11am\r\n", writer.toString());
+    }
+
+    @Test
+    public void write_csv_roundTripsThroughImport() throws IOException, ParseException {
+        StringWriter writer = new StringWriter();
+        PersonExportFormat.CSV.write(List.of(CHARLES, JAMES_WITH_SESSIONS), writer);
+
+        List<Person> persons = new ArrayList<>();
+        try (CsvReader reader = new CsvReader(new StringReader(writer.toString()))) {
+            PersonCsvParser parser = new PersonCsvParser(reader.readRecord());
+            List<String> record;
+            while ((record = reader.readRecord()) != null) {
+                persons.add(parser.parse(record));
+            }
+        }
+
+        assertEquals(List.of(CHARLES, JAMES_WITH_SESSIONS), persons);
+        Student james = (Student) persons.get(1);
+        assertEquals(JAMES_WITH_SESSIONS.getTags(), james.getTags());
+        assertEquals(JAMES_WITH_SESSIONS.getSessions(), james.getSessions());
+        assertEquals(JAMES_WITH_SESSIONS.getParentName(), james.getParentName());
+        assertEquals(JAMES_WITH_SESSIONS.getRemark(), james.getRemark());
+    }
+
+    @Test
+    public void write_json_loadsAsAddressBook() throws Exception {
+        Path filePath = temporaryFolder.resolve("out.json");
+        try (Writer writer = Files.newBufferedWriter(filePath)) {
+            PersonExportFormat.JSON.write(List.of(CHARLES, JAMES_WITH_SESSIONS), writer);
+        }
+
+        ReadOnlyAddressBook addressBook = new JsonAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(List.of(CHARLES, JAMES_WITH_SESSIONS), addressBook.getPersonList());
+        Student james = (Student) addressBook.getPersonList().get(1);
+        assertEquals(JAMES_WITH_SESSIONS.getSessions(), james.getSessions());
+        assertEquals(JAMES_WITH_SESSIONS.getParentName(), james.getParentName());
+    }
+
+    @Test
+    public void write_vCard_writesOneCardPerPerson() throws IOException {
+        StringWriter writer = new StringWriter();
+        PersonExportFormat.VCARD.write(List.of(JAMES_WITH_SESSIONS), writer);
+
+        assertEquals("BEGIN:VCARD\r\n"
+                + "VERSION:3.0\r\n"
+                + "FN:James Lee\r\n"
+                + "N:James Lee;;;;\r\n"
+                + "TEL;TYPE=CELL:87654321\r\n"
+                + "ADR;TYPE=HOME:;;Block 123\\, Bobby Street 3\\, Singapore 678901;;;;\r\n"
+                + "CATEGORIES:student,math,science\r\n"
+                + "NOTE:Favourite pastime: Teaching\\nParent: Charles Kwan\\nSessions: Mon 3pm-5pm\\; Wed 9am-11am\r\n"
+                + "END:VCARD\r\n", writer.toString());
+    }
+}
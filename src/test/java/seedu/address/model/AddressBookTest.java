@@ -7,6 +7,8 @@ import static seedu.address.logic.commands.CommandTestUtil.VALID_ADDRESS_BOB;
 import static seedu.address.logic.commands.CommandTestUtil.VALID_TAG_SUBJECT;
 import static seedu.address.testutil.Assert.assertThrows;
 import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CHARLES;
+import static seedu.address.testutil.TypicalPersons.JAMES;
 import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
 
 import java.util.Arrays;
@@ -19,8 +21,12 @@ import org.junit.jupiter.api.Test;
 
 import javafx.collections.FXCollections;
 import javafx.collections.ObservableList;
+import seedu.address.model.person.Parent;
 import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
 import seedu.address.model.person.exceptions.DuplicatePersonException;
+import seedu.address.testutil.ParentBuilder;
+import seedu.address.model.util.SyntheticDataGenerator;
 import seedu.address.testutil.StudentBuilder;
 
 public class AddressBookTest {
@@ -55,6 +61,26 @@ public class AddressBookTest {
         assertThrows(DuplicatePersonException.class, () -> addressBook.resetData(newData));
     }
 
+    @Test
+    public void resetData_withDuplicatePersons_reportsEveryDuplicatePair() {
+        Person upperCaseAlice = new StudentBuilder(ALICE).withName("ALICE PAULINE").build();
+        Person lowerCaseAlice = new StudentBuilder(ALICE).withName("alice pauline").build();
+        AddressBookStub newData = new AddressBookStub(Arrays.asList(ALICE, upperCaseAlice, lowerCaseAlice));
+
+        assertThrows(DuplicatePersonException.class, DuplicatePersonException.MESSAGE
+                + ": Alice Pauline (student) and ALICE PAULINE (student)"
+                + "; Alice Pauline (student) and alice pauline (student)", () -> addressBook.resetData(newData));
+    }
+
+    @Test
+    public void resetData_manyDistinctPersons_replacesData() {
+        List<Person> persons = new SyntheticDataGenerator().withPersonCount(30).generatePersons();
+        AddressBookStub newData = new AddressBookStub(persons);
+
+        addressBook.resetData(newData);
+        assertEquals(persons, addressBook.getPersonList());
+    }
+
     @Test
     public void hasPerson_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> addressBook.hasPerson(null));
@@ -79,6 +105,25 @@ public class AddressBookTest {
         assertTrue(addressBook.hasPerson(editedAlice));
     }
 
+    @Test
+    public void addPersons_studentsAndParents_addsAllAndLinksParents() {
+        addressBook.addPerson(ALICE);
+        Parent parent = new ParentBuilder(CHARLES).build();
+        Student child = new StudentBuilder(JAMES).build();
+
+        addressBook.addPersons(List.of(child, parent));
+
+        assertEquals(List.of(ALICE, child, parent), addressBook.getPersonList());
+        assertTrue(child.hasLinkedParent());
+        assertTrue(parent.hasChild(child));
+    }
+
+    @Test
+    public void addPersons_personAlreadyInAddressBook_throwsDuplicatePersonException() {
+        addressBook.addPerson(ALICE);
+        assertThrows(DuplicatePersonException.class, () -> addressBook.addPersons(List.of(ALICE)));
+    }
+
     @Test
     public void linkParent_null_throwsNullPointerExecption() {
         Assertions.assertThrows(NullPointerException.class, () -> addressBook.linkParent(null));
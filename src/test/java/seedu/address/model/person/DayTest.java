@@ -1,22 +1,29 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
 
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
 import org.junit.jupiter.api.Test;
 
 public class DayTest {
 
     @Test
     public void constructor_null_throwsNullPointerException() {
-        assertThrows(NullPointerException.class, () -> new Day(null));
+        assertThrows(NullPointerException.class, () -> Day.of((String) null));
     }
 
     @Test
     public void constructor_invalidDay_throwsIllegalArgumentException() {
         String invalidDay = "Funday"; // not matching "Mon", "Tue", etc.
-        assertThrows(IllegalArgumentException.class, () -> new Day(invalidDay));
+        assertThrows(IllegalArgumentException.class, () -> Day.of(invalidDay));
     }
 
     @Test
@@ -56,13 +63,13 @@ public class DayTest {
 
     @Test
     public void equals() {
-        Day day = new Day("Mon");
+        Day day = Day.of("Mon");
 
         // same values -> returns true
-        assertTrue(day.equals(new Day("Mon")));
+        assertTrue(day.equals(Day.of("Mon")));
 
         // equivalent full form -> should normalize to same short form
-        assertTrue(day.equals(new Day("Monday")));
+        assertTrue(day.equals(Day.of("Monday")));
 
         // same object -> returns true
         assertTrue(day.equals(day));
@@ -74,19 +81,43 @@ public class DayTest {
         assertFalse(day.equals("Mon"));
 
         // different values -> returns false
-        assertFalse(day.equals(new Day("Tue")));
+        assertFalse(day.equals(Day.of("Tue")));
     }
 
     @Test
     public void hashCode_sameForEqualObjects() {
-        Day day1 = new Day("Fri");
-        Day day2 = new Day("Fri");
+        Day day1 = Day.of("Fri");
+        Day day2 = Day.of("Fri");
         assertTrue(day1.hashCode() == day2.hashCode());
     }
 
     @Test
     public void toString_returnsValue() {
-        Day day = new Day("Wed");
+        Day day = Day.of("Wed");
         assertTrue(day.toString().equals("Wed"));
     }
+
+    @Test
+    public void of_sameDayOfWeek_returnsSameInstance() {
+        assertSame(Day.of("Thur"), Day.of("thursday"));
+        assertSame(Day.of("Thur"), Day.of(DayOfWeek.THURSDAY));
+        assertSame(Day.of("Sun"), Day.ofTrusted(" SUNDAY "));
+        assertThrows(IllegalArgumentException.class, () -> Day.ofTrusted("Funday"));
+    }
+
+    @Test
+    public void ordinal_followsDayOfWeek() {
+        for (DayOfWeek dayOfWeek : DayOfWeek.values()) {
+            Day day = Day.of(dayOfWeek);
+            assertEquals(dayOfWeek, day.toDayOfWeek());
+            assertEquals(dayOfWeek.ordinal(), day.ordinal());
+        }
+    }
+
+    @Test
+    public void compareTo_ordersByDayOfWeek() {
+        List<Day> days = new ArrayList<>(List.of(Day.of("Sun"), Day.of("Thur"), Day.of("Mon"), Day.of("Wed")));
+        Collections.sort(days);
+        assertEquals(List.of(Day.of("Mon"), Day.of("Wed"), Day.of("Thur"), Day.of("Sun")), days);
+    }
 }
@@ -10,6 +10,7 @@ import java.util.List;
 
 import org.junit.jupiter.api.Test;
 
+import seedu.address.model.person.NameContainsKeywordsPredicate.MatchMode;
 import seedu.address.testutil.ParentBuilder;
 import seedu.address.testutil.StudentBuilder;
 
@@ -38,6 +39,40 @@ public class NameContainsKeywordsPredicateTest {
 
         // different person -> returns false
         assertFalse(firstPredicate.equals(secondPredicate));
+
+        // different match mode -> returns false
+        assertFalse(firstPredicate.equals(new NameContainsKeywordsPredicate(firstPredicateKeywordList,
+                MatchMode.PREFIX)));
+    }
+
+    @Test
+    public void test_prefixMode_matchesStartOfWords() {
+        NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of("ber"), MatchMode.PREFIX);
+        assertTrue(predicate.test(new StudentBuilder().withName("Alice Bernice").build()));
+        assertTrue(predicate.test(new ParentBuilder().withName("Ber Yu").build()));
+        assertFalse(predicate.test(new StudentBuilder().withName("Albert Yu").build()));
+    }
+
+    @Test
+    public void test_fuzzyMode_matchesWordsWithFewTypos() {
+        NameContainsKeywordsPredicate predicate =
+                new NameContainsKeywordsPredicate(List.of("Bernise"), MatchMode.FUZZY);
+        assertTrue(predicate.test(new StudentBuilder().withName("Bernice Yu").build()));
+        assertTrue(predicate.test(new StudentBuilder().withName("Berniece Yu").build()));
+        assertFalse(predicate.test(new StudentBuilder().withName("Beatrice Yu").build()));
+
+        // short keywords must match exactly
+        predicate = new NameContainsKeywordsPredicate(List.of("Yu"), MatchMode.FUZZY);
+        assertTrue(predicate.test(new StudentBuilder().withName("Bernice Yu").build()));
+        assertFalse(predicate.test(new StudentBuilder().withName("Bernice Yi").build()));
+    }
+
+    @Test
+    public void getMaxEdits() {
+        assertEquals(0, NameContainsKeywordsPredicate.getMaxEdits("yu"));
+        assertEquals(1, NameContainsKeywordsPredicate.getMaxEdits("ber"));
+        assertEquals(1, NameContainsKeywordsPredicate.getMaxEdits("alice"));
+        assertEquals(2, NameContainsKeywordsPredicate.getMaxEdits("bernice"));
     }
 
     @Test
@@ -114,7 +149,8 @@ public class NameContainsKeywordsPredicateTest {
         List<String> keywords = List.of("keyword1", "keyword2");
         NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(keywords);
 
-        String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords + "}";
+        String expected = NameContainsKeywordsPredicate.class.getCanonicalName() + "{keywords=" + keywords
+                + ", match mode=" + MatchMode.EXACT + "}";
         assertEquals(expected, predicate.toString());
     }
 }
@@ -0,0 +1,43 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+public class PersonIdentityTest {
+
+    @Test
+    public void of_nullName_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> PersonIdentity.of(null, Role.STUDENT_ROLE));
+    }
+
+    @Test
+    public void of_namesEqualIgnoringCase_sameIdentity() {
+        assertSameIdentity("Alice Pauline", "ALICE pauline");
+        // dotless i and dotted capital I only match through upper case
+        assertSameIdentity("Ilker Tan", "\u0131lker Tan");
+        assertSameIdentity("\u0130lker Tan", "ilker Tan");
+        // final sigma and sigma share the capital sigma
+        assertSameIdentity("\u03a3\u03bf\u03c3 Tan", "\u03c3\u03bf\u03c2 tan");
+    }
+
+    @Test
+    public void of_differentNameOrRole_differentIdentity() {
+        assertNotEquals(PersonIdentity.of(new Name("Alice Pauline"), Role.STUDENT_ROLE),
+                PersonIdentity.of(new Name("Alice Paulin"), Role.STUDENT_ROLE));
+        assertNotEquals(PersonIdentity.of(new Name("Alice Pauline"), Role.STUDENT_ROLE),
+                PersonIdentity.of(new Name("Alice Pauline"), Role.PARENT_ROLE));
+    }
+
+    /**
+     * Asserts that names {@code first} and {@code second} are equal and give equal identities.
+     */
+    private static void assertSameIdentity(String first, String second) {
+        Name firstName = new Name(first);
+        Name secondName = new Name(second);
+        assertEquals(firstName, secondName);
+        assertEquals(PersonIdentity.of(firstName, Role.STUDENT_ROLE), PersonIdentity.of(secondName, Role.STUDENT_ROLE));
+    }
+}
@@ -0,0 +1,116 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.BENSON;
+import static seedu.address.testutil.TypicalPersons.DANIEL;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+import static seedu.address.testutil.TypicalPersons.GEORGE;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Predicate;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.util.SyntheticDataGenerator;
+import seedu.address.testutil.StudentBuilder;
+
+public class PersonSearchIndexTest {
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final PersonSearchIndex index = persons.getSearchIndex();
+
+    @Test
+    public void findByName_anyKeywordMatchesWord_returnsMatches() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, DANIEL, FIONA));
+        assertEquals(Set.of(BENSON, DANIEL), index.findByName(List.of("meier")));
+        assertEquals(Set.of(ALICE, FIONA), index.findByName(List.of("ALICE", "Kunz")));
+        assertTrue(index.findByName(List.of("Meie")).isEmpty());
+    }
+
+    @Test
+    public void findByNamePrefix_anyKeywordStartsWord_returnsMatches() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, DANIEL, FIONA));
+        assertEquals(Set.of(BENSON, DANIEL), index.findByNamePrefix(List.of("mei")));
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), index.findByNamePrefix(List.of("AL", "Meier")));
+        assertTrue(index.findByNamePrefix(List.of("eier")).isEmpty());
+    }
+
+    @Test
+    public void findByNameFuzzy_keywordWithTypos_returnsMatches() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, DANIEL, FIONA));
+        assertEquals(Set.of(BENSON), index.findByNameFuzzy(List.of("Bensen")));
+        assertEquals(Set.of(BENSON, DANIEL), index.findByNameFuzzy(List.of("mier")));
+        assertEquals(Set.of(ALICE), index.findByNameFuzzy(List.of("Paulien")));
+        assertTrue(index.findByNameFuzzy(List.of("Bob")).isEmpty());
+
+        persons.remove(BENSON);
+        assertEquals(Set.of(DANIEL), index.findByNameFuzzy(List.of("mier")));
+    }
+
+    @Test
+    public void findByNameFuzzy_sameAsPredicate() {
+        List<Person> generated = new SyntheticDataGenerator().withPersonCount(500).generatePersons();
+        persons.setPersons(generated);
+        for (String keyword : List.of("Ber", "Bernise", "Lim", "Tann", "Chlooe", "Balakrishnen", "Ko")) {
+            NameContainsKeywordsPredicate predicate = new NameContainsKeywordsPredicate(List.of(keyword),
+                    NameContainsKeywordsPredicate.MatchMode.FUZZY);
+            Set<Person> expected = PersonSearchIndex.newPersonSet();
+            generated.stream().filter(predicate).forEach(expected::add);
+            assertEquals(expected, predicate.findMatches(index));
+        }
+    }
+
+    @Test
+    public void findByRoleAndTag_returnsMatches() {
+        persons.setPersons(Arrays.asList(ALICE, BENSON, DANIEL, FIONA, GEORGE));
+        assertEquals(Set.of(FIONA, GEORGE), index.findByRole(List.of("Parent")));
+        assertEquals(Set.of(ALICE, DANIEL), index.findByTag(List.of("MATH")));
+        assertEquals(Set.of(ALICE, BENSON, DANIEL), index.findByTag(List.of("math", "science")));
+    }
+
+    @Test
+    public void findByName_afterRemoveAndSet_reflectsChanges() {
+        persons.add(ALICE);
+        persons.add(BENSON);
+        persons.remove(ALICE);
+        assertTrue(index.findByName(List.of("Alice")).isEmpty());
+
+        Person editedBenson = new StudentBuilder(BENSON).withName("Benson Tan").build();
+        persons.setPerson(BENSON, editedBenson);
+        assertTrue(index.findByName(List.of("Meier")).isEmpty());
+        assertEquals(Set.of(editedBenson), index.findByName(List.of("Benson")));
+    }
+
+    @Test
+    public void findByName_equalPersons_keptSeparately() {
+        Person alice = new StudentBuilder(ALICE).build();
+        Person aliceCopy = new StudentBuilder(ALICE).build();
+        index.add(alice);
+        index.add(aliceCopy);
+        index.remove(alice);
+        Set<Person> matches = index.findByName(List.of("Alice"));
+        assertEquals(1, matches.size());
+        assertSame(aliceCopy, matches.iterator().next());
+    }
+
+    @Test
+    public void toPredicate_indexChanged_searchedAgain() {
+        persons.add(ALICE);
+        Predicate<Person> predicate = index.toPredicate(searchIndex -> searchIndex.findByTag(List.of("math")));
+        assertTrue(predicate.test(ALICE));
+        assertFalse(predicate.test(DANIEL));
+
+        persons.add(DANIEL);
+        assertTrue(predicate.test(DANIEL));
+
+        persons.setPersons(Collections.emptyList());
+        assertFalse(predicate.test(ALICE));
+    }
+}
@@ -0,0 +1,151 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.time.DayOfWeek;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.Random;
+import java.util.Set;
+
+import org.junit.jupiter.api.Test;
+
+public class SessionSetTest {
+
+    private static final Session MON_MORNING = new Session(Day.of("Mon"), new Time("9am-11am"));
+    private static final Session MON_AFTERNOON = new Session(Day.of("Mon"), new Time("2pm-4pm"));
+    private static final Session MON_AFTERNOON_LONG = new Session(Day.of("Mon"), new Time("2pm-6pm"));
+    private static final Session TUE_MORNING = new Session(Day.of("Tue"), new Time("9am-11am"));
+
+    @Test
+    public void of_null_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> SessionSet.of(null));
+    }
+
+    @Test
+    public void of_removesDuplicatesAndSorts() {
+        SessionSet sessions = SessionSet.of(List.of(TUE_MORNING, MON_AFTERNOON_LONG, MON_AFTERNOON, MON_MORNING,
+                new Session(Day.of("Monday"), new Time("2:00pm-4:00pm"))));
+
+        assertEquals(4, sessions.size());
+        assertEquals(List.of(MON_MORNING, MON_AFTERNOON, MON_AFTERNOON_LONG, TUE_MORNING),
+                new ArrayList<>(sessions));
+    }
+
+    @Test
+    public void of_emptyOrSessionSet_reusesSet() {
+        assertSame(SessionSet.EMPTY, SessionSet.of(List.of()));
+
+        SessionSet sessions = SessionSet.of(List.of(MON_MORNING));
+        assertSame(sessions, SessionSet.of(sessions));
+    }
+
+    @Test
+    public void with_leavesOriginalUnchanged() {
+        SessionSet sessions = SessionSet.of(List.of(MON_MORNING));
+        SessionSet added = sessions.with(TUE_MORNING);
+
+        assertEquals(Set.of(MON_MORNING), sessions);
+        assertEquals(Set.of(MON_MORNING, TUE_MORNING), added);
+
+        // already there -> same set
+        assertSame(added, added.with(TUE_MORNING));
+    }
+
+    @Test
+    public void without_leavesOriginalUnchanged() {
+        SessionSet sessions = SessionSet.of(List.of(MON_MORNING, TUE_MORNING));
+        SessionSet removed = sessions.without(MON_MORNING);
+
+        assertEquals(Set.of(MON_MORNING, TUE_MORNING), sessions);
+        assertEquals(Set.of(TUE_MORNING), removed);
+        assertSame(SessionSet.EMPTY, removed.without(TUE_MORNING));
+
+        // not there -> same set
+        assertSame(removed, removed.without(MON_MORNING));
+    }
+
+    @Test
+    public void contains() {
+        SessionSet sessions = SessionSet.of(List.of(MON_MORNING, TUE_MORNING));
+        assertTrue(sessions.contains(new Session(Day.of("Tue"), new Time("9am-11am"))));
+        assertFalse(sessions.contains(MON_AFTERNOON));
+        assertFalse(sessions.contains(null));
+        assertFalse(sessions.contains("Mon-[9am-11am]"));
+    }
+
+    @Test
+    public void overlapsAny() {
+        SessionSet sessions = SessionSet.of(List.of(MON_MORNING, MON_AFTERNOON));
+
+        assertTrue(sessions.overlapsAny(new Session(Day.of("Mon"), new Time("10am-3pm"))));
+        assertTrue(sessions.overlapsAny(new Session(Day.of("Mon"), new Time("3pm-5pm"))));
+        assertTrue(sessions.overlapsAny(MON_AFTERNOON_LONG));
+
+        // back to back -> no overlap
+        assertFalse(sessions.overlapsAny(new Session(Day.of("Mon"), new Time("11am-2pm"))));
+        assertFalse(sessions.overlapsAny(new Session(Day.of("Mon"), new Time("4pm-5pm"))));
+
+        // different day -> no overlap
+        assertFalse(sessions.overlapsAny(TUE_MORNING));
+        assertFalse(SessionSet.EMPTY.overlapsAny(MON_MORNING));
+    }
+
+    @Test
+    public void overlapsAny_randomSessions_matchesPairwiseCheck() {
+        Random random = new Random(19);
+        for (int round = 0; round < 200; round++) {
+            List<Session> list = new ArrayList<>();
+            for (int i = 0; i < 8; i++) {
+                list.add(randomSession(random));
+            }
+            SessionSet sessions = SessionSet.of(list);
+            Session session = randomSession(random);
+            assertEquals(list.stream().anyMatch(session::isOverlap), sessions.overlapsAny(session));
+        }
+    }
+
+    @Test
+    public void iterator_pastEnd_throwsNoSuchElementException() {
+        Iterator<Session> iterator = SessionSet.of(List.of(MON_MORNING)).iterator();
+        assertEquals(MON_MORNING, iterator.next());
+        assertFalse(iterator.hasNext());
+        assertThrows(NoSuchElementException.class, iterator::next);
+    }
+
+    @Test
+    public void equals() {
+        SessionSet sessions = SessionSet.of(List.of(MON_MORNING, TUE_MORNING));
+
+        // same sessions -> returns true, in both directions, as for any set
+        Set<Session> hashSet = new HashSet<>(List.of(TUE_MORNING, MON_MORNING));
+        assertTrue(sessions.equals(SessionSet.of(hashSet)));
+        assertTrue(sessions.equals(hashSet));
+        assertTrue(hashSet.equals(sessions));
+        assertEquals(hashSet.hashCode(), sessions.hashCode());
+
+        // different sessions -> returns false
+        assertFalse(sessions.equals(SessionSet.of(List.of(MON_MORNING))));
+        assertFalse(sessions.equals(null));
+    }
+
+    @Test
+    public void modification_throwsUnsupportedOperationException() {
+        SessionSet sessions = SessionSet.of(List.of(MON_MORNING));
+        assertThrows(UnsupportedOperationException.class, () -> sessions.add(TUE_MORNING));
+        assertThrows(UnsupportedOperationException.class, () -> sessions.remove(MON_MORNING));
+    }
+
+    private static Session randomSession(Random random) {
+        int start = random.nextInt(24 * 60 - 1);
+        int end = start + 1 + random.nextInt(Math.min(240, 24 * 60 - 1 - start));
+        return new Session(Day.of(DayOfWeek.of(1 + random.nextInt(2))), Time.of(start, end));
+    }
+}
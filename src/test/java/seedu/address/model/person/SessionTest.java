@@ -0,0 +1,70 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import org.junit.jupiter.api.Test;
+
+public class SessionTest {
+
+    @Test
+    public void constructor_packedFieldsReadBack() {
+        Session session = new Session(Day.of("Sun"), new Time("11:30pm-11:59pm"));
+        assertSame(Day.of("Sun"), session.getDay());
+        assertEquals(new Time("11:30pm-11:59pm"), session.getTime());
+        assertEquals(23 * 60 + 30, session.getStartMinutes());
+        assertEquals(23 * 60 + 59, session.getEndMinutes());
+        assertEquals(session, new Session(session.toPacked()));
+    }
+
+    @Test
+    public void toPacked_ordersByDayThenStartThenEnd() {
+        int mondayLate = new Session(Day.of("Mon"), new Time("10pm-11pm")).toPacked();
+        int tuesdayEarly = new Session(Day.of("Tue"), new Time("12am-1am")).toPacked();
+        int tuesdayShort = new Session(Day.of("Tue"), new Time("1am-2am")).toPacked();
+        int tuesdayLong = new Session(Day.of("Tue"), new Time("1am-3am")).toPacked();
+        assertTrue(mondayLate < tuesdayEarly);
+        assertTrue(tuesdayEarly < tuesdayShort);
+        assertTrue(tuesdayShort < tuesdayLong);
+    }
+
+    @Test
+    public void isOverlap() {
+        Session session = new Session(Day.of("Mon"), new Time("2pm-4pm"));
+        assertTrue(session.isOverlap(new Session(Day.of("Mon"), new Time("3pm-5pm"))));
+        assertTrue(session.isOverlap(new Session(Day.of("Mon"), new Time("2:30pm-3pm"))));
+
+        // back to back -> no overlap
+        assertFalse(session.isOverlap(new Session(Day.of("Mon"), new Time("4pm-5pm"))));
+        assertFalse(session.isOverlap(new Session(Day.of("Mon"), new Time("1pm-2pm"))));
+
+        // different day -> no overlap
+        assertFalse(session.isOverlap(new Session(Day.of("Tue"), new Time("2pm-4pm"))));
+    }
+
+    @Test
+    public void equals() {
+        Session session = new Session(Day.of("Wed"), new Time("3pm-5pm"));
+
+        // same values -> returns true
+        assertTrue(session.equals(new Session(Day.of("Wednesday"), new Time("3:00PM-5:00PM"))));
+        assertEquals(session.hashCode(), new Session(Day.of("Wednesday"), new Time("3:00PM-5:00PM")).hashCode());
+
+        // same object -> returns true
+        assertTrue(session.equals(session));
+
+        // null -> returns false
+        assertFalse(session.equals(null));
+
+        // different values -> returns false
+        assertFalse(session.equals(new Session(Day.of("Thur"), new Time("3pm-5pm"))));
+        assertFalse(session.equals(new Session(Day.of("Wed"), new Time("3pm-6pm"))));
+    }
+
+    @Test
+    public void toStringMethod() {
+        assertEquals("Mon-[3pm-5:30pm]", new Session(Day.of("Mon"), new Time("3:00pm-5:30pm")).toString());
+    }
+}
@@ -0,0 +1,100 @@
+package seedu.address.model.person;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.TypicalPersons.FIONA;
+
+import java.time.DayOfWeek;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.session.IntervalTree.Interval;
+import seedu.address.testutil.StudentBuilder;
+
+public class SessionTimetableTest {
+
+    private static final Student ALEX = new StudentBuilder().withName("Alex Yeoh")
+            .withSessions(session("Mon", "5pm-6pm"), session("Mon", "12pm-1pm"), session("Wed", "9am-10am")).build();
+    private static final Student BERNICE = new StudentBuilder().withName("Bernice Yu")
+            .withSessions(session("Mon", "12pm-2pm")).build();
+    private static final Student BENSON_AT_ONE = new StudentBuilder().withName("Benson Meier")
+            .withSessions(session("Mon", "1pm-2pm")).build();
+    private static final Student CHARLOTTE = new StudentBuilder().withName("Charlotte Oliveiro")
+            .withSessions(session("Mon", "9:30am-11am"), session("Tue", "10am-11am")).build();
+
+    private final UniquePersonList persons = new UniquePersonList();
+    private final SessionTimetable timetable = persons.getSessionTimetable();
+
+    @Test
+    public void getPersonsOn_sortedByEarliestStartThenName() {
+        persons.setPersons(List.of(ALEX, BERNICE, CHARLOTTE, FIONA));
+        assertEquals(List.of(CHARLOTTE, ALEX, BERNICE), timetable.getPersonsOn(DayOfWeek.MONDAY));
+        assertEquals(List.of(CHARLOTTE), timetable.getPersonsOn(DayOfWeek.TUESDAY));
+        assertEquals(List.of(ALEX), timetable.getPersonsOn(DayOfWeek.WEDNESDAY));
+        assertEquals(Collections.emptyList(), timetable.getPersonsOn(DayOfWeek.SUNDAY));
+    }
+
+    @Test
+    public void hasSessionOn_afterEditAndRemove_reflectsChanges() {
+        persons.add(ALEX);
+        persons.add(CHARLOTTE);
+        assertTrue(timetable.hasSessionOn(DayOfWeek.WEDNESDAY, ALEX));
+
+        Student editedAlex = new StudentBuilder(ALEX).withSessions(session("Tue", "8am-9am")).build();
+        persons.setPerson(ALEX, editedAlex);
+        assertFalse(timetable.hasSessionOn(DayOfWeek.WEDNESDAY, ALEX));
+        assertFalse(timetable.hasSessionOn(DayOfWeek.WEDNESDAY, editedAlex));
+        assertEquals(List.of(editedAlex, CHARLOTTE), timetable.getPersonsOn(DayOfWeek.TUESDAY));
+
+        persons.remove(CHARLOTTE);
+        assertEquals(List.of(editedAlex), timetable.getPersonsOn(DayOfWeek.TUESDAY));
+        assertEquals(Collections.emptyList(), timetable.getPersonsOn(DayOfWeek.MONDAY));
+    }
+
+    @Test
+    public void getEarliestStart() {
+        assertEquals(12 * 60, SessionTimetable.getEarliestStart(ALEX, DayOfWeek.MONDAY));
+        assertEquals(9 * 60, SessionTimetable.getEarliestStart(ALEX, DayOfWeek.WEDNESDAY));
+        assertEquals(SessionTimetable.NO_SESSION, SessionTimetable.getEarliestStart(ALEX, DayOfWeek.FRIDAY));
+        assertEquals(SessionTimetable.NO_SESSION, SessionTimetable.getEarliestStart(FIONA, DayOfWeek.MONDAY));
+    }
+
+    @Test
+    public void getSessionsOverlappingAndPeakLoad() {
+        persons.setPersons(List.of(ALEX, BENSON_AT_ONE, BERNICE, CHARLOTTE));
+        assertEquals(List.of(ALEX, BERNICE, BENSON_AT_ONE), timetable.getSessionsOverlapping(DayOfWeek.MONDAY,
+                12 * 60 + 30, 13 * 60 + 30).stream().map(Interval::value).toList());
+        assertTrue(timetable.getSessionsOverlapping(DayOfWeek.MONDAY, 11 * 60, 12 * 60).isEmpty());
+
+        // Alex ends at 1pm as Benson starts, so at most two of the three run at once
+        assertEquals(2, timetable.getPeakLoad(DayOfWeek.MONDAY, 12 * 60, 14 * 60, null));
+        assertEquals(1, timetable.getPeakLoad(DayOfWeek.MONDAY, 12 * 60, 14 * 60, BERNICE));
+        assertEquals(0, timetable.getPeakLoad(DayOfWeek.TUESDAY, 12 * 60, 14 * 60, null));
+    }
+
+    @Test
+    public void getFreeSlots_gapsWithinOpeningHours() {
+        persons.setPersons(List.of(ALEX, BERNICE, CHARLOTTE));
+        Time openingHours = new Time("9am-9pm");
+        assertEquals(List.of(new Time("11am-12pm"), new Time("2pm-5pm"), new Time("6pm-9pm")),
+                timetable.getFreeSlots(DayOfWeek.MONDAY, openingHours, 60));
+        assertEquals(List.of(new Time("2pm-5pm"), new Time("6pm-9pm")),
+                timetable.getFreeSlots(DayOfWeek.MONDAY, openingHours, 90));
+        assertEquals(List.of(new Time("9am-10am"), new Time("11am-9pm")),
+                timetable.getFreeSlots(DayOfWeek.TUESDAY, openingHours, 60));
+        assertEquals(List.of(openingHours), timetable.getFreeSlots(DayOfWeek.SUNDAY, openingHours, 60));
+
+        // Sessions running past the opening hours only leave the gaps inside them
+        assertEquals(List.of(new Time("2pm-5pm")),
+                timetable.getFreeSlots(DayOfWeek.MONDAY, new Time("12:30pm-5:30pm"), 180));
+        assertEquals(Collections.emptyList(),
+                timetable.getFreeSlots(DayOfWeek.MONDAY, new Time("12:30pm-5:30pm"), 181));
+    }
+
+    private static Session session(String day, String time) {
+        return new Session(Day.of(day), new Time(time));
+    }
+}
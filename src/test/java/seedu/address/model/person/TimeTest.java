@@ -1,5 +1,6 @@
 package seedu.address.model.person;
 
+import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static seedu.address.testutil.Assert.assertThrows;
@@ -42,6 +43,11 @@ public class TimeTest {
         assertFalse(Time.isValidTime("11:59pm-12am")); // start time > end time
         assertFalse(Time.isValidTime("9am-8:59am")); // start time > end time
         assertFalse(Time.isValidTime("09:00AM-08:59AM")); // start time > end time
+        assertFalse(Time.isValidTime("1:5pm-2pm")); // single-digit minutes
+        assertFalse(Time.isValidTime("1:60pm-2pm")); // invalid minutes
+        assertFalse(Time.isValidTime("3Pm-4pm")); // mixed-case suffix
+        assertFalse(Time.isValidTime("3pm-")); // missing end time
+        assertFalse(Time.isValidTime("3pm-4pm-5pm")); // extra time
 
         // valid times
         assertTrue(Time.isValidTime("3pm-5pm"));
@@ -49,6 +55,7 @@ public class TimeTest {
         assertTrue(Time.isValidTime("1:30pm-2:45pm"));
         assertTrue(Time.isValidTime("10:00am-12:00pm"));
         assertTrue(Time.isValidTime("9am-11am"));
+        assertTrue(Time.isValidTime("11:59AM-12:01PM"));
     }
 
     @Test
@@ -83,4 +90,48 @@ public class TimeTest {
         Time time = new Time("10am-12pm");
         assertTrue(time.toString().equals("10am-12pm"));
     }
+
+    @Test
+    public void of_minutes_formattedLikeUserInput() {
+        assertEquals(new Time("9am-12pm"), Time.of(9 * 60, 12 * 60));
+        assertEquals(new Time("12am-12:05am"), Time.of(0, 5));
+        assertEquals(new Time("1:30pm-11:59pm"), Time.of(13 * 60 + 30, 24 * 60 - 1));
+
+        Time time = Time.of(9 * 60 + 30, 17 * 60 + 45);
+        assertEquals("9:30am-5:45pm", time.toString());
+        assertEquals(9 * 60 + 30, time.getStartMinutes());
+        assertEquals(17 * 60 + 45, time.getEndMinutes());
+    }
+
+    @Test
+    public void equals_sameRangeWrittenDifferently_returnsTrue() {
+        Time time = new Time("10:00AM-11:30AM");
+        assertEquals(new Time("10am-11:30am"), time);
+        assertEquals(new Time("10am-11:30am").hashCode(), time.hashCode());
+
+        // rendered in the canonical form, whatever was typed
+        assertEquals("10am-11:30am", time.toString());
+    }
+
+    @Test
+    public void of_invalidMinutes_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Time.of(60, 60));
+        assertThrows(IllegalArgumentException.class, () -> Time.of(-1, 60));
+        assertThrows(IllegalArgumentException.class, () -> Time.of(60, 24 * 60));
+    }
+
+    @Test
+    public void ofTrusted_endBeforeStart_skipsCheck() {
+        Time time = Time.ofTrusted("5pm-3pm");
+        assertEquals(17 * 60, time.getStartMinutes());
+        assertEquals(15 * 60, time.getEndMinutes());
+    }
+
+    @Test
+    public void ofTrusted_unreadableTime_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> Time.ofTrusted(""));
+        assertThrows(IllegalArgumentException.class, () -> Time.ofTrusted("3pm"));
+        assertThrows(IllegalArgumentException.class, () -> Time.ofTrusted("13pm-5pm"));
+        assertThrows(IllegalArgumentException.class, () -> Time.ofTrusted("3pm-5:60pm"));
+    }
 }
@@ -22,6 +22,7 @@ import org.junit.jupiter.api.Test;
 
 import seedu.address.model.person.exceptions.DuplicatePersonException;
 import seedu.address.model.person.exceptions.PersonNotFoundException;
+import seedu.address.model.util.SyntheticDataGenerator;
 import seedu.address.testutil.StudentBuilder;
 
 public class UniquePersonListTest {
@@ -52,6 +53,45 @@ public class UniquePersonListTest {
         assertTrue(uniquePersonList.contains(editedAlice));
     }
 
+    @Test
+    public void contains_personWithDifferentNameCase_returnsTrue() {
+        uniquePersonList.add(ALICE);
+        Person upperCaseAlice = new StudentBuilder(ALICE).withName(ALICE.getName().fullName.toUpperCase()).build();
+        assertTrue(uniquePersonList.contains(upperCaseAlice));
+    }
+
+    @Test
+    public void contains_nameEqualOnlyThroughUpperCase_returnsTrue() {
+        // Turkish dotless i and Greek final sigma only match their other forms through upper case
+        Person ilker = new StudentBuilder().withName("Ilker Tan").build();
+        Person sos = new StudentBuilder().withName("\u03a3\u03bf\u03c3 Tan").build();
+        uniquePersonList.add(ilker);
+        uniquePersonList.add(sos);
+
+        Person dotlessIlker = new StudentBuilder().withName("\u0131lker Tan").build();
+        Person finalSigmaSos = new StudentBuilder().withName("\u03c3\u03bf\u03c2 tan").build();
+        assertTrue(ilker.isSamePerson(dotlessIlker));
+        assertTrue(uniquePersonList.contains(dotlessIlker));
+        assertTrue(sos.isSamePerson(finalSigmaSos));
+        assertTrue(uniquePersonList.contains(finalSigmaSos));
+        assertThrows(DuplicatePersonException.class, () -> uniquePersonList.add(dotlessIlker));
+    }
+
+    @Test
+    public void contains_personRemovedFromList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.remove(ALICE);
+        assertFalse(uniquePersonList.contains(ALICE));
+    }
+
+    @Test
+    public void contains_personReplacedInList_returnsFalse() {
+        uniquePersonList.add(ALICE);
+        uniquePersonList.setPerson(ALICE, BOB);
+        assertFalse(uniquePersonList.contains(ALICE));
+        assertTrue(uniquePersonList.contains(BOB));
+    }
+
     @Test
     public void add_nullPerson_throwsNullPointerException() {
         assertThrows(NullPointerException.class, () -> uniquePersonList.add(null));
@@ -193,6 +233,36 @@ public class UniquePersonListTest {
         assertTrue(CHARLES.hasChildName(testStudent2.getName()));
     }
 
+    @Test
+    public void resolveAllParentLinks_parentNameInDifferentCase_linksParent() {
+        Student testStudent = new StudentBuilder(IVAN).withParentName(CHARLES.getName().fullName.toUpperCase())
+                .build();
+        uniquePersonList.add(CHARLES);
+        uniquePersonList.add(testStudent);
+        uniquePersonList.resolveAllParentLinks();
+        assertTrue(CHARLES.hasChild(testStudent));
+        assertEquals(CHARLES, testStudent.getParent());
+    }
+
+    @Test
+    public void resolveAllParentLinks_manyParents_linksEveryStudent() {
+        // Three parents, each with at least one of the seven students
+        List<Person> persons = new SyntheticDataGenerator().withPersonCount(10).generatePersons();
+        uniquePersonList.setPersons(persons);
+
+        uniquePersonList.resolveAllParentLinks();
+        int linkedStudentCount = 0;
+        for (Person person : persons) {
+            if (person instanceof Student student && student.hasParent()) {
+                assertTrue(student.hasLinkedParent());
+                assertEquals(student.getParentName(), student.getParent().getName());
+                assertTrue(student.getParent().hasChild(student));
+                linkedStudentCount++;
+            }
+        }
+        assertTrue(linkedStudentCount >= 3);
+    }
+
     @Test
     public void destroyStudentLinks_existingStudentAndExistingParent_allStudentsAndParentsUnlinked() {
         Student testStudent = new StudentBuilder(IVAN).build();
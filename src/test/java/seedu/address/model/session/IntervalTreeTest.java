@@ -0,0 +1,86 @@
+package seedu.address.model.session;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.session.IntervalTree.Interval;
+
+public class IntervalTreeTest {
+
+    private final IntervalTree<String> tree = new IntervalTree<>();
+
+    @Test
+    public void insert_emptyInterval_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> tree.insert(60, 60, "a"));
+    }
+
+    @Test
+    public void findOverlapping_halfOpenIntervals_returnsOverlapsInStartOrder() {
+        tree.insert(600, 660, "b");
+        tree.insert(540, 600, "a");
+        tree.insert(630, 720, "c");
+        tree.insert(630, 720, "d");
+
+        assertEquals(List.of(new Interval<>(600, 660, "b")), tree.findOverlapping(600, 630));
+        assertEquals(List.of(new Interval<>(540, 600, "a"), new Interval<>(600, 660, "b"),
+                new Interval<>(630, 720, "c"), new Interval<>(630, 720, "d")), tree.findOverlapping(0, 1440));
+        assertTrue(tree.findOverlapping(720, 780).isEmpty());
+        assertTrue(tree.findOverlapping(480, 540).isEmpty());
+    }
+
+    @Test
+    public void remove_sameIntervalDifferentValues_removesOnlyThatValue() {
+        String value = new String("a");
+        tree.insert(60, 120, value);
+        tree.insert(60, 120, "a");
+
+        assertFalse(tree.remove(60, 120, "b"));
+        assertFalse(tree.remove(60, 90, value));
+        assertTrue(tree.remove(60, 120, value));
+        assertEquals(1, tree.size());
+        assertEquals(1, tree.findOverlapping(0, 1440).size());
+        assertFalse(tree.remove(60, 120, value));
+    }
+
+    @Test
+    public void findOverlapping_randomInsertsAndRemoves_sameAsScan() {
+        Random random = new Random(16);
+        List<Interval<String>> intervals = new ArrayList<>();
+        for (int i = 0; i < 2000; i++) {
+            if (!intervals.isEmpty() && random.nextInt(3) == 0) {
+                Interval<String> removed = intervals.remove(random.nextInt(intervals.size()));
+                assertTrue(tree.remove(removed.start(), removed.end(), removed.value()));
+            } else {
+                int start = random.nextInt(1400);
+                Interval<String> added = new Interval<>(start, start + 1 + random.nextInt(180), "v" + i);
+                tree.insert(added.start(), added.end(), added.value());
+                intervals.add(added);
+            }
+
+            int queryStart = random.nextInt(1400);
+            int queryEnd = queryStart + 1 + random.nextInt(120);
+            List<Interval<String>> expected = new ArrayList<>();
+            for (Interval<String> interval : intervals) {
+                if (interval.start() < queryEnd && queryStart < interval.end()) {
+                    expected.add(interval);
+                }
+            }
+            Comparator<Interval<String>> byInterval = Comparator.<Interval<String>>comparingInt(Interval::start)
+                    .thenComparingInt(Interval::end).thenComparing(Interval::value);
+            expected.sort(byInterval);
+            List<Interval<String>> actual = tree.findOverlapping(queryStart, queryEnd);
+            actual.sort(byInterval);
+            assertEquals(expected, actual);
+            assertEquals(intervals.size(), tree.size());
+        }
+    }
+}
@@ -0,0 +1,79 @@
+package seedu.address.model.util;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.testutil.Assert.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.person.Parent;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+
+public class SyntheticDataGeneratorTest {
+
+    @Test
+    public void generate_sameSeed_sameAddressBook() {
+        AddressBook first = new SyntheticDataGenerator().withPersonCount(500).withSeed(7).generate();
+        AddressBook second = new SyntheticDataGenerator().withPersonCount(500).withSeed(7).generate();
+        assertEquals(first, second);
+        assertEquals(first.getPersonList().toString(), second.getPersonList().toString());
+    }
+
+    @Test
+    public void generate_differentSeed_differentAddressBook() {
+        AddressBook first = new SyntheticDataGenerator().withPersonCount(500).withSeed(7).generate();
+        AddressBook second = new SyntheticDataGenerator().withPersonCount(500).withSeed(8).generate();
+        assertNotEquals(first, second);
+    }
+
+    @Test
+    public void generate_defaultSettings_realisticBook() {
+        List<Person> persons = new SyntheticDataGenerator().withPersonCount(10_000).generate().getPersonList();
+        assertEquals(10_000, persons.size());
+
+        int parentCount = 0;
+        int linkedStudentCount = 0;
+        int sessionCount = 0;
+        for (Person person : persons) {
+            if (person instanceof Parent parent) {
+                parentCount++;
+                assertTrue(parent.hasChildren());
+            } else {
+                Student student = (Student) person;
+                if (student.getParentName() != null) {
+                    linkedStudentCount++;
+                    assertTrue(student.hasLinkedParent());
+                }
+                sessionCount += student.getSessions().size();
+            }
+        }
+
+        int studentCount = persons.size() - parentCount;
+        double childrenPerParent = (double) linkedStudentCount / parentCount;
+        double sessionsPerStudent = (double) sessionCount / studentCount;
+        assertEquals(SyntheticDataGenerator.DEFAULT_CHILDREN_PER_PARENT, childrenPerParent, 0.05);
+        assertEquals(SyntheticDataGenerator.DEFAULT_LINKED_STUDENT_SHARE,
+                (double) linkedStudentCount / studentCount, 0.05);
+        assertEquals(SyntheticDataGenerator.DEFAULT_SESSIONS_PER_STUDENT, sessionsPerStudent, 0.05);
+    }
+
+    @Test
+    public void generate_noPersons_emptyBook() {
+        assertEquals(0, new SyntheticDataGenerator().withPersonCount(0).generate().getPersonList().size());
+    }
+
+    @Test
+    public void withPersonCount_negative_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator().withPersonCount(-1));
+    }
+
+    @Test
+    public void withLinkedStudentShare_outOfRange_throwsIllegalArgumentException() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticDataGenerator().withLinkedStudentShare(1.5));
+    }
+}
@@ -0,0 +1,201 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Student;
+
+public class BinaryAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        Path filePath = testFolder.resolve("NonExistentFile.bin");
+        assertFalse(new BinaryAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        binaryAddressBookStorage.saveAddressBook(original);
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList().toString(), readBack.getPersonList().toString());
+
+        original.addPerson(HOON);
+        original.removePerson(ALICE);
+        original.addPerson(IDA);
+        binaryAddressBookStorage.saveAddressBook(original);
+        readBack = binaryAddressBookStorage.readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList().toString(), readBack.getPersonList().toString());
+    }
+
+    @Test
+    public void readAddressBook_repeatedTags_sharesTagObjects() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+
+        // Alice and Daniel are both tagged math
+        ReadOnlyAddressBook readBack = binaryAddressBookStorage.readAddressBook().get();
+        Student alice = (Student) readBack.getPersonList().get(0);
+        Student daniel = (Student) readBack.getPersonList().get(3);
+        assertSame(alice.getTags().iterator().next(), daniel.getTags().iterator().next());
+    }
+
+    @Test
+    public void getBinaryFilePath() {
+        assertEquals(Path.of("data", "addressbook.bin"),
+                BinaryAddressBookStorage.getBinaryFilePath(Path.of("data", "addressbook.json")));
+        assertEquals(Path.of("addressbook.bin"), BinaryAddressBookStorage.getBinaryFilePath(Path.of("addressbook")));
+    }
+
+    @Test
+    public void readAddressBook_missingFileWithJsonFile_importsJsonUntilSaved() throws Exception {
+        Path jsonFilePath = testFolder.resolve("TempAddressBook.json");
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        AddressBook original = getTypicalAddressBook();
+        new JsonAddressBookStorage(jsonFilePath).saveAddressBook(original);
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath, jsonFilePath);
+
+        assertEquals(original, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+
+        original.addPerson(HOON);
+        binaryAddressBookStorage.saveAddressBook(original);
+        assertEquals(original, new AddressBook(binaryAddressBookStorage.readAddressBook().get()));
+        assertFalse(new JsonAddressBookStorage(jsonFilePath).readAddressBook().get().getPersonList().contains(HOON));
+    }
+
+    @Test
+    public void readAddressBook_jsonFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.json");
+        new JsonAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_unsupportedVersion_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION + 1);
+        }
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_truncatedFile_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        new BinaryAddressBookStorage(filePath).saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+        Files.write(filePath, Arrays.copyOf(bytes, bytes.length / 2));
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_invalidCountsOrLengths_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+
+        // negative string count
+        writeBinaryFile(filePath, -1);
+        assertThrows(DataLoadingException.class, binaryAddressBookStorage::readAddressBook);
+
+        // more strings than the file can hold
+        writeBinaryFile(filePath, Integer.MAX_VALUE);
+        assertThrows(DataLoadingException.class, binaryAddressBookStorage::readAddressBook);
+
+        // negative string length
+        writeBinaryFile(filePath, 1, -1);
+        assertThrows(DataLoadingException.class, binaryAddressBookStorage::readAddressBook);
+
+        // string longer than the rest of the file
+        writeBinaryFile(filePath, 1, Integer.MAX_VALUE, 0);
+        assertThrows(DataLoadingException.class, binaryAddressBookStorage::readAddressBook);
+
+        // negative person count
+        writeBinaryFile(filePath, 0, -1);
+        assertThrows(DataLoadingException.class, binaryAddressBookStorage::readAddressBook);
+    }
+
+    @Test
+    public void readAddressBook_missingString_throwsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+            out.writeInt(0); // no strings
+            out.writeInt(1); // one person
+            out.writeByte(0); // a parent
+            out.writeInt(7); // whose name is a string that is not in the table
+        }
+
+        assertThrows(DataLoadingException.class, () -> new BinaryAddressBookStorage(filePath).readAddressBook());
+    }
+
+    @Test
+    public void readAddressBook_corruptedFile_loadsOrThrowsDataLoadingException() throws Exception {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        BinaryAddressBookStorage binaryAddressBookStorage = new BinaryAddressBookStorage(filePath);
+        binaryAddressBookStorage.saveAddressBook(getTypicalAddressBook());
+        byte[] bytes = Files.readAllBytes(filePath);
+
+        // Damage one byte at a time, after the magic number so that the file is still read as binary
+        for (int i = Integer.BYTES; i < bytes.length; i++) {
+            byte[] corrupted = bytes.clone();
+            corrupted[i] = (byte) ~corrupted[i];
+            Files.write(filePath, corrupted);
+            try {
+                binaryAddressBookStorage.readAddressBook();
+            } catch (DataLoadingException e) {
+                // expected for most damaged bytes
+            }
+        }
+    }
+
+    /**
+     * Writes a binary data file made of the header followed by {@code body}.
+     */
+    private static void writeBinaryFile(Path filePath, int... body) throws IOException {
+        try (DataOutputStream out = new DataOutputStream(Files.newOutputStream(filePath))) {
+            out.writeInt(BinaryAddressBookStorage.MAGIC);
+            out.writeInt(BinaryAddressBookStorage.FORMAT_VERSION);
+            for (int value : body) {
+                out.writeInt(value);
+            }
+        }
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        Path filePath = testFolder.resolve("TempAddressBook.bin");
+        assertThrows(NullPointerException.class, () -> new BinaryAddressBookStorage(filePath).saveAddressBook(null));
+    }
+}
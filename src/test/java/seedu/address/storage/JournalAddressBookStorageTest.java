@@ -0,0 +1,147 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.CARL;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.IDA;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.commons.exceptions.DataLoadingException;
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class JournalAddressBookStorageTest {
+
+    @TempDir
+    public Path testFolder;
+
+    private Path filePath;
+    private Path journalPath;
+
+    @BeforeEach
+    public void setUp() {
+        filePath = testFolder.resolve("TempAddressBook.json");
+        journalPath = JournalAddressBookStorage.getJournalFilePath(filePath);
+    }
+
+    @Test
+    public void read_missingFile_emptyResult() throws Exception {
+        assertFalse(new JournalAddressBookStorage(filePath).readAddressBook().isPresent());
+    }
+
+    @Test
+    public void readAndSaveAddressBook_allInOrder_success() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        // First save writes a snapshot and an empty journal
+        storage.saveAddressBook(original);
+        assertEquals(1, countJournalLines());
+        assertEquals(original, new AddressBook(storage.readAddressBook().get()));
+
+        // Each change appends a single record
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        Student editedAlice = new StudentBuilder(ALICE).withPhone("91234567").build();
+        original.setPerson(ALICE, editedAlice);
+        storage.saveAddressBook(original);
+        original.removePerson(CARL);
+        storage.saveAddressBook(original);
+        assertEquals(4, countJournalLines());
+
+        ReadOnlyAddressBook readBack = new JournalAddressBookStorage(filePath).readAddressBook().get();
+        assertEquals(original, new AddressBook(readBack));
+        assertEquals(original.getPersonList().toString(), readBack.getPersonList().toString());
+    }
+
+    @Test
+    public void saveAddressBook_noChanges_appendsNothing() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+
+        storage.saveAddressBook(original);
+        storage.saveAddressBook(original);
+        assertEquals(1, countJournalLines());
+    }
+
+    @Test
+    public void saveAddressBook_pastCompactionThreshold_compactsJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath, 2);
+
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+        original.addPerson(IDA);
+        storage.saveAddressBook(original);
+        assertEquals(3, countJournalLines());
+
+        original.removePerson(HOON);
+        storage.saveAddressBook(original);
+        assertEquals(1, countJournalLines());
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_journalForOlderSnapshot_ignoresJournal() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        // Replace the snapshot without touching the journal, as an interrupted compaction would
+        AddressBook replacement = new AddressBook();
+        replacement.addPerson(IDA);
+        new JsonAddressBookStorage(filePath).saveAddressBook(replacement);
+
+        assertEquals(replacement, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_incompleteLastRecord_skipsRecord() throws Exception {
+        AddressBook original = getTypicalAddressBook();
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(original);
+        original.addPerson(HOON);
+        storage.saveAddressBook(original);
+
+        Files.writeString(journalPath, "{\"op\":\"insert\",\"ind", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertEquals(original, new AddressBook(new JournalAddressBookStorage(filePath).readAddressBook().get()));
+    }
+
+    @Test
+    public void readAddressBook_recordOutOfRange_throwsDataLoadingException() throws Exception {
+        JournalAddressBookStorage storage = new JournalAddressBookStorage(filePath);
+        storage.saveAddressBook(getTypicalAddressBook());
+
+        Files.writeString(journalPath, "{\"op\":\"remove\",\"index\":99}" + System.lineSeparator(),
+                StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        assertThrows(DataLoadingException.class, storage::readAddressBook);
+    }
+
+    @Test
+    public void saveAddressBook_nullAddressBook_throwsNullPointerException() {
+        assertThrows(NullPointerException.class, () -> new JournalAddressBookStorage(filePath).saveAddressBook(null));
+    }
+
+    private int countJournalLines() throws Exception {
+        return Files.readAllLines(journalPath, StandardCharsets.UTF_8).size();
+    }
+}
@@ -70,6 +70,13 @@ public class JsonAdaptedPersonTest {
         assertThrows(IllegalValueException.class, expectedMessage, person::toModelType);
     }
 
+    @Test
+    public void toModelType_trustedInvalidPhone_returnsPerson() throws Exception {
+        JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, INVALID_PHONE, VALID_ADDRESS,
+                VALID_ROLE, VALID_REMARK, VALID_PARENT_NAME, VALID_TAGS, VALID_SESSION);
+        assertEquals(INVALID_PHONE, person.toModelType(true).getPhone().value);
+    }
+
     @Test
     public void toModelType_nullPhone_throwsIllegalValueException() {
         JsonAdaptedPerson person = new JsonAdaptedPerson(VALID_NAME, null, VALID_ADDRESS,
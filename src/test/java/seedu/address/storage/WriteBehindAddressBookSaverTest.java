@@ -0,0 +1,146 @@
+package seedu.address.storage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_BOB;
+import static seedu.address.logic.commands.CommandTestUtil.VALID_NAME_CHARLES;
+import static seedu.address.testutil.Assert.assertThrows;
+import static seedu.address.testutil.TypicalPersons.ALICE;
+import static seedu.address.testutil.TypicalPersons.HOON;
+import static seedu.address.testutil.TypicalPersons.getTypicalAddressBook;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import seedu.address.model.AddressBook;
+import seedu.address.model.ReadOnlyAddressBook;
+import seedu.address.model.person.Name;
+import seedu.address.model.person.Person;
+import seedu.address.model.person.Student;
+import seedu.address.testutil.StudentBuilder;
+
+public class WriteBehindAddressBookSaverTest {
+
+    @TempDir
+    public Path testFolder;
+
+    @Test
+    public void flush_burstOfRequests_savesLatestStateOnce() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                saveCount.incrementAndGet();
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, 60_000);
+
+        AddressBook original = getTypicalAddressBook();
+        for (int i = 0; i < 10; i++) {
+            saver.requestSave(original);
+        }
+        original.addPerson(HOON);
+        saver.requestSave(original);
+        original.removePerson(ALICE);
+        saver.flush();
+
+        assertEquals(1, saveCount.get());
+        ReadOnlyAddressBook saved = storage.readAddressBook().get();
+        assertTrue(saved.getPersonList().contains(HOON));
+        assertTrue(saved.getPersonList().contains(ALICE));
+    }
+
+    @Test
+    public void flush_storageThrows_throwsIoException() {
+        IOException failure = new IOException("dummy IO exception");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                throw failure;
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, 0);
+
+        saver.requestSave(getTypicalAddressBook());
+        assertThrows(IOException.class, failure.getMessage(), saver::flush);
+    }
+
+    @Test
+    public void flush_failureFollowedBySuccess_reportsBothAndDoesNotThrow() throws Exception {
+        IOException failure = new IOException("dummy IO exception");
+        AtomicInteger saveCount = new AtomicInteger();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) throws IOException {
+                if (saveCount.incrementAndGet() == 1) {
+                    throw failure;
+                }
+                super.saveAddressBook(addressBook, filePath);
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, 0);
+        List<Optional<IOException>> outcomes = new ArrayList<>();
+        saver.setSaveListener(outcomes::add);
+
+        saver.requestSave(getTypicalAddressBook());
+        assertThrows(IOException.class, failure.getMessage(), saver::flush);
+        saver.requestSave(getTypicalAddressBook());
+        saver.flush();
+
+        assertEquals(List.of(Optional.of(failure), Optional.empty()), outcomes);
+    }
+
+    @Test
+    public void flush_parentNameChangedAfterRequest_savesParentNameAtRequest() throws Exception {
+        Path filePath = testFolder.resolve("addressbook.json");
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(filePath);
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, 60_000);
+        Student student = new StudentBuilder().withParentName(VALID_NAME_CHARLES).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(student);
+
+        saver.requestSave(addressBook);
+        student.setParentName(new Name(VALID_NAME_BOB));
+        saver.flush();
+
+        Student saved = (Student) storage.readAddressBook().get().getPersonList().get(0);
+        assertEquals(new Name(VALID_NAME_CHARLES), saved.getParentName());
+    }
+
+    @Test
+    public void requestSave_studentUnchanged_reusesCopyUntilParentNameChanges() throws Exception {
+        List<List<Person>> savedPersonLists = new ArrayList<>();
+        JsonAddressBookStorage storage = new JsonAddressBookStorage(testFolder.resolve("addressbook.json")) {
+            @Override
+            public void saveAddressBook(ReadOnlyAddressBook addressBook, Path filePath) {
+                savedPersonLists.add(List.copyOf(addressBook.getPersonList()));
+            }
+        };
+        WriteBehindAddressBookSaver saver = new WriteBehindAddressBookSaver(storage, 60_000);
+        Student student = new StudentBuilder().withParentName(VALID_NAME_CHARLES).build();
+        AddressBook addressBook = new AddressBook();
+        addressBook.addPerson(student);
+
+        saver.requestSave(addressBook);
+        saver.flush();
+        saver.requestSave(addressBook);
+        saver.flush();
+        student.setParentName(null);
+        saver.requestSave(addressBook);
+        saver.flush();
+
+        assertSame(savedPersonLists.get(0).get(0), savedPersonLists.get(1).get(0));
+        assertNotSame(savedPersonLists.get(1).get(0), savedPersonLists.get(2).get(0));
+    }
+}
@@ -42,26 +42,26 @@ public class TypicalPersons {
             .withPhone("94351253")
             .withRemark("She likes Math.")
             .withTags("math")
-            .withSessions(new Session(new Day("Mon"), new Time("12pm-3pm"))).build();
+            .withSessions(new Session(Day.of("Mon"), new Time("12pm-3pm"))).build();
     public static final Student BENSON = new StudentBuilder().withName("Benson Meier")
             .withAddress("311, Clementi Ave 2, #02-25")
             .withPhone("98765432")
             .withRemark("He likes alcohol.")
             .withTags("science")
-            .withSessions(new Session(new Day("Mon"), new Time("12pm-3pm"))).build();
+            .withSessions(new Session(Day.of("Mon"), new Time("12pm-3pm"))).build();
     public static final Student CARL = new StudentBuilder().withName("Carl Kurz")
             .withPhone("95352563")
             .withAddress("wall street, Singapore 678901")
-            .withSessions(new Session(new Day("Mon"), new Time("12pm-3pm"))).build();
+            .withSessions(new Session(Day.of("Mon"), new Time("12pm-3pm"))).build();
     public static final Student DANIEL = new StudentBuilder().withName("Daniel Meier")
             .withPhone("87652533")
             .withAddress("10th street, Singapore 654321")
             .withTags("math")
-            .withSessions(new Session(new Day("Mon"), new Time("12pm-3pm"))).build();
+            .withSessions(new Session(Day.of("Mon"), new Time("12pm-3pm"))).build();
     public static final Student ELLE = new StudentBuilder().withName("Elle Meyer")
             .withPhone("94822245")
             .withAddress("michegan ave, City Hall, Singapore")
-            .withSessions(new Session(new Day("Mon"), new Time("12pm-3pm"))).build();
+            .withSessions(new Session(Day.of("Mon"), new Time("12pm-3pm"))).build();
     public static final Parent FIONA = new ParentBuilder()
             .withName("Fiona Kunz")
             .withPhone("94824276")
@@ -75,7 +75,7 @@ public class TypicalPersons {
     public static final Student HOON = new StudentBuilder().withName("Hoon Meier")
             .withPhone("84824243")
             .withAddress("little india, Downtown Line, SMRT, Singapore")
-            .withSessions(new Session(new Day("Mon"), new Time("12pm-3pm"))).build();
+            .withSessions(new Session(Day.of("Mon"), new Time("12pm-3pm"))).build();
     public static final Parent IDA = new ParentBuilder().withName("Ida Mueller")
             .withPhone("84821310")
             .withAddress("chicago ave, East West Line, SBS, Singapore").build();